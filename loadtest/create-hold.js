@@ -0,0 +1,44 @@
+// k6 load test for POST /api/holds. Run the same script against the servlet stack (default profile)
+// and the reactive stack (SPRING_PROFILES_ACTIVE=reactive) and compare the summaries:
+//   k6 run -e BASE_URL=http://localhost:8081 -e RATE=2000 loadtest/create-hold.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const RATE = parseInt(__ENV.RATE || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    createHold: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(100, RATE),
+      maxVUs: Math.max(1000, RATE * 10),
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(99)<500'],
+  },
+};
+
+export default function () {
+  // Unique transaction ids per iteration; a fixed share of retries exercises idempotency
+  const transactionId = __ITER % 10 === 0 && __ITER > 0
+    ? (__VU * 1000000) + __ITER - 1
+    : (__VU * 1000000) + __ITER;
+  const body = JSON.stringify({
+    transactionId: transactionId,
+    issuerAccountId: 1 + (__ITER % 500),
+    merchantAccountId: 10000 + (__VU % 50),
+    amount: 25.0,
+    currency: 'USD',
+  });
+  const res = http.post(`${BASE_URL}/api/holds`, body, {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  check(res, { 'hold created': (r) => r.status === 201 });
+}
@@ -0,0 +1,61 @@
+package com.creditx.hold.benchmark;
+
+import com.creditx.hold.util.MinorUnits;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Amount handling on the {@code createHold} path: parse the request amount from the JSON
+ * parser's character buffer, run the fraud limit check, and format the amount for the outbox
+ * payload. {@code bigDecimal} is the previous implementation, {@code minorUnits} the current one.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmountHandlingBenchmark {
+
+  private static final long FRAUD_LIMIT = 1_000_000L;
+
+  @Param({"100.00", "9999.99", "1234567.89"})
+  private String amount;
+
+  private char[] json;
+  private char[] output;
+
+  @Setup
+  public void setup() {
+    json = amount.toCharArray();
+    output = new char[24];
+  }
+
+  @Benchmark
+  public void bigDecimal(Blackhole blackhole) {
+    BigDecimal value = new BigDecimal(json, 0, json.length);
+    blackhole.consume(value.compareTo(new BigDecimal("10000.00")) > 0);
+    blackhole.consume(value.toPlainString());
+  }
+
+  @Benchmark
+  public void minorUnits(Blackhole blackhole) {
+    long value = MinorUnits.parse(json, 0, json.length);
+    blackhole.consume(value > FRAUD_LIMIT);
+    blackhole.consume(MinorUnits.format(value, output));
+    blackhole.consume(output);
+  }
+}
@@ -0,0 +1,74 @@
+package com.creditx.hold.benchmark;
+
+import com.creditx.hold.fraud.scoring.BatchScorer;
+import com.creditx.hold.fraud.scoring.BatchScorers;
+import com.creditx.hold.fraud.scoring.FeatureBatch;
+import com.creditx.hold.fraud.scoring.LinearRuleSet;
+import com.creditx.hold.fraud.scoring.ScalarBatchScorer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and Vector API fraud scorers on batches of hold requests with the four
+ * features the service scores (amount, pair attempts, issuer fan-out, merchant fan-in).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchScoringBenchmark {
+
+  private static final LinearRuleSet RULES = new LinearRuleSet(
+      new double[]{1.0, 1.0, 1.0, 1.0}, 0, 2.5);
+
+  @Param({"16", "64", "256", "1024"})
+  private int batchSize;
+
+  private FeatureBatch batch;
+  private double[] scores;
+  private boolean[] rejected;
+  private BatchScorer scalar;
+  private BatchScorer vector;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    batch = new FeatureBatch(4, batchSize);
+    for (int f = 0; f < 4; f++) {
+      for (int i = 0; i < batchSize; i++) {
+        batch.set(f, i, random.nextDouble());
+      }
+    }
+    scores = new double[batchSize];
+    rejected = new boolean[batchSize];
+    scalar = new ScalarBatchScorer();
+    vector = BatchScorers.best();
+    if (!vector.name().startsWith("vector")) {
+      throw new IllegalStateException("Vector API not enabled in the benchmark JVM");
+    }
+  }
+
+  @Benchmark
+  public int scalar() {
+    return scalar.score(batch, RULES, scores, rejected);
+  }
+
+  @Benchmark
+  public int vector() {
+    return vector.score(batch, RULES, scores, rejected);
+  }
+}
@@ -0,0 +1,102 @@
+package com.creditx.hold.benchmark;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the platform-thread and virtual-thread execution models for the service's typical
+ * workload: a burst of requests that each spend most of their time blocked on JDBC.
+ *
+ * <p>Each invocation submits {@code requests} tasks and waits for all of them. A task takes a
+ * {@link DatabaseConcurrencyLimiter} permit (sized like the connection pool), blocks for
+ * {@code dbLatencyMicros} to stand in for an Oracle round trip, then does a little CPU work. The
+ * platform model runs on a fixed pool the size of Tomcat's default worker pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+  private static final int TOMCAT_MAX_THREADS = 200;
+
+  @Param({"200", "1000", "5000"})
+  private int requests;
+
+  @Param({"10"})
+  private int connectionPoolSize;
+
+  @Param({"500"})
+  private int dbLatencyMicros;
+
+  private ExecutorService platformThreads;
+  private ExecutorService virtualThreads;
+  private DatabaseConcurrencyLimiter limiter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    platformThreads = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    limiter = new DatabaseConcurrencyLimiter(connectionPoolSize, 60_000, new SimpleMeterRegistry());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    platformThreads.shutdownNow();
+    virtualThreads.shutdownNow();
+  }
+
+  @Benchmark
+  public long platformThreads() throws Exception {
+    return runBurst(platformThreads);
+  }
+
+  @Benchmark
+  public long virtualThreads() throws Exception {
+    return runBurst(virtualThreads);
+  }
+
+  private long runBurst(ExecutorService executor) throws Exception {
+    List<Future<Long>> results = new ArrayList<>(requests);
+    for (int i = 0; i < requests; i++) {
+      long seed = i;
+      results.add(executor.submit(() -> limiter.call(() -> handleRequest(seed))));
+    }
+    long sum = 0;
+    for (Future<Long> result : results) {
+      sum += result.get();
+    }
+    return sum;
+  }
+
+  private long handleRequest(long seed) {
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+    long x = seed;
+    for (int i = 0; i < 100; i++) {
+      x = x * 6364136223846793005L + 1442695040888963407L;
+    }
+    return x;
+  }
+}
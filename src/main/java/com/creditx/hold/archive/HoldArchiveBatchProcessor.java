@@ -0,0 +1,63 @@
+package com.creditx.hold.archive;
+
+import com.creditx.hold.repository.HoldHistoryRepository;
+import com.creditx.hold.repository.HoldRepository;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves one batch of terminal holds to CHS_HOLDS_HISTORY in its own transaction: locks the rows,
+ * copies them with one INSERT ... SELECT and deletes them with one DELETE. Holds whose rows are
+ * locked by a concurrent transition are skipped and picked up by a later run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldArchiveBatchProcessor {
+
+  private final HoldRepository holdRepository;
+  private final HoldHistoryRepository holdHistoryRepository;
+
+  /**
+   * Archive up to {@code limit} holds in a terminal status last updated before {@code cutoff}.
+   *
+   * @return the number of holds archived
+   */
+  @Transactional(TxType.REQUIRES_NEW)
+  public int archive(Instant cutoff, int limit) {
+    List<Long> holdIds = holdRepository.lockArchivable(cutoff, limit).stream()
+        .map(Number::longValue).toList();
+    if (holdIds.isEmpty()) {
+      return 0;
+    }
+    int copied = holdHistoryRepository.copyFromHolds(holdIds);
+    int deleted = holdRepository.deleteByHoldIdIn(holdIds);
+    if (copied != holdIds.size() || deleted != holdIds.size()) {
+      // Rolls the batch back rather than losing or duplicating a hold
+      throw new IllegalStateException("Archived " + copied + " and deleted " + deleted
+          + " of " + holdIds.size() + " locked holds");
+    }
+    log.debug("Archived {} holds last updated before {}", holdIds.size(), cutoff);
+    return holdIds.size();
+  }
+
+  /**
+   * Archive whole days of terminal holds ending before {@code cutoff} by partition exchange. Days
+   * that still have an AUTHORIZED hold are left to {@link #archive(Instant, int)}. Runs outside any
+   * transaction: the procedure commits as it goes and its exchange and drop DDL commit implicitly,
+   * which no transaction manager could roll back.
+   *
+   * @return the number of holds archived, 0 when CHS_HOLDS is not partitioned
+   */
+  @Transactional(TxType.NOT_SUPPORTED)
+  public int archivePartitions(Instant cutoff) {
+    int archived = holdHistoryRepository.archivePartitions(cutoff);
+    log.debug("Archived {} holds by partition exchange up to {}", archived, cutoff);
+    return archived;
+  }
+}
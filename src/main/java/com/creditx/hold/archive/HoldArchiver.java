@@ -0,0 +1,72 @@
+package com.creditx.hold.archive;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps CHS_HOLDS proportional to open holds by moving CAPTURED, VOIDED and EXPIRED holds last
+ * updated more than {@code app.hold.archive.retention-ms} ago to CHS_HOLDS_HISTORY, in batches of
+ * {@code app.hold.archive.batch-size}. Each batch takes a database permit and commits on its own,
+ * so a run holds no long transaction and API traffic interleaves between batches.
+ *
+ * <p>When CHS_HOLDS is partitioned by day of expiry (V9), whole days ending before the cutoff are
+ * first archived by partition exchange. The row batches then only pick up what is left, such as
+ * holds of days that still have an open one.
+ */
+@Component
+@Slf4j
+public class HoldArchiver {
+
+  private final HoldArchiveBatchProcessor holdArchiveBatchProcessor;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final Duration retention;
+  private final int batchSize;
+  private final Timer batchTimer;
+  private final Counter archivedCounter;
+
+  public HoldArchiver(HoldArchiveBatchProcessor holdArchiveBatchProcessor,
+      DatabaseConcurrencyLimiter databaseConcurrencyLimiter,
+      @Value("${app.hold.archive.retention-ms:2592000000}") long retentionMs,
+      @Value("${app.hold.archive.batch-size:500}") int batchSize,
+      MeterRegistry meterRegistry) {
+    this.holdArchiveBatchProcessor = holdArchiveBatchProcessor;
+    this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+    this.retention = Duration.ofMillis(retentionMs);
+    this.batchSize = batchSize;
+    this.batchTimer = Timer.builder("hold.archive.batch.duration")
+        .description("Latency of one archive batch transaction, including commit")
+        .register(meterRegistry);
+    this.archivedCounter = Counter.builder("hold.archive.holds")
+        .description("Holds moved to the history table").register(meterRegistry);
+  }
+
+  /**
+   * Archive every eligible hold, batch by batch, until a batch comes back short.
+   *
+   * @return the number of holds archived
+   */
+  public long archive() {
+    Instant cutoff = Instant.now().minus(retention);
+    long archived = databaseConcurrencyLimiter.call(
+        () -> holdArchiveBatchProcessor.archivePartitions(cutoff));
+    archivedCounter.increment(archived);
+    int batch;
+    do {
+      long start = System.nanoTime();
+      batch = databaseConcurrencyLimiter.call(
+          () -> holdArchiveBatchProcessor.archive(cutoff, batchSize));
+      batchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      archivedCounter.increment(batch);
+      archived += batch;
+    } while (batch == batchSize && !Thread.currentThread().isInterrupted());
+    log.info("Archived {} holds last updated before {}", archived, cutoff);
+    return archived;
+  }
+}
@@ -0,0 +1,120 @@
+package com.creditx.hold.cache;
+
+import com.creditx.hold.model.AccountRiskProfile;
+import com.creditx.hold.repository.AccountRiskProfileRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of account risk profiles for the createHold pre-checks.
+ *
+ * <p>Concurrent misses for one account share a single load. Entries are reloaded in the background
+ * once they are older than the refresh interval, so hot accounts keep being served from memory
+ * while the reload runs. Accounts without a profile are cached as empty for a shorter time, so
+ * unknown ids do not reach the database on every request. Loads run on virtual threads, not on the
+ * request's thread, so callers can stop waiting without cancelling a load that others share. They
+ * do not take a database permit: they run on behalf of createHold calls that already hold one, and
+ * waiting for a second permit could deadlock them once the permits run out.
+ */
+@Component
+@Slf4j
+public class AccountRiskProfileCache {
+
+  private final AccountRiskProfileRepository accountRiskProfileRepository;
+  private final AsyncLoadingCache<Long, Optional<AccountRiskProfile>> profiles;
+  private final Timer foundLoads;
+  private final Timer missingLoads;
+  private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public AccountRiskProfileCache(AccountRiskProfileRepository accountRiskProfileRepository,
+      @Value("${app.fraud.risk-profile-cache.maximum-size:100000}") long maximumSize,
+      @Value("${app.fraud.risk-profile-cache.expire-after-write-ms:600000}") long expireAfterWriteMs,
+      @Value("${app.fraud.risk-profile-cache.refresh-after-write-ms:300000}") long refreshAfterWriteMs,
+      @Value("${app.fraud.risk-profile-cache.negative-ttl-ms:60000}") long negativeTtlMs,
+      MeterRegistry meterRegistry) {
+    this.accountRiskProfileRepository = accountRiskProfileRepository;
+    this.foundLoads = Timer.builder("account.risk.profile.load").tag("result", "found")
+        .description("Latency of account risk profile loads").register(meterRegistry);
+    this.missingLoads = Timer.builder("account.risk.profile.load").tag("result", "missing")
+        .description("Latency of account risk profile loads").register(meterRegistry);
+    this.profiles = Caffeine.newBuilder().maximumSize(maximumSize)
+        .expireAfter(new ProfileExpiry(Duration.ofMillis(expireAfterWriteMs),
+            Duration.ofMillis(negativeTtlMs)))
+        .refreshAfterWrite(Duration.ofMillis(refreshAfterWriteMs)).executor(loadExecutor)
+        .recordStats().buildAsync(this::load);
+    CaffeineCacheMetrics.monitor(meterRegistry, profiles.synchronous(), "accountRiskProfiles");
+  }
+
+  @PreDestroy
+  void shutdown() {
+    loadExecutor.shutdownNow();
+  }
+
+  /**
+   * The profile of an account, completing empty when the account has none.
+   */
+  public CompletableFuture<Optional<AccountRiskProfile>> get(Long accountId) {
+    return profiles.get(accountId);
+  }
+
+  /**
+   * The profile of an account if it is cached or being loaded, without starting a load.
+   *
+   * @return null when the account is not in the cache
+   */
+  public CompletableFuture<Optional<AccountRiskProfile>> getIfPresent(Long accountId) {
+    return profiles.getIfPresent(accountId);
+  }
+
+  /**
+   * Drop an account's entry, e.g. after its profile was changed.
+   */
+  public void invalidate(Long accountId) {
+    profiles.synchronous().invalidate(accountId);
+  }
+
+  private Optional<AccountRiskProfile> load(Long accountId) {
+    long start = System.nanoTime();
+    Optional<AccountRiskProfile> profile = accountRiskProfileRepository.findById(accountId);
+    (profile.isPresent() ? foundLoads : missingLoads).record(Duration.ofNanos(
+        System.nanoTime() - start));
+    log.debug("Loaded risk profile for account {}: {}", accountId,
+        profile.map(p -> p.getRiskTier().name()).orElse("none"));
+    return profile;
+  }
+
+  private record ProfileExpiry(Duration ttl, Duration negativeTtl)
+      implements Expiry<Long, Optional<AccountRiskProfile>> {
+
+    @Override
+    public long expireAfterCreate(Long accountId, Optional<AccountRiskProfile> profile,
+        long currentTime) {
+      return (profile.isPresent() ? ttl : negativeTtl).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(Long accountId, Optional<AccountRiskProfile> profile,
+        long currentTime, long currentDuration) {
+      return expireAfterCreate(accountId, profile, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Long accountId, Optional<AccountRiskProfile> profile,
+        long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.creditx.hold.cache;
+
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.model.Hold;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded in-process cache of hold read models, keyed by hold id with a secondary transaction id
+ * lookup. Writers call {@link #put(Hold)} after every state transition; inside a transaction the
+ * entry is only published once the transaction commits, so readers never see uncommitted state.
+ */
+@Component
+@Slf4j
+public class HoldCache {
+
+  private final Cache<Long, HoldResponse> holdsById;
+  private final Cache<Long, Long> holdIdsByTransaction;
+
+  public HoldCache(@Value("${app.hold.cache.maximum-size:100000}") long maximumSize,
+      @Value("${app.hold.cache.expire-after-write-ms:30000}") long expireAfterWriteMs,
+      MeterRegistry meterRegistry) {
+    Duration ttl = Duration.ofMillis(expireAfterWriteMs);
+    this.holdsById = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl)
+        .recordStats().build();
+    this.holdIdsByTransaction = Caffeine.newBuilder().maximumSize(maximumSize)
+        .expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, holdsById, "holds");
+    CaffeineCacheMetrics.monitor(meterRegistry, holdIdsByTransaction, "holdsByTransaction");
+  }
+
+  public Optional<HoldResponse> getByHoldId(Long holdId) {
+    return Optional.ofNullable(holdsById.getIfPresent(holdId));
+  }
+
+  public Optional<HoldResponse> getByTransactionId(Long transactionId) {
+    return Optional.ofNullable(holdIdsByTransaction.getIfPresent(transactionId))
+        .flatMap(this::getByHoldId);
+  }
+
+  /**
+   * Publish the current state of a hold, after commit when a transaction is active.
+   *
+   * @param hold the hold whose state changed
+   */
+  public void put(Hold hold) {
+    HoldResponse snapshot = toResponse(hold);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publish(snapshot);
+        }
+      });
+    } else {
+      publish(snapshot);
+    }
+  }
+
+  /**
+   * Drop a hold whose new state is not at hand, after commit when a transaction is active. The
+   * next read loads it from the database.
+   *
+   * @param holdId the hold whose state changed
+   */
+  public void evict(Long holdId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          holdsById.invalidate(holdId);
+        }
+      });
+    } else {
+      holdsById.invalidate(holdId);
+    }
+  }
+
+  /**
+   * Cache a hold loaded by a reader. Never replaces an entry, so a read that raced with a state
+   * transition cannot overwrite the newer state published by the writer.
+   *
+   * @param hold the hold read from the database
+   */
+  public void putIfAbsent(Hold hold) {
+    HoldResponse snapshot = toResponse(hold);
+    holdsById.asMap().putIfAbsent(snapshot.getHoldId(), snapshot);
+    holdIdsByTransaction.asMap().putIfAbsent(snapshot.getTransactionId(), snapshot.getHoldId());
+  }
+
+  public static HoldResponse toResponse(Hold hold) {
+    return HoldResponse.builder().holdId(hold.getHoldId()).transactionId(hold.getTransactionId())
+        .accountId(hold.getAccountId()).amount(hold.getAmount()).status(hold.getStatus())
+        .expiresAt(hold.getExpiresAt()).build();
+  }
+
+  private void publish(HoldResponse snapshot) {
+    holdsById.put(snapshot.getHoldId(), snapshot);
+    if (snapshot.getTransactionId() != null) {
+      holdIdsByTransaction.put(snapshot.getTransactionId(), snapshot.getHoldId());
+    }
+    log.trace("Cached hold {} with status {}", snapshot.getHoldId(), snapshot.getStatus());
+  }
+}
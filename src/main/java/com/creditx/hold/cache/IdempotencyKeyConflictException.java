@@ -0,0 +1,12 @@
+package com.creditx.hold.cache;
+
+/**
+ * Thrown when an {@code Idempotency-Key} is reused with a request different from the one it was
+ * first used with.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+  public IdempotencyKeyConflictException(String message) {
+    super(message);
+  }
+}
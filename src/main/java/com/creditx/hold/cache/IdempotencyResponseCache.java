@@ -0,0 +1,227 @@
+package com.creditx.hold.cache;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.model.IdempotencyKey;
+import com.creditx.hold.repository.IdempotencyKeyRepository;
+import com.creditx.hold.util.EventIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Final {@code POST /api/holds} responses by {@code Idempotency-Key}, so client retries are
+ * answered without touching the hold tables. Responses are kept in a bounded in-process cache and,
+ * when {@code app.idempotency.db-enabled} is set, in CHS_IDEMPOTENCY_KEYS so a retry that lands on
+ * another instance is replayed too.
+ *
+ * <p>A key is reserved for its request before the request runs, in memory and as a pending row,
+ * so a concurrent request reusing the key for a different body is rejected instead of creating a
+ * second hold. Queries take a database permit like any other request work.
+ */
+@Component
+@Slf4j
+public class IdempotencyResponseCache {
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final ObjectMapper objectMapper;
+  private final Cache<String, StoredResponse> responses;
+  // Request hash by key reserved on this instance, until the response is saved or released
+  private final Cache<String, String> pending;
+  private final Duration ttl;
+  private final boolean dbEnabled;
+  private final Counter memoryHits;
+  private final Counter dbHits;
+  private final Counter misses;
+
+  public IdempotencyResponseCache(IdempotencyKeyRepository idempotencyKeyRepository,
+      DatabaseConcurrencyLimiter databaseConcurrencyLimiter, ObjectMapper objectMapper,
+      @Value("${app.idempotency.maximum-size:100000}") long maximumSize,
+      @Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+      @Value("${app.idempotency.db-enabled:false}") boolean dbEnabled,
+      MeterRegistry meterRegistry) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+    this.objectMapper = objectMapper;
+    this.ttl = Duration.ofMillis(ttlMs);
+    this.dbEnabled = dbEnabled;
+    this.responses = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl)
+        .recordStats().build();
+    this.pending = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotencyResponses");
+    this.memoryHits = lookups(meterRegistry, "memory");
+    this.dbHits = lookups(meterRegistry, "db");
+    this.misses = lookups(meterRegistry, "miss");
+  }
+
+  private static Counter lookups(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("hold.idempotency.lookups").tag("result", result)
+        .description("Idempotency-Key lookups by where the response was found")
+        .register(meterRegistry);
+  }
+
+  /**
+   * The stored response for a key, if any; otherwise reserve the key for this request until
+   * {@link #save} or {@link #release}. A retry of the same request while it is still running is
+   * let through: the transactionId makes the create itself idempotent.
+   *
+   * @param requestHash hash of the current request, see {@link #requestHash}
+   * @throws IdempotencyKeyConflictException if the key was used with a different request
+   * @throws com.creditx.hold.concurrency.DatabaseBusyException if no database permit is free
+   */
+  public Optional<StoredResponse> reserve(String key, String requestHash) {
+    StoredResponse cached = responses.getIfPresent(key);
+    if (cached != null) {
+      memoryHits.increment();
+      return Optional.of(checked(cached, requestHash));
+    }
+    String reservedFor = pending.asMap().putIfAbsent(key, requestHash);
+    if (reservedFor != null && !reservedFor.equals(requestHash)) {
+      throw conflict();
+    }
+    if (dbEnabled) {
+      Optional<StoredResponse> stored;
+      try {
+        stored = reserveInDatabase(key, requestHash);
+      } catch (RuntimeException e) {
+        if (reservedFor == null) {
+          pending.asMap().remove(key, requestHash);
+        }
+        throw e;
+      }
+      if (stored.isPresent()) {
+        dbHits.increment();
+        responses.put(key, stored.get());
+        pending.asMap().remove(key, requestHash);
+        return stored;
+      }
+    }
+    misses.increment();
+    return Optional.empty();
+  }
+
+  private Optional<StoredResponse> reserveInDatabase(String key, String requestHash) {
+    Instant now = Instant.now();
+    Instant expiresAt = now.plus(ttl);
+    if (databaseConcurrencyLimiter.call(
+        () -> idempotencyKeyRepository.reserve(key, requestHash, expiresAt)) == 1) {
+      return Optional.empty();
+    }
+    Optional<IdempotencyKey> row = databaseConcurrencyLimiter.call(
+        () -> idempotencyKeyRepository.findById(key));
+    if (row.isEmpty()) {
+      // Purged in between
+      databaseConcurrencyLimiter.call(
+          () -> idempotencyKeyRepository.reserve(key, requestHash, expiresAt));
+      return Optional.empty();
+    }
+    if (!row.get().getExpiresAt().isAfter(now)) {
+      databaseConcurrencyLimiter.call(
+          () -> idempotencyKeyRepository.reserveExpired(key, requestHash, expiresAt, now));
+      return Optional.empty();
+    }
+    if (!row.get().getRequestHash().equals(requestHash)) {
+      throw conflict();
+    }
+    // Still pending: the same request is running elsewhere, or its instance went away
+    return row.get().getStatusCode() == null ? Optional.empty()
+        : Optional.of(toStoredResponse(row.get()));
+  }
+
+  /**
+   * Store the final response of a key reserved with {@link #reserve}.
+   */
+  public void save(String key, StoredResponse response) {
+    responses.put(key, response);
+    pending.asMap().remove(key, response.requestHash());
+    if (!dbEnabled) {
+      return;
+    }
+    try {
+      String body = objectMapper.writeValueAsString(response.body());
+      if (databaseConcurrencyLimiter.call(() -> idempotencyKeyRepository.complete(key,
+          response.requestHash(), response.statusCode(), body)) == 0) {
+        // Completed by a retry of the same request first; its response is equivalent
+        log.debug("Idempotency key {} already stored", key);
+      }
+    } catch (JsonProcessingException | RuntimeException e) {
+      // The hold is placed either way; retries elsewhere find it by transactionId
+      log.warn("Could not store response for idempotency key {}", key, e);
+    }
+  }
+
+  /**
+   * Drop the reservation of a request that failed without a final response, so a retry can use
+   * the key again.
+   */
+  public void release(String key, String requestHash) {
+    pending.asMap().remove(key, requestHash);
+    if (!dbEnabled) {
+      return;
+    }
+    try {
+      databaseConcurrencyLimiter.run(() -> idempotencyKeyRepository.release(key, requestHash));
+    } catch (RuntimeException e) {
+      log.warn("Could not release idempotency key {}", key, e);
+    }
+  }
+
+  /**
+   * Delete stored responses past their TTL.
+   *
+   * @return the number of rows deleted
+   */
+  @Transactional
+  public int purgeExpired() {
+    return dbEnabled ? idempotencyKeyRepository.deleteExpired(Instant.now()) : 0;
+  }
+
+  public static String requestHash(CreateHoldRequest request) {
+    return EventIdGenerator.generatePayloadHash(
+        request.getTransactionId() + "|" + request.getIssuerAccountId() + "|"
+            + request.getMerchantAccountId() + "|" + request.getAmount() + "|"
+            + request.getCurrency());
+  }
+
+  private static StoredResponse checked(StoredResponse stored, String requestHash) {
+    if (!stored.requestHash().equals(requestHash)) {
+      throw conflict();
+    }
+    return stored;
+  }
+
+  private static IdempotencyKeyConflictException conflict() {
+    return new IdempotencyKeyConflictException(
+        "Idempotency-Key was already used with a different request");
+  }
+
+  private StoredResponse toStoredResponse(IdempotencyKey row) {
+    try {
+      return new StoredResponse(row.getRequestHash(), row.getStatusCode(),
+          objectMapper.readValue(row.getResponseBody(), CreateHoldResponse.class));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          "Unreadable stored response for idempotency key " + row.getIdempotencyKey(), e);
+    }
+  }
+
+  /**
+   * A replayable response and the hash of the request that produced it.
+   */
+  public record StoredResponse(String requestHash, int statusCode, CreateHoldResponse body) {
+
+  }
+}
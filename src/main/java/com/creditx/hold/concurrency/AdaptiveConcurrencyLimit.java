@@ -0,0 +1,65 @@
+package com.creditx.hold.concurrency;
+
+/**
+ * Concurrency limit that follows observed latency, in the style of TCP Vegas. The shortest latency
+ * seen recently stands for an unloaded system; the ratio to each new sample estimates how many
+ * requests are queueing downstream. The limit grows while that queue is small and shrinks once it
+ * builds up, and drops multiplicatively (AIMD) when a request fails or times out.
+ *
+ * <p>The baseline is re-measured every {@code probeInterval} samples so that a permanent shift in
+ * latency (a slower database after failover, say) does not leave the limit pinned at the minimum.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int probeInterval;
+  private double limit;
+  private long minRttNanos = Long.MAX_VALUE;
+  private int samplesSinceProbe;
+
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int probeInterval) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.probeInterval = probeInterval;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Feed the latency of a completed request.
+   *
+   * @param rttNanos latency of the request
+   * @param inFlight requests in flight when it started, including itself
+   */
+  public synchronized void onSuccess(long rttNanos, int inFlight) {
+    if (++samplesSinceProbe >= probeInterval) {
+      samplesSinceProbe = 0;
+      minRttNanos = rttNanos;
+    }
+    minRttNanos = Math.min(minRttNanos, Math.max(1, rttNanos));
+
+    double log = Math.max(1, Math.log10(limit));
+    double queue = Math.ceil(limit * (1 - (double) minRttNanos / Math.max(1, rttNanos)));
+    if (queue <= 3 * log) {
+      // Only grow while the limit is actually in use, otherwise idle periods inflate it
+      if (inFlight * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + log);
+      }
+    } else if (queue >= 6 * log) {
+      limit = Math.max(minLimit, limit - log);
+    }
+  }
+
+  /**
+   * Record a request that failed in a way that indicates overload.
+   */
+  public synchronized void onDropped() {
+    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+  }
+}
@@ -0,0 +1,81 @@
+package com.creditx.hold.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for hold creation. Requests beyond the adaptive limit are answered with 429
+ * and {@code Retry-After} before they reach a Tomcat worker's database work. Server errors count as
+ * overload signals and shrink the limit. Only created holds feed their latency to the limit:
+ * validation errors, fraud rejections and replays marked with {@link #UNSAMPLED} finish in
+ * microseconds and would make real creates look queued.
+ *
+ * <p>{@link RequestPriority#HIGH} is honored only for callers whose remote address is in
+ * {@code highPriorityAddresses}; anyone else asking for it is treated as
+ * {@link RequestPriority#NORMAL}, so a client cannot jump the queue by setting the header.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+  /**
+   * Request attribute that keeps a response from being fed to the limit as a latency sample.
+   */
+  public static final String UNSAMPLED = AdmissionControlFilter.class.getName() + ".unsampled";
+
+  private final AdmissionLimiter admissionLimiter;
+  private final int retryAfterSeconds;
+  private final Set<String> highPriorityAddresses;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RequestPriority priority = RequestPriority.fromHeader(
+        request.getHeader(RequestPriority.HEADER));
+    if (priority == RequestPriority.HIGH
+        && !highPriorityAddresses.contains(request.getRemoteAddr())) {
+      log.debug("Ignoring high priority requested by untrusted caller {}",
+          request.getRemoteAddr());
+      priority = RequestPriority.NORMAL;
+    }
+    var permit = admissionLimiter.tryAcquire(priority);
+    if (permit.isEmpty()) {
+      log.debug("Shedding {} priority hold request", priority);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+      response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+      response.getWriter().write("Too many concurrent hold requests, try again later");
+      return;
+    }
+
+    boolean completed = false;
+    try {
+      filterChain.doFilter(request, response);
+      completed = true;
+    } finally {
+      int status = response.getStatus();
+      if (!completed || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+        permit.get().onDropped();
+      } else if (status == HttpStatus.CREATED.value() && request.getAttribute(UNSAMPLED) == null) {
+        permit.get().onSuccess();
+      } else {
+        permit.get().onIgnore();
+      }
+    }
+  }
+}
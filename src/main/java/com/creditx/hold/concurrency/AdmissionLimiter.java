@@ -0,0 +1,164 @@
+package com.creditx.hold.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits requests up to an {@link AdaptiveConcurrencyLimit}. When the limit is reached, HIGH
+ * priority requests wait up to {@code queueTimeoutMs} for a slot and everything else is shed at
+ * once, so callers get a fast rejection instead of a slow timeout. LOW priority requests are shed
+ * as soon as the in-flight count passes {@code lowPriorityShare} of the limit.
+ */
+public class AdmissionLimiter {
+
+  private final AdaptiveConcurrencyLimit limit;
+  private final long queueTimeoutNanos;
+  private final double lowPriorityShare;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  private final Map<RequestPriority, Counter> admitted = new EnumMap<>(RequestPriority.class);
+  private final Map<RequestPriority, Counter> queued = new EnumMap<>(RequestPriority.class);
+  private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+  private int inFlight;
+
+  public AdmissionLimiter(AdaptiveConcurrencyLimit limit, long queueTimeoutMs,
+      double lowPriorityShare, MeterRegistry meterRegistry) {
+    this.limit = limit;
+    this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+    this.lowPriorityShare = lowPriorityShare;
+    for (RequestPriority priority : RequestPriority.values()) {
+      String tag = priority.name().toLowerCase();
+      admitted.put(priority, counter(meterRegistry, "admitted", tag));
+      queued.put(priority, counter(meterRegistry, "queued", tag));
+      shed.put(priority, counter(meterRegistry, "shed", tag));
+    }
+    Gauge.builder("hold.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+        .description("Current adaptive concurrency limit for hold creation")
+        .register(meterRegistry);
+    Gauge.builder("hold.admission.in.flight", this, AdmissionLimiter::getInFlight)
+        .description("Hold creation requests currently admitted").register(meterRegistry);
+  }
+
+  /**
+   * Try to admit a request.
+   *
+   * @return a permit to release when the request completes, or empty if the request is shed
+   */
+  public Optional<Permit> tryAcquire(RequestPriority priority) {
+    lock.lock();
+    try {
+      if (hasCapacity(priority)) {
+        admitted.get(priority).increment();
+        return Optional.of(admit());
+      }
+      if (priority != RequestPriority.HIGH || queueTimeoutNanos <= 0) {
+        shed.get(priority).increment();
+        return Optional.empty();
+      }
+      long remaining = queueTimeoutNanos;
+      while (!hasCapacity(priority)) {
+        if (remaining <= 0) {
+          shed.get(priority).increment();
+          return Optional.empty();
+        }
+        remaining = released.awaitNanos(remaining);
+      }
+      queued.get(priority).increment();
+      return Optional.of(admit());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      shed.get(priority).increment();
+      return Optional.empty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean hasCapacity(RequestPriority priority) {
+    int current = limit.getLimit();
+    return priority == RequestPriority.LOW ? inFlight < current * lowPriorityShare
+        : inFlight < current;
+  }
+
+  private Permit admit() {
+    inFlight++;
+    return new Permit(System.nanoTime(), inFlight);
+  }
+
+  private void release(Permit permit, Outcome outcome) {
+    if (outcome == Outcome.DROPPED) {
+      limit.onDropped();
+    } else if (outcome == Outcome.SUCCESS) {
+      limit.onSuccess(System.nanoTime() - permit.startNanos, permit.inFlightAtStart);
+    }
+    lock.lock();
+    try {
+      inFlight--;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String outcome, String priority) {
+    return Counter.builder("hold.admission.requests").tag("outcome", outcome)
+        .tag("priority", priority).description("Hold creation requests by admission outcome")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Slot held by an admitted request; release exactly once.
+   */
+  public final class Permit {
+
+    private final long startNanos;
+    private final int inFlightAtStart;
+
+    private Permit(long startNanos, int inFlightAtStart) {
+      this.startNanos = startNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * The request completed normally; its latency feeds the limit.
+     */
+    public void onSuccess() {
+      release(this, Outcome.SUCCESS);
+    }
+
+    /**
+     * The request failed in a way that signals overload (5xx, timeout).
+     */
+    public void onDropped() {
+      release(this, Outcome.DROPPED);
+    }
+
+    /**
+     * The request completed without doing the work the limit is sized for (a replay, a validation
+     * error), so its latency says nothing about queueing and is not fed to the limit.
+     */
+    public void onIgnore() {
+      release(this, Outcome.IGNORED);
+    }
+  }
+
+  private enum Outcome {
+    SUCCESS, DROPPED, IGNORED
+  }
+}
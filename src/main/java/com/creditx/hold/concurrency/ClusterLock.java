@@ -0,0 +1,28 @@
+package com.creditx.hold.concurrency;
+
+import java.util.Optional;
+
+/**
+ * A held {@link ClusterLocked} lock. The fencing token grows with every acquisition of the lock
+ * name, so a holder whose lock lapsed mid-run can find out it has been superseded with
+ * {@link ClusterLockProvider#isHeld} before doing work another holder may be repeating.
+ */
+public record ClusterLock(String name, long fencingToken, long lockAtLeastMs) {
+
+  private static final ThreadLocal<ClusterLock> CURRENT = new ThreadLocal<>();
+
+  /**
+   * The lock held by the {@link ClusterLocked} job running on this thread, if any.
+   */
+  public static Optional<ClusterLock> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  static void bind(ClusterLock lock) {
+    CURRENT.set(lock);
+  }
+
+  static void unbind() {
+    CURRENT.remove();
+  }
+}
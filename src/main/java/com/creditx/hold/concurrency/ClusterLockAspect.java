@@ -0,0 +1,92 @@
+package com.creditx.hold.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps {@link ClusterLocked} methods: takes the lock, runs the method with the lock bound to the
+ * thread, and releases it. When the lock is held elsewhere, or cannot be taken, the run is
+ * skipped.
+ */
+@Aspect
+@Component
+@Slf4j
+public class ClusterLockAspect {
+
+  private final ClusterLockProvider clusterLockProvider;
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+  private final long defaultLockAtMostMs;
+
+  public ClusterLockAspect(ClusterLockProvider clusterLockProvider, Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${app.scheduler.lock.default-lock-at-most-ms:600000}") long defaultLockAtMostMs) {
+    this.clusterLockProvider = clusterLockProvider;
+    this.environment = environment;
+    this.meterRegistry = meterRegistry;
+    this.defaultLockAtMostMs = defaultLockAtMostMs;
+  }
+
+  @Around("@annotation(clusterLocked)")
+  public Object runLocked(ProceedingJoinPoint joinPoint, ClusterLocked clusterLocked)
+      throws Throwable {
+    String name = clusterLocked.name();
+    long lockAtMostMs = clusterLocked.lockAtMostFor().isEmpty() ? defaultLockAtMostMs
+        : Long.parseLong(environment.resolveRequiredPlaceholders(clusterLocked.lockAtMostFor()));
+    long lockAtLeastMs = Long.parseLong(
+        environment.resolveRequiredPlaceholders(clusterLocked.lockAtLeastFor()));
+
+    Optional<ClusterLock> lock;
+    try {
+      lock = clusterLockProvider.tryLock(name, lockAtMostMs, lockAtLeastMs);
+    } catch (RuntimeException e) {
+      acquisitions(name, "error").increment();
+      log.error("Could not take lock {}, skipping run", name, e);
+      return null;
+    }
+    if (lock.isEmpty()) {
+      acquisitions(name, "busy").increment();
+      log.debug("Lock {} is held elsewhere, skipping run", name);
+      return null;
+    }
+    acquisitions(name, "acquired").increment();
+
+    long start = System.nanoTime();
+    ClusterLock.bind(lock.get());
+    try {
+      return joinPoint.proceed();
+    } finally {
+      ClusterLock.unbind();
+      long heldNanos = System.nanoTime() - start;
+      Timer.builder("scheduler.lock.held").tag("name", name)
+          .description("Time a scheduled job held its cluster lock").register(meterRegistry)
+          .record(Duration.ofNanos(heldNanos));
+      if (heldNanos > Duration.ofMillis(lockAtMostMs).toNanos()) {
+        log.warn("Job {} ran for {} ms, longer than its {} ms lock", name, heldNanos / 1_000_000,
+            lockAtMostMs);
+      }
+      try {
+        clusterLockProvider.unlock(lock.get());
+      } catch (RuntimeException e) {
+        // The lock lapses after lockAtMostFor
+        log.error("Could not release lock {}", name, e);
+      }
+    }
+  }
+
+  private Counter acquisitions(String name, String result) {
+    return Counter.builder("scheduler.lock.acquisitions").tag("name", name).tag("result", result)
+        .description("Cluster lock acquisition attempts by scheduled jobs")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,64 @@
+package com.creditx.hold.concurrency;
+
+import com.creditx.hold.model.SchedulerLock;
+import com.creditx.hold.repository.SchedulerLockRepository;
+import jakarta.transaction.Transactional;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Table-based cluster locks for scheduled jobs, in the style of ShedLock: a lock is a row in
+ * CHS_SCHEDULER_LOCKS that is taken when its {@code LOCK_UNTIL} has passed. Holders release it by
+ * moving {@code LOCK_UNTIL} back to now, or to the end of the lock-at-least window; a holder that
+ * dies simply lets it lapse after the lock-at-most window.
+ */
+@Component
+@Slf4j
+public class ClusterLockProvider {
+
+  private final SchedulerLockRepository schedulerLockRepository;
+  private final String owner;
+
+  public ClusterLockProvider(SchedulerLockRepository schedulerLockRepository,
+      @Value("${HOSTNAME:hold-service}") String hostname) {
+    this.schedulerLockRepository = schedulerLockRepository;
+    this.owner = hostname + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  /**
+   * Take a lock.
+   *
+   * @return the lock, or empty if another instance holds it
+   */
+  @Transactional
+  public Optional<ClusterLock> tryLock(String name, long lockAtMostMs, long lockAtLeastMs) {
+    if (schedulerLockRepository.tryLock(name, owner, lockAtMostMs) == 0) {
+      return Optional.empty();
+    }
+    return schedulerLockRepository.findById(name).map(SchedulerLock::getFencingToken)
+        .map(token -> new ClusterLock(name, token, lockAtLeastMs));
+  }
+
+  /**
+   * Release a lock. Does nothing if it has lapsed and been taken by another holder since.
+   */
+  @Transactional
+  public void unlock(ClusterLock lock) {
+    if (schedulerLockRepository.unlock(lock.name(), lock.fencingToken(), lock.lockAtLeastMs())
+        == 0) {
+      log.warn("Lock {} was taken over before token {} released it", lock.name(),
+          lock.fencingToken());
+    }
+  }
+
+  /**
+   * Whether a lock is still held under its fencing token.
+   */
+  @Transactional
+  public boolean isHeld(ClusterLock lock) {
+    return schedulerLockRepository.countHeld(lock.name(), lock.fencingToken()) > 0;
+  }
+}
@@ -0,0 +1,36 @@
+package com.creditx.hold.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@code void} scheduled method on at most one instance at a time. Instances that find the
+ * lock taken skip the run. The lock lives in CHS_SCHEDULER_LOCKS, see {@link ClusterLockProvider}.
+ *
+ * <p>Durations are in milliseconds and may use property placeholders.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLocked {
+
+  /**
+   * Lock name, shared by every instance running the job.
+   */
+  String name();
+
+  /**
+   * How long the lock is kept if its holder dies without releasing it. Must exceed the job's
+   * longest run; defaults to {@code app.scheduler.lock.default-lock-at-most-ms}.
+   */
+  String lockAtMostFor() default "";
+
+  /**
+   * Minimum time the lock is kept after it was taken, so instances whose clocks fire slightly later
+   * do not run the job again straight away. Defaults to 0.
+   */
+  String lockAtLeastFor() default "0";
+}
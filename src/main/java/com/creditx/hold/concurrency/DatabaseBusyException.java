@@ -0,0 +1,13 @@
+package com.creditx.hold.concurrency;
+
+/**
+ * Thrown when work could not reach the database in time: no database permit within the configured
+ * timeout, a group commit that did not complete, or a duplicate of a request still in progress.
+ * Callers may retry.
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+  public DatabaseBusyException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,93 @@
+package com.creditx.hold.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds how many API requests, consumer events and scheduled jobs run database work at once.
+ *
+ * <p>With virtual threads the number of concurrent callers is no longer capped by a thread pool,
+ * so the limit is sized to the JDBC connection pool instead: callers beyond it park cheaply on the
+ * semaphore rather than queueing inside the pool while holding other resources.
+ */
+@Component
+@Slf4j
+public class DatabaseConcurrencyLimiter {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutMs;
+  private final Timer waitTime;
+  private final Counter rejections;
+
+  public DatabaseConcurrencyLimiter(
+      @Value("${app.concurrency.db-permits:${spring.datasource.hikari.maximum-pool-size:10}}") int maxPermits,
+      @Value("${app.concurrency.db-acquire-timeout-ms:30000}") long acquireTimeoutMs,
+      MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxPermits, true);
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.waitTime = Timer.builder("db.concurrency.wait")
+        .description("Time spent waiting for a database permit").register(meterRegistry);
+    this.rejections = Counter.builder("db.concurrency.rejected")
+        .description("Work rejected because no database permit became available")
+        .register(meterRegistry);
+    Gauge.builder("db.concurrency.available", permits, Semaphore::availablePermits)
+        .description("Database permits currently available").register(meterRegistry);
+    Gauge.builder("db.concurrency.waiting", permits, Semaphore::getQueueLength)
+        .description("Callers waiting for a database permit").register(meterRegistry);
+  }
+
+  /**
+   * Run the given work while holding a database permit.
+   *
+   * @param work the database-bound work
+   * @return the work's result
+   * @throws DatabaseBusyException if no permit became available within the timeout
+   */
+  public <T> T call(Supplier<T> work) {
+    acquire();
+    try {
+      return work.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Run the given work while holding a database permit.
+   *
+   * @param work the database-bound work
+   * @throws DatabaseBusyException if no permit became available within the timeout
+   */
+  public void run(Runnable work) {
+    call(() -> {
+      work.run();
+      return null;
+    });
+  }
+
+  private void acquire() {
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabaseBusyException("Interrupted while waiting for a database permit");
+    } finally {
+      waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    if (!acquired) {
+      rejections.increment();
+      log.warn("No database permit available after {} ms", acquireTimeoutMs);
+      throw new DatabaseBusyException("Database is busy, try again later");
+    }
+  }
+}
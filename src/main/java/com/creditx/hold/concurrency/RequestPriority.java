@@ -0,0 +1,31 @@
+package com.creditx.hold.concurrency;
+
+/**
+ * Admission priority requested by the caller through {@link #HEADER}. Unknown or missing values are
+ * treated as {@link #NORMAL}, and so is {@link #HIGH} from callers that are not trusted with it.
+ */
+public enum RequestPriority {
+
+  /**
+   * May wait briefly for a slot when the limit is reached instead of being shed.
+   */
+  HIGH,
+  NORMAL,
+  /**
+   * Shed first: only admitted while part of the limit is still free.
+   */
+  LOW;
+
+  public static final String HEADER = "X-Request-Priority";
+
+  public static RequestPriority fromHeader(String value) {
+    if (value == null) {
+      return NORMAL;
+    }
+    return switch (value.trim().toLowerCase()) {
+      case "high" -> HIGH;
+      case "low" -> LOW;
+      default -> NORMAL;
+    };
+  }
+}
@@ -0,0 +1,97 @@
+package com.creditx.hold.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the work and every caller
+ * that arrives while it is in flight receives the same result or exception. Entries are removed as
+ * soon as the work completes, so nothing is cached; memory is further bounded by
+ * {@code maxInFlight}, beyond which callers for keys not already in flight run their work
+ * directly.
+ *
+ * <p>A follower that waits longer than {@code followerTimeoutMs} fails with
+ * {@link DatabaseBusyException} rather than running the work alongside a leader that may still
+ * complete, so a stuck leader cannot hold its duplicates hostage and is never raced.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final int maxInFlight;
+  private final long followerTimeoutMs;
+  private final Counter coalesced;
+  private final Counter bypassed;
+
+  public SingleFlight(String name, int maxInFlight, long followerTimeoutMs,
+      MeterRegistry meterRegistry) {
+    this.maxInFlight = maxInFlight;
+    this.followerTimeoutMs = followerTimeoutMs;
+    this.coalesced = Counter.builder("singleflight.coalesced").tag("name", name)
+        .description("Calls that received the result of an identical in-flight call")
+        .register(meterRegistry);
+    this.bypassed = Counter.builder("singleflight.bypassed").tag("name", name)
+        .description("Calls that ran on their own because the in-flight table was full")
+        .register(meterRegistry);
+    Gauge.builder("singleflight.in.flight", inFlight, Map::size).tag("name", name)
+        .description("Keys with a call currently in flight").register(meterRegistry);
+  }
+
+  public V execute(K key, Supplier<V> work) {
+    if (inFlight.size() >= maxInFlight) {
+      CompletableFuture<V> leader = inFlight.get(key);
+      if (leader != null) {
+        coalesced.increment();
+        return follow(key, leader);
+      }
+      bypassed.increment();
+      return work.get();
+    }
+    CompletableFuture<V> mine = new CompletableFuture<>();
+    CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+    if (leader != null) {
+      coalesced.increment();
+      return follow(key, leader);
+    }
+    try {
+      V result = work.get();
+      mine.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private V follow(K key, CompletableFuture<V> leader) {
+    try {
+      return leader.get(followerTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Coalesced call failed", e.getCause());
+    } catch (TimeoutException e) {
+      log.warn("In-flight call for key {} still running after {} ms, rejecting duplicate", key,
+          followerTimeoutMs);
+      throw new DatabaseBusyException("An identical request is still in progress, try again later");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for coalesced call", e);
+    }
+  }
+}
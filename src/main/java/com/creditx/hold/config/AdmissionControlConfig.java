@@ -0,0 +1,50 @@
+package com.creditx.hold.config;
+
+import com.creditx.hold.concurrency.AdaptiveConcurrencyLimit;
+import com.creditx.hold.concurrency.AdmissionControlFilter;
+import com.creditx.hold.concurrency.AdmissionLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts adaptive admission control in front of {@code POST /api/holds} on the servlet stack.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+  @Bean
+  public AdmissionLimiter holdAdmissionLimiter(
+      @Value("${app.admission.initial-limit:20}") int initialLimit,
+      @Value("${app.admission.min-limit:4}") int minLimit,
+      @Value("${app.admission.max-limit:200}") int maxLimit,
+      @Value("${app.admission.probe-interval:1000}") int probeInterval,
+      @Value("${app.admission.queue-timeout-ms:50}") long queueTimeoutMs,
+      @Value("${app.admission.low-priority-share:0.8}") double lowPriorityShare,
+      MeterRegistry meterRegistry) {
+    return new AdmissionLimiter(
+        new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, probeInterval),
+        queueTimeoutMs, lowPriorityShare, meterRegistry);
+  }
+
+  @Bean
+  public FilterRegistrationBean<AdmissionControlFilter> holdAdmissionControlFilter(
+      AdmissionLimiter holdAdmissionLimiter,
+      @Value("${app.admission.retry-after-seconds:1}") int retryAfterSeconds,
+      @Value("${app.admission.high-priority-addresses:}") Set<String> highPriorityAddresses) {
+    var registration = new FilterRegistrationBean<>(
+        new AdmissionControlFilter(holdAdmissionLimiter, retryAfterSeconds,
+            highPriorityAddresses));
+    registration.addUrlPatterns("/api/holds");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+}
@@ -0,0 +1,106 @@
+package com.creditx.hold.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduler dedicated to one job, recording for every periodic run how long it took
+ * ({@code scheduler.task.duration}), how late it started against its schedule
+ * ({@code scheduler.task.start.lag}) and, for fixed-rate jobs, runs that took longer than the
+ * period and so pushed the following ones back ({@code scheduler.task.overruns}). All meters are
+ * tagged with the job name.
+ */
+@Slf4j
+public class InstrumentedTaskScheduler extends ThreadPoolTaskScheduler {
+
+  private final String job;
+  private final Timer duration;
+  private final Timer startLag;
+  private final Counter overruns;
+
+  public InstrumentedTaskScheduler(String job, int poolSize, MeterRegistry meterRegistry) {
+    this.job = job;
+    setPoolSize(poolSize);
+    setThreadNamePrefix("chs-" + job + "-");
+    setRemoveOnCancelPolicy(true);
+    this.duration = Timer.builder("scheduler.task.duration").tag("job", job)
+        .description("Run time of a scheduled job").register(meterRegistry);
+    this.startLag = Timer.builder("scheduler.task.start.lag").tag("job", job)
+        .description("Delay between a scheduled job's planned and actual start")
+        .register(meterRegistry);
+    this.overruns = Counter.builder("scheduler.task.overruns").tag("job", job)
+        .description("Fixed-rate runs that took longer than their period")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+    return super.scheduleAtFixedRate(new MeteredTask(task, startTime, period, true), startTime,
+        period);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+    return super.scheduleAtFixedRate(new MeteredTask(task, Instant.now(), period, true), period);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime,
+      Duration delay) {
+    return super.scheduleWithFixedDelay(new MeteredTask(task, startTime, delay, false), startTime,
+        delay);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+    return super.scheduleWithFixedDelay(new MeteredTask(task, Instant.now(), delay, false), delay);
+  }
+
+  /**
+   * Runs of one periodic task are sequential, so its planned start needs no synchronization.
+   */
+  private final class MeteredTask implements Runnable {
+
+    private final Runnable task;
+    private final long intervalNanos;
+    private final boolean fixedRate;
+    private long plannedStart;
+
+    MeteredTask(Runnable task, Instant firstStart, Duration interval, boolean fixedRate) {
+      this.task = task;
+      this.intervalNanos = interval.toNanos();
+      this.fixedRate = fixedRate;
+      this.plannedStart = System.nanoTime()
+          + Math.max(0, Duration.between(Instant.now(), firstStart).toNanos());
+    }
+
+    @Override
+    public void run() {
+      long start = System.nanoTime();
+      startLag.record(Math.max(0, start - plannedStart), TimeUnit.NANOSECONDS);
+      try {
+        task.run();
+      } finally {
+        long end = System.nanoTime();
+        duration.record(end - start, TimeUnit.NANOSECONDS);
+        if (fixedRate) {
+          plannedStart += intervalNanos;
+          if (end - start > intervalNanos) {
+            overruns.increment();
+            log.debug("Job {} ran for {} ms, longer than its {} ms period", job,
+                (end - start) / 1_000_000, intervalNanos / 1_000_000);
+          }
+        } else {
+          plannedStart = end + intervalNanos;
+        }
+      }
+    }
+  }
+}
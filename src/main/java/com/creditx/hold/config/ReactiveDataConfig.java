@@ -0,0 +1,31 @@
+package com.creditx.hold.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC wiring for the {@code reactive} profile. The Oracle connection factory comes from
+ * {@code spring.r2dbc.*}. The R2DBC transaction manager is deliberately not a bean: JPA's
+ * transaction manager must stay the only one so that {@code @Transactional} keeps resolving to it.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfig {
+
+  @Bean
+  public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+    return DatabaseClient.create(connectionFactory);
+  }
+
+  @Bean
+  public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+    R2dbcTransactionManager transactionManager = new R2dbcTransactionManager(connectionFactory);
+    transactionManager.afterPropertiesSet();
+    return TransactionalOperator.create(transactionManager);
+  }
+}
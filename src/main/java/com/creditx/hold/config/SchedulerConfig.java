@@ -0,0 +1,71 @@
+package com.creditx.hold.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One scheduler per {@code @Scheduled} job, selected with {@code @Scheduled(scheduler = ...)}, so
+ * a long expiry sweep cannot hold up the outbox relay or the expiry wheel's ticks.
+ */
+@Configuration
+public class SchedulerConfig {
+
+  public static final String HOLD_EXPIRY_SCHEDULER = "holdExpiryTaskScheduler";
+  public static final String EXPIRY_WHEEL_LOAD_SCHEDULER = "expiryWheelLoadTaskScheduler";
+  public static final String EXPIRY_WHEEL_TICK_SCHEDULER = "expiryWheelTickTaskScheduler";
+  public static final String OUTBOX_RELAY_SCHEDULER = "outboxRelayTaskScheduler";
+  public static final String IDEMPOTENCY_PURGE_SCHEDULER = "idempotencyPurgeTaskScheduler";
+  public static final String HOLD_ARCHIVE_SCHEDULER = "holdArchiveTaskScheduler";
+  public static final String INDEX_SNAPSHOT_SCHEDULER = "indexSnapshotTaskScheduler";
+
+  @Bean(HOLD_EXPIRY_SCHEDULER)
+  public InstrumentedTaskScheduler holdExpiryTaskScheduler(
+      @Value("${app.scheduler.hold-expiry.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("hold-expiry", poolSize, meterRegistry);
+  }
+
+  @Bean(EXPIRY_WHEEL_LOAD_SCHEDULER)
+  public InstrumentedTaskScheduler expiryWheelLoadTaskScheduler(
+      @Value("${app.scheduler.expiry-wheel-load.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("expiry-wheel-load", poolSize, meterRegistry);
+  }
+
+  @Bean(EXPIRY_WHEEL_TICK_SCHEDULER)
+  public InstrumentedTaskScheduler expiryWheelTickTaskScheduler(
+      @Value("${app.scheduler.expiry-wheel-tick.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("expiry-wheel-tick", poolSize, meterRegistry);
+  }
+
+  @Bean(OUTBOX_RELAY_SCHEDULER)
+  public InstrumentedTaskScheduler outboxRelayTaskScheduler(
+      @Value("${app.scheduler.outbox-relay.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("outbox-relay", poolSize, meterRegistry);
+  }
+
+  @Bean(IDEMPOTENCY_PURGE_SCHEDULER)
+  public InstrumentedTaskScheduler idempotencyPurgeTaskScheduler(
+      @Value("${app.scheduler.idempotency-purge.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("idempotency-purge", poolSize, meterRegistry);
+  }
+
+  @Bean(HOLD_ARCHIVE_SCHEDULER)
+  public InstrumentedTaskScheduler holdArchiveTaskScheduler(
+      @Value("${app.scheduler.hold-archive.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("hold-archive", poolSize, meterRegistry);
+  }
+
+  @Bean(INDEX_SNAPSHOT_SCHEDULER)
+  public InstrumentedTaskScheduler indexSnapshotTaskScheduler(
+      @Value("${app.scheduler.index-snapshot.pool-size:1}") int poolSize,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedTaskScheduler("index-snapshot", poolSize, meterRegistry);
+  }
+}
@@ -0,0 +1,24 @@
+package com.creditx.hold.config;
+
+import com.creditx.hold.concurrency.SingleFlight;
+import com.creditx.hold.dto.CreateHoldResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SingleFlightConfig {
+
+  /**
+   * Coalesces gateway retries of {@code POST /api/holds} that arrive while the first attempt for
+   * the same transaction is still running.
+   */
+  @Bean
+  public SingleFlight<Long, CreateHoldResponse> createHoldSingleFlight(
+      @Value("${app.hold.single-flight.max-in-flight:10000}") int maxInFlight,
+      @Value("${app.hold.single-flight.follower-timeout-ms:5000}") long followerTimeoutMs,
+      MeterRegistry meterRegistry) {
+    return new SingleFlight<>("createHold", maxInFlight, followerTimeoutMs, meterRegistry);
+  }
+}
@@ -0,0 +1,31 @@
+package com.creditx.hold.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+
+/**
+ * Extends {@code spring.threads.virtual.enabled} to the Kafka binder. Spring Boot already moves
+ * Tomcat request handling onto virtual threads; the Spring Cloud Stream binder builds its own
+ * listener containers, so their consumer threads are switched here. Scheduled jobs keep their own
+ * schedulers, see {@link SchedulerConfig}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+  @Bean
+  public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> virtualThreadListenerContainerCustomizer() {
+    return (container, destination, group) -> {
+      log.info("Running Kafka listener for destination {} on virtual threads", destination);
+      container.getContainerProperties()
+          .setListenerTaskExecutor(new VirtualThreadTaskExecutor("chs-kafka-" + destination + "-"));
+    };
+  }
+}
@@ -0,0 +1,31 @@
+package com.creditx.hold.controller;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.service.AccountExposureService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/accounts")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AccountExposureController {
+
+  private final AccountExposureService accountExposureService;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+  @GetMapping("/{accountId}/exposure")
+  @Operation(summary = "Get account exposure", description = "Returns the total amount and number of holds currently authorized on an account", tags = {
+      "internal"})
+  public ResponseEntity<AccountExposureResponse> getExposure(@PathVariable Long accountId) {
+    return ResponseEntity.ok(
+        databaseConcurrencyLimiter.call(() -> accountExposureService.getExposure(accountId)));
+  }
+}
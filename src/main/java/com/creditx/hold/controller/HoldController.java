@@ -1,39 +1,126 @@
 package com.creditx.hold.controller;
 
+import com.creditx.hold.cache.IdempotencyKeyConflictException;
+import com.creditx.hold.cache.IdempotencyResponseCache;
+import com.creditx.hold.cache.IdempotencyResponseCache.StoredResponse;
+import com.creditx.hold.concurrency.AdmissionControlFilter;
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.concurrency.SingleFlight;
 import com.creditx.hold.dto.CreateHoldRequest;
 import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.fraud.PreCheckTimeoutException;
+import com.creditx.hold.service.HoldQueryService;
 import com.creditx.hold.service.HoldService;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/holds")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 public class HoldController {
 
+  static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
   private final HoldService holdService;
+  private final HoldQueryService holdQueryService;
+  private final SingleFlight<Long, CreateHoldResponse> createHoldSingleFlight;
+  private final IdempotencyResponseCache idempotencyResponseCache;
 
   @PostMapping
   @Operation(summary = "Create a hold", description = "Creates a new hold (authorization) on a payer account", tags = {
       "internal"})
   public ResponseEntity<CreateHoldResponse> createHold(
-      @Validated @RequestBody CreateHoldRequest request) {
-    log.info("Creating hold for transaction: {}, issuer: {}, merchant: {}, amount: {}",
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+      @Validated @RequestBody CreateHoldRequest request, WebRequest webRequest) {
+    String requestHash = null;
+    if (idempotencyKey != null) {
+      // Retries carrying the same key are answered from the stored response; otherwise the key is
+      // reserved for this request
+      requestHash = IdempotencyResponseCache.requestHash(request);
+      var stored = idempotencyResponseCache.reserve(idempotencyKey, requestHash);
+      if (stored.isPresent()) {
+        log.debug("Replaying response for idempotency key {}", idempotencyKey);
+        // A replay's latency is not that of a create, so admission control does not sample it
+        webRequest.setAttribute(AdmissionControlFilter.UNSAMPLED, Boolean.TRUE,
+            RequestAttributes.SCOPE_REQUEST);
+        return ResponseEntity.status(stored.get().statusCode()).body(stored.get().body());
+      }
+    }
+
+    log.info("Creating hold for transaction: {}, issuer: {}, merchant: {}, amount (minor units): {}",
         request.getTransactionId(), request.getIssuerAccountId(), request.getMerchantAccountId(),
         request.getAmount());
-    var response = holdService.createHold(request);
-    log.info("Hold created with ID: {}, status: {}", response.getHoldId(), response.getStatus());
-    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    // Retries of a request still in flight share its result instead of racing the insert; the
+    // service takes its database permit around its own transaction
+    CreateHoldResponse response;
+    try {
+      response = createHoldSingleFlight.execute(request.getTransactionId(),
+          () -> holdService.createHold(request));
+    } catch (RuntimeException e) {
+      if (idempotencyKey != null) {
+        idempotencyResponseCache.release(idempotencyKey, requestHash);
+      }
+      throw e;
+    }
+    HttpStatus status = response.isRejected() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+    if (idempotencyKey != null) {
+      idempotencyResponseCache.save(idempotencyKey,
+          new StoredResponse(requestHash, status.value(), response));
+    }
+    if (!response.isRejected()) {
+      // Rejections are already logged, rate-limited, by the pre-checks
+      log.info("Hold created with ID: {}, status: {}", response.getHoldId(), response.getStatus());
+    }
+    return ResponseEntity.status(status).body(response);
+  }
+
+  @GetMapping("/{holdId}")
+  @Operation(summary = "Get a hold", description = "Returns a hold by id; supports If-None-Match", tags = {
+      "internal"})
+  public ResponseEntity<HoldResponse> getHold(@PathVariable Long holdId, WebRequest webRequest) {
+    return toConditionalResponse(holdQueryService.findHold(holdId), webRequest);
+  }
+
+  @GetMapping(params = "transactionId")
+  @Operation(summary = "Find a hold by transaction", description = "Returns the hold placed for a transaction; supports If-None-Match", tags = {
+      "internal"})
+  public ResponseEntity<HoldResponse> getHoldByTransactionId(@RequestParam Long transactionId,
+      WebRequest webRequest) {
+    return toConditionalResponse(holdQueryService.findHoldByTransactionId(transactionId),
+        webRequest);
+  }
+
+  private ResponseEntity<HoldResponse> toConditionalResponse(Optional<HoldResponse> hold,
+      WebRequest webRequest) {
+    if (hold.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    String eTag = hold.get().eTag();
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    return ResponseEntity.ok().eTag(eTag).body(hold.get());
   }
 
   @ExceptionHandler(IllegalArgumentException.class)
@@ -41,4 +128,25 @@ public class HoldController {
     log.error("Invalid request: {}", e.getMessage());
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
   }
+
+  @ExceptionHandler(IdempotencyKeyConflictException.class)
+  public ResponseEntity<String> handleIdempotencyKeyConflictException(
+      IdempotencyKeyConflictException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+  }
+
+  @ExceptionHandler(DatabaseBusyException.class)
+  public ResponseEntity<String> handleDatabaseBusyException(DatabaseBusyException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+        .body(e.getMessage());
+  }
+
+  @ExceptionHandler(PreCheckTimeoutException.class)
+  public ResponseEntity<String> handlePreCheckTimeoutException(PreCheckTimeoutException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+        .body(e.getMessage());
+  }
 }
@@ -0,0 +1,39 @@
+package com.creditx.hold.controller;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.service.AccountExposureService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux counterpart of {@link AccountExposureController}, served when the {@code reactive}
+ * profile is active.
+ */
+@RestController
+@RequestMapping("/api/accounts")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAccountExposureController {
+
+  private final AccountExposureService accountExposureService;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+  @GetMapping("/{accountId}/exposure")
+  @Operation(summary = "Get account exposure", description = "Returns the total amount and number of holds currently authorized on an account", tags = {
+      "internal"})
+  public Mono<ResponseEntity<AccountExposureResponse>> getExposure(@PathVariable Long accountId) {
+    // The exposure is read over JDBC, so off the event loop
+    return Mono.fromCallable(() -> ResponseEntity.ok(
+            databaseConcurrencyLimiter.call(() -> accountExposureService.getExposure(accountId))))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+}
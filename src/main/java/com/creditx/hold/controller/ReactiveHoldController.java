@@ -0,0 +1,159 @@
+package com.creditx.hold.controller;
+
+import com.creditx.hold.cache.IdempotencyKeyConflictException;
+import com.creditx.hold.cache.IdempotencyResponseCache;
+import com.creditx.hold.cache.IdempotencyResponseCache.StoredResponse;
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.fraud.PreCheckTimeoutException;
+import com.creditx.hold.service.HoldQueryService;
+import com.creditx.hold.service.ReactiveHoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux counterpart of {@link HoldController}, served when the {@code reactive} profile is active.
+ * Reads and idempotency keys go through the same JDBC-backed services as on the servlet stack, on
+ * the bounded elastic scheduler rather than the event loop.
+ */
+@RestController
+@RequestMapping("/api/holds")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveHoldController {
+
+  private final ReactiveHoldService holdService;
+  private final HoldQueryService holdQueryService;
+  private final IdempotencyResponseCache idempotencyResponseCache;
+
+  @PostMapping
+  @Operation(summary = "Create a hold", description = "Creates a new hold (authorization) on a payer account", tags = {
+      "internal"})
+  public Mono<ResponseEntity<CreateHoldResponse>> createHold(
+      @RequestHeader(value = HoldController.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+      @Validated @RequestBody CreateHoldRequest request) {
+    if (idempotencyKey == null) {
+      return create(request);
+    }
+    // Retries carrying the same key are answered from the stored response; otherwise the key is
+    // reserved for this request
+    String requestHash = IdempotencyResponseCache.requestHash(request);
+    return blocking(() -> idempotencyResponseCache.reserve(idempotencyKey, requestHash))
+        .flatMap(stored -> {
+          if (stored.isPresent()) {
+            log.debug("Replaying response for idempotency key {}", idempotencyKey);
+            return Mono.just(ResponseEntity.status(stored.get().statusCode())
+                .body(stored.get().body()));
+          }
+          return create(request)
+              .onErrorResume(e -> blocking(() -> {
+                idempotencyResponseCache.release(idempotencyKey, requestHash);
+                return Boolean.TRUE;
+              }).then(Mono.error(e)))
+              .flatMap(response -> blocking(() -> {
+                idempotencyResponseCache.save(idempotencyKey,
+                    new StoredResponse(requestHash, response.getStatusCode().value(),
+                        response.getBody()));
+                return response;
+              }));
+        });
+  }
+
+  private Mono<ResponseEntity<CreateHoldResponse>> create(CreateHoldRequest request) {
+    log.info("Creating hold for transaction: {}, issuer: {}, merchant: {}, amount (minor units): {}",
+        request.getTransactionId(), request.getIssuerAccountId(), request.getMerchantAccountId(),
+        request.getAmount());
+    return holdService.createHold(request).map(response -> {
+      if (response.isRejected()) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+      }
+      log.info("Hold created with ID: {}, status: {}", response.getHoldId(),
+          response.getStatus());
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    });
+  }
+
+  @GetMapping("/{holdId}")
+  @Operation(summary = "Get a hold", description = "Returns a hold by id; supports If-None-Match", tags = {
+      "internal"})
+  public Mono<ResponseEntity<HoldResponse>> getHold(@PathVariable Long holdId,
+      ServerWebExchange exchange) {
+    return blocking(() -> holdQueryService.findHold(holdId))
+        .map(hold -> toConditionalResponse(hold, exchange));
+  }
+
+  @GetMapping(params = "transactionId")
+  @Operation(summary = "Find a hold by transaction", description = "Returns the hold placed for a transaction; supports If-None-Match", tags = {
+      "internal"})
+  public Mono<ResponseEntity<HoldResponse>> getHoldByTransactionId(
+      @RequestParam Long transactionId, ServerWebExchange exchange) {
+    return blocking(() -> holdQueryService.findHoldByTransactionId(transactionId))
+        .map(hold -> toConditionalResponse(hold, exchange));
+  }
+
+  private ResponseEntity<HoldResponse> toConditionalResponse(Optional<HoldResponse> hold,
+      ServerWebExchange exchange) {
+    if (hold.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    String eTag = hold.get().eTag();
+    if (exchange.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    return ResponseEntity.ok().eTag(eTag).body(hold.get());
+  }
+
+  private static <T> Mono<T> blocking(Callable<T> call) {
+    return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+    log.error("Invalid request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+  }
+
+  @ExceptionHandler(IdempotencyKeyConflictException.class)
+  public ResponseEntity<String> handleIdempotencyKeyConflictException(
+      IdempotencyKeyConflictException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+  }
+
+  @ExceptionHandler(DatabaseBusyException.class)
+  public ResponseEntity<String> handleDatabaseBusyException(DatabaseBusyException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+        .body(e.getMessage());
+  }
+
+  @ExceptionHandler(PreCheckTimeoutException.class)
+  public ResponseEntity<String> handlePreCheckTimeoutException(PreCheckTimeoutException e) {
+    log.warn("Rejecting request: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+        .body(e.getMessage());
+  }
+}
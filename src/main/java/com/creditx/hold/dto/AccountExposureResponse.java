@@ -0,0 +1,24 @@
+package com.creditx.hold.dto;
+
+import com.creditx.hold.util.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountExposureResponse {
+
+  private Long accountId;
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @Schema(type = "number", example = "100.00")
+  private Long heldAmount;
+  private Long activeHoldCount;
+  private Instant updatedAt;
+}
@@ -1,9 +1,13 @@
 package com.creditx.hold.dto;
 
+import com.creditx.hold.util.MinorUnitsDeserializer;
+import com.creditx.hold.util.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,9 +25,15 @@ public class CreateHoldRequest {
   private Long issuerAccountId;
   @NotNull
   private Long merchantAccountId;
+  /**
+   * Amount in minor units (cents); JSON carries the decimal amount.
+   */
   @NotNull
-  @Min(1)
-  private BigDecimal amount;
+  @Min(100)
+  @JsonDeserialize(using = MinorUnitsDeserializer.class)
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @Schema(type = "number", example = "100.00")
+  private Long amount;
   @Size(min = 3, max = 3)
   @Builder.Default
   private String currency = "USD";
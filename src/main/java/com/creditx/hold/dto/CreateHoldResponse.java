@@ -1,6 +1,9 @@
 package com.creditx.hold.dto;
 
+import com.creditx.hold.fraud.FraudReason;
 import com.creditx.hold.model.HoldStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,4 +17,17 @@ public class CreateHoldResponse {
 
   private Long holdId;
   private HoldStatus status;
+
+  // Set only when the pre-checks rejected the request and no hold was placed
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private FraudReason reasonCode;
+
+  public static CreateHoldResponse rejected(FraudReason reason) {
+    return CreateHoldResponse.builder().reasonCode(reason).build();
+  }
+
+  @JsonIgnore
+  public boolean isRejected() {
+    return reasonCode != null;
+  }
 }
@@ -0,0 +1,37 @@
+package com.creditx.hold.dto;
+
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.util.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldResponse {
+
+  private Long holdId;
+  private Long transactionId;
+  private Long accountId;
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @Schema(type = "number", example = "100.00")
+  private Long amount;
+  private HoldStatus status;
+  private Instant expiresAt;
+
+  /**
+   * Entity tag for conditional reads. Status is the only attribute of a hold that changes after
+   * creation, so id and status identify a representation.
+   *
+   * @return quoted strong entity tag
+   */
+  public String eTag() {
+    return "\"" + holdId + "-" + status + "\"";
+  }
+}
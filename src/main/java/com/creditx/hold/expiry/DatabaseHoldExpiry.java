@@ -0,0 +1,79 @@
+package com.creditx.hold.expiry;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.index.ActiveHoldIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+
+/**
+ * Expires a chunk of holds inside the database with one call to CHS_EXPIRE_HOLDS_CHUNK (V10),
+ * which locks, updates, releases exposure and writes the hold.expired events set-based. Only the
+ * ids of the expired holds come back, to evict them from the hold cache and the active hold
+ * index once the chunk commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseHoldExpiry {
+
+  private static final String EXPIRE_CHUNK_CALL = "{call CHS_EXPIRE_HOLDS_CHUNK(?, ?, ?, ?, ?)}";
+
+  private final EntityManager entityManager;
+  private final HoldCache holdCache;
+  private final ActiveHoldIndex activeHoldIndex;
+
+  /**
+   * Expire up to {@code limit} holds of a shard that were due before {@code currentTime}, oldest
+   * first.
+   *
+   * @return ids of the holds expired
+   */
+  @Transactional(TxType.REQUIRES_NEW)
+  public List<Long> expireChunk(Instant currentTime, int shards, int shard, int limit) {
+    List<Long> expired = entityManager.unwrap(Session.class).doReturningWork(
+        connection -> call(connection, currentTime, shards, shard, limit));
+    for (Long holdId : expired) {
+      holdCache.evict(holdId);
+      activeHoldIndex.recordExpired(holdId);
+    }
+    log.debug("Expired {} holds of shard {} in the database", expired.size(), shard);
+    return expired;
+  }
+
+  private static List<Long> call(Connection connection, Instant currentTime, int shards,
+      int shard, int limit) throws SQLException {
+    try (CallableStatement call = connection.prepareCall(EXPIRE_CHUNK_CALL)) {
+      call.setObject(1, currentTime.atOffset(ZoneOffset.UTC));
+      call.setInt(2, shards);
+      call.setInt(3, shard);
+      call.setInt(4, limit);
+      call.registerOutParameter(5, Types.ARRAY, "SYS.ODCINUMBERLIST");
+      call.execute();
+      Array ids = call.getArray(5);
+      try {
+        Object[] values = (Object[]) ids.getArray();
+        List<Long> holdIds = new ArrayList<>(values.length);
+        for (Object value : values) {
+          holdIds.add(((Number) value).longValue());
+        }
+        return holdIds;
+      } finally {
+        ids.free();
+      }
+    }
+  }
+}
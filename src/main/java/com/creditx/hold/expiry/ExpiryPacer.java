@@ -0,0 +1,234 @@
+package com.creditx.hold.expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Paces hold expiry, so a peak of authorizations does not come back as a spike of hold.expired
+ * events a week later. With {@code app.hold.expiry.pacing.enabled}, both expiry paths take
+ * permits from a token bucket refilled at {@code app.hold.expiry.pacing.per-second} holds per
+ * second, overridden for given hours of the day in {@code app.hold.expiry.pacing.zone} by
+ * {@code app.hold.expiry.pacing.hourly-per-second}, e.g. {@code 17=100,18=100}. The rates are
+ * for the whole cluster: every replica both sweeps and runs a wheel, so each one paces at its
+ * {@code app.hold.expiry.pacing.replicas}th share.
+ *
+ * <p>The bucket is split between the two paths, {@code app.hold.expiry.pacing.wheel-share} of the
+ * rate going to the timing wheel and the rest to the sweep, each holding one second of its share
+ * so bursts are bounded too. A share the other path leaves unused spills over, so either path
+ * gets the whole rate while the other is idle. Holds held back stay AUTHORIZED and become expiry
+ * debt, which the sweep measures and drains oldest first, while the wheel keeps firing the holds
+ * due now within its share.
+ */
+@Component
+@Slf4j
+public class ExpiryPacer {
+
+  private static final long MAX_SLEEP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final boolean enabled;
+  private final double[] ratesByHour = new double[24];
+  private final ZoneId zone;
+  private final double wheelShare;
+  // Token buckets and expiry debt; guarded by this
+  private double wheelTokens;
+  private double sweepTokens;
+  private long refilledAt;
+  private long debt;
+  private Instant oldestDue;
+
+  public ExpiryPacer(@Value("${app.hold.expiry.pacing.enabled:false}") boolean enabled,
+      @Value("${app.hold.expiry.pacing.per-second:200}") double perSecond,
+      @Value("${app.hold.expiry.pacing.hourly-per-second:}") String hourlyPerSecond,
+      @Value("${app.hold.expiry.pacing.zone:UTC}") String zone,
+      @Value("${app.hold.expiry.pacing.replicas:1}") int replicas,
+      @Value("${app.hold.expiry.pacing.wheel-share:0.5}") double wheelShare,
+      MeterRegistry meterRegistry) {
+    if (replicas < 1) {
+      throw new IllegalArgumentException("Expiry pacing needs at least one replica");
+    }
+    if (wheelShare <= 0 || wheelShare >= 1) {
+      throw new IllegalArgumentException("The wheel share of the expiry rate must be in (0, 1)");
+    }
+    this.enabled = enabled;
+    this.zone = ZoneId.of(zone);
+    this.wheelShare = wheelShare;
+    Arrays.fill(ratesByHour, perSecond);
+    for (String override : hourlyPerSecond.split(",")) {
+      if (override.isBlank()) {
+        continue;
+      }
+      String[] hourAndRate = override.split("=");
+      if (hourAndRate.length != 2) {
+        throw new IllegalArgumentException("Invalid hourly expiry rate: " + override);
+      }
+      int hour = Integer.parseInt(hourAndRate[0].trim());
+      if (hour < 0 || hour > 23) {
+        throw new IllegalArgumentException("Invalid hour in hourly expiry rate: " + override);
+      }
+      ratesByHour[hour] = Double.parseDouble(hourAndRate[1].trim());
+    }
+    for (int hour = 0; hour < ratesByHour.length; hour++) {
+      if (ratesByHour[hour] < 0) {
+        throw new IllegalArgumentException("Expiry rates must not be negative");
+      }
+      ratesByHour[hour] /= replicas;
+    }
+    double rate = currentRate();
+    this.wheelTokens = capacity(rate * wheelShare);
+    this.sweepTokens = capacity(rate * (1 - wheelShare));
+    this.refilledAt = System.nanoTime();
+    Gauge.builder("hold.expiry.debt", this, ExpiryPacer::debt)
+        .description("AUTHORIZED holds past their expiresAt, as of the last sweep, less those "
+            + "it expired since").register(meterRegistry);
+    Gauge.builder("hold.expiry.debt.age", this, ExpiryPacer::debtAgeSeconds).baseUnit("seconds")
+        .description("How long the oldest hold of the expiry debt has been overdue")
+        .register(meterRegistry);
+    if (enabled) {
+      Gauge.builder("hold.expiry.pacing.rate", this, ExpiryPacer::currentRate)
+          .description("Holds expired per second allowed on this instance at this hour")
+          .register(meterRegistry);
+      log.info("Hold expiry pacing: {} holds per second on this instance by hour of day in {}, "
+          + "{} of them for the timing wheel", Arrays.toString(ratesByHour), zone, wheelShare);
+    }
+  }
+
+  /**
+   * Permits for the sweep: wait until a chunk of up to {@code max} holds may be expired.
+   *
+   * @return the number of holds that may be expired, between 1 and {@code max}, or 0 if the
+   *     permits cannot be had before {@code deadline}
+   */
+  public int acquire(int max, Instant deadline) {
+    if (!enabled) {
+      return max;
+    }
+    while (true) {
+      long waitNanos;
+      synchronized (this) {
+        double rate = refill();
+        // Whole chunks of up to a second's worth, rather than many chunks of one hold
+        int wanted = (int) Math.min(max, capacity(rate * (1 - wheelShare)));
+        if (sweepTokens >= wanted) {
+          sweepTokens -= wanted;
+          return wanted;
+        }
+        // The sweep's share comes in, and the wheel's too while the wheel's bucket is full
+        double sweepRate = wheelTokens >= capacity(rate * wheelShare) ? rate
+            : rate * (1 - wheelShare);
+        waitNanos = rate > 0 ? (long) Math.ceil((wanted - sweepTokens) / sweepRate * 1e9)
+            : Long.MAX_VALUE;
+      }
+      long untilDeadline = Duration.between(Instant.now(), deadline).toNanos();
+      if (waitNanos > untilDeadline) {
+        return 0;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(Math.min(waitNanos, MAX_SLEEP_NANOS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Permits for the timing wheel, without waiting.
+   *
+   * @return the number of holds that may be expired now, at most {@code max}
+   */
+  public synchronized int tryAcquire(int max) {
+    if (!enabled) {
+      return max;
+    }
+    refill();
+    int granted = (int) Math.min(max, Math.floor(wheelTokens));
+    wheelTokens -= granted;
+    return granted;
+  }
+
+  /**
+   * Settle a sweep chunk: return the permits it did not use and take the holds it expired off
+   * the debt.
+   */
+  public synchronized void settle(int permits, int expired) {
+    if (enabled && permits > expired) {
+      double rate = currentRate();
+      sweepTokens = Math.min(capacity(rate * (1 - wheelShare)), sweepTokens + permits - expired);
+    }
+    debt = Math.max(0, debt - expired);
+  }
+
+  /**
+   * Record the overdue holds measured by the sweep.
+   *
+   * @param oldest expiresAt of the oldest of them, or null if there are none
+   */
+  public synchronized void recordDebt(long holds, Instant oldest) {
+    debt = holds;
+    oldestDue = holds > 0 ? oldest : null;
+  }
+
+  /**
+   * Add holds the wheel left to the sweep to the debt.
+   */
+  public synchronized void deferred(int holds, Instant oldest) {
+    debt += holds;
+    if (oldestDue == null || oldest.isBefore(oldestDue)) {
+      oldestDue = oldest;
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized long debt() {
+    return debt;
+  }
+
+  double ratePerSecond(int hour) {
+    return ratesByHour[hour];
+  }
+
+  private synchronized double debtAgeSeconds() {
+    if (debt == 0 || oldestDue == null) {
+      return 0;
+    }
+    return Math.max(0, Duration.between(oldestDue, Instant.now()).toMillis() / 1000.0);
+  }
+
+  private double currentRate() {
+    return ratesByHour[ZonedDateTime.now(zone).getHour()];
+  }
+
+  // At least one token, so rates below one hold per second still make progress
+  private static double capacity(double rate) {
+    return Math.max(1, Math.floor(rate));
+  }
+
+  private double refill() {
+    double rate = currentRate();
+    long now = System.nanoTime();
+    double added = (now - refilledAt) * rate / 1e9;
+    refilledAt = now;
+    double wheelCapacity = capacity(rate * wheelShare);
+    double sweepCapacity = capacity(rate * (1 - wheelShare));
+    double wheel = wheelTokens + added * wheelShare;
+    double sweep = sweepTokens + added * (1 - wheelShare);
+    // What overflows one bucket goes to the other, so an idle path does not waste its share
+    wheelTokens = Math.min(wheelCapacity,
+        Math.min(wheel, wheelCapacity) + Math.max(0, sweep - sweepCapacity));
+    sweepTokens = Math.min(sweepCapacity,
+        Math.min(sweep, sweepCapacity) + Math.max(0, wheel - wheelCapacity));
+    return rate;
+  }
+}
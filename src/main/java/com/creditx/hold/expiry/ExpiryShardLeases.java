@@ -0,0 +1,92 @@
+package com.creditx.hold.expiry;
+
+import com.creditx.hold.model.ExpiryShardLease;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.ExpiryShardLeaseRepository;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This instance's side of the expiry shard leases in CHS_EXPIRY_SHARD_LEASES. A lease is extended
+ * with every chunk processed, so it only lapses when its owner stops making progress, and another
+ * instance taking it over resumes from the last recorded cursor.
+ */
+@Component
+public class ExpiryShardLeases {
+
+  private final ExpiryShardLeaseRepository expiryShardLeaseRepository;
+  private final Duration leaseDuration;
+  private final String owner;
+
+  public ExpiryShardLeases(ExpiryShardLeaseRepository expiryShardLeaseRepository,
+      @Value("${app.hold.expiry.shards.lease-ms:120000}") long leaseMs,
+      @Value("${HOSTNAME:hold-service}") String hostname) {
+    this.expiryShardLeaseRepository = expiryShardLeaseRepository;
+    this.leaseDuration = Duration.ofMillis(leaseMs);
+    this.owner = hostname + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  public String owner() {
+    return owner;
+  }
+
+  /**
+   * Take a shard's lease.
+   *
+   * @return the lease row, carrying the cursor left by the previous owner, or empty if another
+   *     instance holds the lease
+   * @throws org.springframework.dao.DataIntegrityViolationException if another instance created
+   *     the shard's row at the same time
+   */
+  @Transactional
+  public Optional<ExpiryShardLease> tryAcquire(int shard) {
+    Instant now = Instant.now();
+    if (expiryShardLeaseRepository.acquire(shard, owner, now, now.plus(leaseDuration)) == 0) {
+      return Optional.empty();
+    }
+    return expiryShardLeaseRepository.findById(shard);
+  }
+
+  /**
+   * Record the last hold processed in a shard and extend the lease.
+   *
+   * @return false if the lease has been taken over
+   */
+  @Transactional
+  public boolean advance(int shard, ExpiringHold last) {
+    return expiryShardLeaseRepository.advance(shard, owner, last.expiresAt(), last.holdId(),
+        Instant.now().plus(leaseDuration)) == 1;
+  }
+
+  /**
+   * Extend the lease of a shard swept without a cursor, see {@link DatabaseHoldExpiry}.
+   *
+   * @return false if the lease has been taken over
+   */
+  @Transactional
+  public boolean renew(int shard) {
+    return expiryShardLeaseRepository.advance(shard, owner, null, null,
+        Instant.now().plus(leaseDuration)) == 1;
+  }
+
+  /**
+   * Release a shard's lease before its sweep finished, so the next sweep resumes from its cursor.
+   */
+  @Transactional
+  public void release(int shard) {
+    expiryShardLeaseRepository.release(shard, owner);
+  }
+
+  /**
+   * Mark a shard's sweep finished and release its lease.
+   */
+  @Transactional
+  public void complete(int shard) {
+    expiryShardLeaseRepository.complete(shard, owner);
+  }
+}
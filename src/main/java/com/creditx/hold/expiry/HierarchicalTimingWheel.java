@@ -0,0 +1,119 @@
+package com.creditx.hold.expiry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): level {@code L} has {@code wheelSize} buckets,
+ * each spanning {@code tickMs * wheelSize^L}. An item is placed on the lowest level whose range
+ * still covers its deadline; when time reaches a higher-level bucket, its items cascade down to
+ * finer levels. Adding and firing cost O(1) per item and level, and memory is one small entry per
+ * scheduled item, however far apart the deadlines are.
+ *
+ * <p>Deadlines are rounded up to the next tick, so items are never returned before their deadline
+ * and at most one tick after it. Not thread-safe on its own; callers serialize access.
+ */
+public class HierarchicalTimingWheel<T> {
+
+  private final long tickMs;
+  private final int bits;
+  private final int mask;
+  private final ArrayDeque<Entry<T>>[][] buckets;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+    if (Integer.bitCount(wheelSize) != 1 || levels < 1
+        || Integer.numberOfTrailingZeros(wheelSize) * levels >= 62) {
+      throw new IllegalArgumentException(
+          "Wheel size must be a power of two and the wheel must span less than 2^62 ticks");
+    }
+    this.tickMs = tickMs;
+    this.bits = Integer.numberOfTrailingZeros(wheelSize);
+    this.mask = wheelSize - 1;
+    this.buckets = new ArrayDeque[levels][wheelSize];
+    this.currentTick = Math.floorDiv(startMs, tickMs);
+  }
+
+  /**
+   * How far ahead of the current time deadlines can always be scheduled.
+   */
+  public long spanMs() {
+    int top = bits * (buckets.length - 1);
+    return ((1L << (top + bits)) - (1L << top)) * tickMs;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Schedule an item.
+   *
+   * @return false if the deadline is beyond the top level's range (at least {@link #spanMs()});
+   *     items whose deadline has passed fire on the next tick
+   */
+  public boolean add(T item, long deadlineMs) {
+    long deadlineTick = Math.max(-Math.floorDiv(-deadlineMs, tickMs), currentTick + 1);
+    int top = bits * (buckets.length - 1);
+    if ((deadlineTick >> top) - (currentTick >> top) > mask) {
+      return false;
+    }
+    place(new Entry<>(item, deadlineTick));
+    size++;
+    return true;
+  }
+
+  /**
+   * Move the wheel to {@code nowMs}, returning the items whose deadline has been reached.
+   */
+  public List<T> advance(long nowMs) {
+    long targetTick = Math.floorDiv(nowMs, tickMs);
+    List<T> due = new ArrayList<>();
+    while (currentTick < targetTick) {
+      currentTick++;
+      // Cascade coarser buckets that start at this tick, highest level first
+      for (int level = buckets.length - 1; level > 0; level--) {
+        if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+          var cascading = take(level, currentTick);
+          if (cascading != null) {
+            cascading.forEach(this::place);
+          }
+        }
+      }
+      var expired = take(0, currentTick);
+      if (expired != null) {
+        expired.forEach(entry -> due.add(entry.item()));
+        size -= expired.size();
+      }
+    }
+    return due;
+  }
+
+  private void place(Entry<T> entry) {
+    int level = 0;
+    while ((entry.deadlineTick() >> (bits * level)) - (currentTick >> (bits * level)) > mask) {
+      level++;
+    }
+    int index = (int) ((entry.deadlineTick() >> (bits * level)) & mask);
+    var bucket = buckets[level][index];
+    if (bucket == null) {
+      bucket = new ArrayDeque<>();
+      buckets[level][index] = bucket;
+    }
+    bucket.add(entry);
+  }
+
+  private ArrayDeque<Entry<T>> take(int level, long tick) {
+    int index = (int) ((tick >> (bits * level)) & mask);
+    var bucket = buckets[level][index];
+    buckets[level][index] = null;
+    return bucket;
+  }
+
+  private record Entry<T>(T item, long deadlineTick) {
+
+  }
+}
@@ -0,0 +1,130 @@
+package com.creditx.hold.expiry;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.index.ActiveHoldIndex;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
+import com.creditx.hold.service.OutboxEventService;
+import com.creditx.hold.util.MinorUnitsSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Expires one chunk of holds in its own transaction: locks the rows still AUTHORIZED, moves them
+ * to EXPIRED with one UPDATE, releases their exposure per account and inserts their hold.expired
+ * events as one batch. Rows locked by a concurrent transition are skipped and left to it.
+ */
+@Service
+@Slf4j
+public class HoldExpiryChunkProcessor {
+
+  // Chunk ids are bound as IN lists, and Oracle rejects lists over 1000 (ORA-01795)
+  static final int MAX_CHUNK_SIZE = 1000;
+
+  private final HoldRepository holdRepository;
+  private final OutboxEventService outboxEventService;
+  private final AccountExposureService accountExposureService;
+  private final HoldCache holdCache;
+  private final ActiveHoldIndex activeHoldIndex;
+  private final int chunkSize;
+  private final ObjectMapper objectMapper;
+
+  public HoldExpiryChunkProcessor(HoldRepository holdRepository,
+      OutboxEventService outboxEventService, AccountExposureService accountExposureService,
+      HoldCache holdCache, ActiveHoldIndex activeHoldIndex,
+      @Value("${app.hold.expiry.chunk-size:500}") int chunkSize) {
+    if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+      throw new IllegalArgumentException(
+          "app.hold.expiry.chunk-size must be between 1 and " + MAX_CHUNK_SIZE);
+    }
+    this.holdRepository = holdRepository;
+    this.outboxEventService = outboxEventService;
+    this.accountExposureService = accountExposureService;
+    this.holdCache = holdCache;
+    this.activeHoldIndex = activeHoldIndex;
+    this.chunkSize = chunkSize;
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.findAndRegisterModules(); // This enables JSR310 module for Instant serialization
+  }
+
+  /**
+   * Number of holds read and expired per transaction.
+   */
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Expire the given holds that are still AUTHORIZED.
+   *
+   * @return the holds expired, as detached entities in EXPIRED status
+   */
+  @Transactional(TxType.REQUIRES_NEW)
+  public List<Hold> expire(List<ExpiringHold> candidates) {
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    Set<Long> lockedIds = new HashSet<>();
+    holdRepository.lockAuthorized(
+            candidates.stream().map(ExpiringHold::holdId).distinct().toList())
+        .forEach(id -> lockedIds.add(id.longValue()));
+    if (lockedIds.isEmpty()) {
+      return List.of();
+    }
+    // The locked rows cannot move on before commit, so all of them are updated
+    holdRepository.updateStatusIn(Set.copyOf(lockedIds), HoldStatus.AUTHORIZED,
+        HoldStatus.EXPIRED);
+
+    List<Hold> expired = new ArrayList<>(lockedIds.size());
+    Map<Long, String> payloads = new LinkedHashMap<>();
+    for (ExpiringHold candidate : candidates) {
+      // Removing the id once used keeps a hold listed twice from being released twice
+      if (lockedIds.remove(candidate.holdId())) {
+        Hold hold = candidate.toHold(HoldStatus.EXPIRED);
+        expired.add(hold);
+        payloads.put(hold.getHoldId(), expiredPayload(hold));
+      }
+    }
+    accountExposureService.holdsReleased(expired);
+    outboxEventService.saveEvents("hold.expired", payloads);
+    for (Hold hold : expired) {
+      holdCache.put(hold);
+      activeHoldIndex.record(hold);
+    }
+    log.debug("Expired {} of {} holds in chunk", expired.size(), candidates.size());
+    return expired;
+  }
+
+  private String expiredPayload(Hold hold) {
+    var payload = new HoldExpiredPayload(hold.getHoldId(), hold.getTransactionId(),
+        hold.getAccountId(), hold.getAmount(), hold.getStatus().toString(), hold.getExpiresAt());
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize hold expired event payload", e);
+    }
+  }
+
+  // Simple record for JSON serialization
+  private record HoldExpiredPayload(Long holdId, Long transactionId, Long accountId,
+                                    @JsonSerialize(using = MinorUnitsSerializer.class) Long amount,
+                                    String status, Instant expiresAt) {
+
+  }
+}
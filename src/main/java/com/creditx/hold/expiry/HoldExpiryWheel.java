@@ -0,0 +1,171 @@
+package com.creditx.hold.expiry;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.config.SchedulerConfig;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expires holds within about one tick of their {@code expiresAt}. AUTHORIZED holds expiring
+ * within the horizon are loaded from CHS_HOLDS into a {@link HierarchicalTimingWheel}, window by
+ * window, and expired in chunks as their deadlines pass, so memory stays proportional to the holds
+ * expiring within the horizon.
+ *
+ * <p>The periodic sweep in {@code HoldService.expireHolds} remains the safety net: it expires
+ * anything the wheel misses, such as holds inserted into a window already loaded, holds of a
+ * chunk that failed, or holds that came due while the instance was down. Both paths lock and
+ * update only rows still AUTHORIZED, so a hold is never expired twice.
+ *
+ * <p>Due holds take their permits from the {@link ExpiryPacer} without waiting, oldest first;
+ * those it holds back are left to the sweep as expiry debt.
+ */
+@Component
+@ConditionalOnProperty(name = "app.hold.expiry.wheel.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class HoldExpiryWheel {
+
+  private final HoldRepository holdRepository;
+  private final HoldExpiryChunkProcessor expiryChunkProcessor;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final ExpiryPacer expiryPacer;
+  private final long horizonMs;
+  private final HierarchicalTimingWheel<ExpiringHold> wheel;
+  private final Timer firingLag;
+  // Holds expiring before this instant have been loaded; guarded by this
+  private Instant loadedUntil;
+
+  public HoldExpiryWheel(HoldRepository holdRepository,
+      HoldExpiryChunkProcessor expiryChunkProcessor,
+      DatabaseConcurrencyLimiter databaseConcurrencyLimiter, ExpiryPacer expiryPacer,
+      @Value("${app.hold.expiry.wheel.tick-ms:1000}") long tickMs,
+      @Value("${app.hold.expiry.wheel.wheel-size:64}") int wheelSize,
+      @Value("${app.hold.expiry.wheel.horizon-ms:900000}") long horizonMs,
+      MeterRegistry meterRegistry) {
+    this.holdRepository = holdRepository;
+    this.expiryChunkProcessor = expiryChunkProcessor;
+    this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+    this.expiryPacer = expiryPacer;
+    this.horizonMs = horizonMs;
+    this.loadedUntil = Instant.now();
+    int levels = 1;
+    while (new HierarchicalTimingWheel<>(tickMs, wheelSize, levels, 0).spanMs() < horizonMs) {
+      levels++;
+    }
+    this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, levels,
+        loadedUntil.toEpochMilli());
+    Gauge.builder("hold.expiry.wheel.size", this, HoldExpiryWheel::size)
+        .description("Holds scheduled in the expiry timing wheel").register(meterRegistry);
+    this.firingLag = Timer.builder("hold.expiry.wheel.lag")
+        .description("Delay between a hold's expiresAt and the wheel firing its expiry")
+        .register(meterRegistry);
+    log.info("Hold expiry wheel: {} ms ticks, {} levels of {} buckets, {} ms horizon", tickMs,
+        levels, wheelSize, horizonMs);
+  }
+
+  public synchronized int size() {
+    return wheel.size();
+  }
+
+  /**
+   * Load the holds expiring between the end of the last loaded window and the horizon.
+   */
+  @Scheduled(fixedDelayString = "${app.hold.expiry.wheel.load-interval-ms:60000}",
+      scheduler = SchedulerConfig.EXPIRY_WHEEL_LOAD_SCHEDULER)
+  public void load() {
+    Instant from;
+    synchronized (this) {
+      from = loadedUntil;
+    }
+    Instant until = Instant.now().plusMillis(horizonMs);
+    try {
+      int loaded = databaseConcurrencyLimiter.call(() -> loadWindow(from, until));
+      synchronized (this) {
+        loadedUntil = until;
+      }
+      log.debug("Loaded {} holds expiring before {} into the expiry wheel", loaded, until);
+    } catch (Exception e) {
+      log.error("Error occurred while loading holds into the expiry wheel", e);
+    }
+  }
+
+  /**
+   * Expire the holds whose deadline has passed.
+   */
+  @Scheduled(fixedRateString = "${app.hold.expiry.wheel.tick-ms:1000}",
+      scheduler = SchedulerConfig.EXPIRY_WHEEL_TICK_SCHEDULER)
+  public void fire() {
+    Instant now = Instant.now();
+    List<ExpiringHold> due;
+    synchronized (this) {
+      due = wheel.advance(now.toEpochMilli());
+    }
+    if (due.isEmpty()) {
+      return;
+    }
+    int permits = expiryPacer.tryAcquire(due.size());
+    if (permits < due.size()) {
+      due = new ArrayList<>(due);
+      due.sort(Comparator.comparing(ExpiringHold::expiresAt).thenComparing(ExpiringHold::holdId));
+      List<ExpiringHold> deferred = due.subList(permits, due.size());
+      expiryPacer.deferred(deferred.size(), deferred.get(0).expiresAt());
+      log.debug("Left {} due holds to the expiry sweep: expiry rate limit reached",
+          deferred.size());
+      due = due.subList(0, permits);
+      if (due.isEmpty()) {
+        return;
+      }
+    }
+    for (ExpiringHold hold : due) {
+      firingLag.record(Duration.between(hold.expiresAt(), now));
+    }
+    int chunkSize = expiryChunkProcessor.chunkSize();
+    for (int from = 0; from < due.size(); from += chunkSize) {
+      List<ExpiringHold> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+      try {
+        databaseConcurrencyLimiter.run(() -> expiryChunkProcessor.expire(chunk));
+      } catch (Exception e) {
+        // Left to the periodic sweep
+        log.error("Failed to expire {} holds from the expiry wheel", chunk.size(), e);
+      }
+    }
+  }
+
+  private int loadWindow(Instant from, Instant until) {
+    int chunkSize = expiryChunkProcessor.chunkSize();
+    Instant afterExpiresAt = from;
+    long afterHoldId = 0;
+    int loaded = 0;
+    List<ExpiringHold> chunk;
+    do {
+      chunk = holdRepository.findExpiredChunk(HoldStatus.AUTHORIZED, until, afterExpiresAt,
+          afterHoldId, Limit.of(chunkSize));
+      synchronized (this) {
+        for (ExpiringHold hold : chunk) {
+          if (wheel.add(hold, hold.expiresAt().toEpochMilli())) {
+            loaded++;
+          }
+        }
+      }
+      if (!chunk.isEmpty()) {
+        afterExpiresAt = chunk.get(chunk.size() - 1).expiresAt();
+        afterHoldId = chunk.get(chunk.size() - 1).holdId();
+      }
+    } while (chunk.size() == chunkSize);
+    return loaded;
+  }
+}
@@ -0,0 +1,278 @@
+package com.creditx.hold.expiry;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.model.ExpiryShardLease;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * The periodic expiry sweep, split into {@code app.hold.expiry.shards.count} shards by
+ * {@code MOD(HOLD_ID, count)}. Each run tries to lease every shard and sweeps the ones it gets on
+ * a pool of {@code app.hold.expiry.shards.workers} threads, so replicas share the work and each
+ * shard is swept by one instance at a time.
+ *
+ * <p>A shard is read in keyset-paged chunks, oldest first, and its cursor is stored with the lease
+ * after every chunk. If an instance dies mid-sweep, the lease lapses and the next owner resumes
+ * from the cursor, so only the chunk in flight is redone; expiring a hold twice is harmless because
+ * only rows still AUTHORIZED are updated.
+ *
+ * <p>With {@code app.hold.expiry.in-database}, each chunk is one call to
+ * {@link DatabaseHoldExpiry} instead: no holds are read into the application, and as expired
+ * holds no longer match, every call simply takes the oldest due ones, so no cursor is kept.
+ *
+ * <p>Each chunk takes its permits from the {@link ExpiryPacer} first. A shard that cannot get
+ * them within {@code app.hold.expiry.pacing.max-sweep-ms} of the sweep's start is paused: its
+ * lease is released with the cursor kept, and the holds left are the expiry debt measured at the
+ * end of the sweep, expired first by the next one.
+ */
+@Component
+@Slf4j
+public class ShardedHoldExpiry {
+
+  private final HoldRepository holdRepository;
+  private final HoldExpiryChunkProcessor expiryChunkProcessor;
+  private final ExpiryShardLeases expiryShardLeases;
+  private final DatabaseHoldExpiry databaseHoldExpiry;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final ExpiryPacer expiryPacer;
+  private final boolean inDatabase;
+  private final int shards;
+  private final Duration maxSweep;
+  private final ExecutorService workers;
+  private final Timer expiryChunkTimer;
+  private final Counter expiredCounter;
+  private final Counter skippedCounter;
+  private final Counter failedChunkCounter;
+  private final Counter sweptShards;
+  private final Counter busyShards;
+  private final Counter lostShards;
+  private final Counter pausedShards;
+
+  public ShardedHoldExpiry(HoldRepository holdRepository,
+      HoldExpiryChunkProcessor expiryChunkProcessor, ExpiryShardLeases expiryShardLeases,
+      DatabaseHoldExpiry databaseHoldExpiry, DatabaseConcurrencyLimiter databaseConcurrencyLimiter,
+      ExpiryPacer expiryPacer,
+      @Value("${app.hold.expiry.in-database:false}") boolean inDatabase,
+      @Value("${app.hold.expiry.shards.count:16}") int shards,
+      @Value("${app.hold.expiry.shards.workers:4}") int workers,
+      @Value("${app.hold.expiry.pacing.max-sweep-ms:240000}") long maxSweepMs,
+      MeterRegistry meterRegistry) {
+    this.holdRepository = holdRepository;
+    this.expiryChunkProcessor = expiryChunkProcessor;
+    this.expiryShardLeases = expiryShardLeases;
+    this.databaseHoldExpiry = databaseHoldExpiry;
+    this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+    this.expiryPacer = expiryPacer;
+    this.inDatabase = inDatabase;
+    this.shards = shards;
+    this.maxSweep = Duration.ofMillis(maxSweepMs);
+    this.workers = Executors.newFixedThreadPool(workers,
+        Thread.ofPlatform().name("hold-expiry-", 0).daemon().factory());
+    this.expiryChunkTimer = Timer.builder("hold.expiry.chunk.duration")
+        .description("Latency of one expiry chunk transaction, including commit")
+        .register(meterRegistry);
+    this.expiredCounter = Counter.builder("hold.expiry.holds").tag("result", "expired")
+        .description("Holds considered by the expiry job").register(meterRegistry);
+    this.skippedCounter = Counter.builder("hold.expiry.holds").tag("result", "skipped")
+        .description("Holds considered by the expiry job").register(meterRegistry);
+    this.failedChunkCounter = Counter.builder("hold.expiry.chunk.failures")
+        .description("Expiry chunks rolled back").register(meterRegistry);
+    this.sweptShards = shardRuns(meterRegistry, "swept");
+    this.busyShards = shardRuns(meterRegistry, "busy");
+    this.lostShards = shardRuns(meterRegistry, "lost");
+    this.pausedShards = shardRuns(meterRegistry, "paused");
+  }
+
+  private static Counter shardRuns(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("hold.expiry.shards").tag("result", result)
+        .description("Expiry shard sweeps by outcome: swept, leased elsewhere, lease lost, or "
+            + "paused by the expiry rate limit")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workers.shutdownNow();
+  }
+
+  /**
+   * Sweep every shard this instance can lease, in parallel.
+   *
+   * @return the number of holds expired
+   */
+  public long expireAll() {
+    Instant currentTime = Instant.now();
+    Instant deadline = currentTime.plus(maxSweep);
+    // Only paced sweeps leave debt behind, so unpaced ones skip the two queries
+    if (expiryPacer.isEnabled()) {
+      measureDebt(currentTime);
+    }
+    List<Future<Long>> results = new ArrayList<>(shards);
+    for (int shard = 0; shard < shards; shard++) {
+      int s = shard;
+      results.add(workers.submit(() -> expireShard(s, currentTime, deadline)));
+    }
+    long expired = 0;
+    for (int shard = 0; shard < shards; shard++) {
+      try {
+        expired += results.get(shard).get();
+      } catch (ExecutionException e) {
+        log.error("Failed to sweep expiry shard {}", shard, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        results.forEach(result -> result.cancel(true));
+        break;
+      }
+    }
+    // What the paced sweep left
+    if (expiryPacer.isEnabled()) {
+      measureDebt(currentTime);
+    }
+    log.info("Expired {} holds across {} shards", expired, shards);
+    return expired;
+  }
+
+  private void measureDebt(Instant currentTime) {
+    try {
+      long holds = databaseConcurrencyLimiter.call(() -> holdRepository
+          .countByStatusAndExpiresAtBefore(HoldStatus.AUTHORIZED, currentTime));
+      Instant oldest = holds == 0 ? null : databaseConcurrencyLimiter.call(
+          () -> holdRepository.findEarliestExpiresAt(HoldStatus.AUTHORIZED)).orElse(null);
+      expiryPacer.recordDebt(holds, oldest);
+    } catch (RuntimeException e) {
+      log.warn("Could not measure the expiry debt", e);
+    }
+  }
+
+  long expireShard(int shard, Instant currentTime, Instant deadline) {
+    Optional<ExpiryShardLease> lease = databaseConcurrencyLimiter.call(
+        () -> expiryShardLeases.tryAcquire(shard));
+    if (lease.isEmpty()) {
+      busyShards.increment();
+      return 0;
+    }
+    if (inDatabase) {
+      return expireShardInDatabase(shard, currentTime, deadline);
+    }
+    // Resume where a previous owner stopped, if it did not finish
+    Instant afterExpiresAt = Optional.ofNullable(lease.get().getCursorExpiresAt())
+        .orElse(Instant.EPOCH);
+    long afterHoldId = Optional.ofNullable(lease.get().getCursorHoldId()).orElse(0L);
+    int chunkSize = expiryChunkProcessor.chunkSize();
+    long expired = 0;
+    List<ExpiringHold> chunk;
+    int permits;
+    do {
+      permits = expiryPacer.acquire(chunkSize, deadline);
+      if (permits == 0) {
+        return pause(shard, expired);
+      }
+      Instant chunkAfterExpiresAt = afterExpiresAt;
+      long chunkAfterHoldId = afterHoldId;
+      int limit = permits;
+      chunk = databaseConcurrencyLimiter.call(() -> holdRepository.findExpiredShardChunk(
+          HoldStatus.AUTHORIZED, currentTime, shards, shard, chunkAfterExpiresAt,
+          chunkAfterHoldId, Limit.of(limit)));
+      if (chunk.isEmpty()) {
+        expiryPacer.settle(permits, 0);
+        break;
+      }
+      int count = expireChunk(shard, chunk);
+      expiryPacer.settle(permits, count);
+      expired += count;
+      ExpiringHold last = chunk.get(chunk.size() - 1);
+      if (!databaseConcurrencyLimiter.call(() -> expiryShardLeases.advance(shard, last))) {
+        log.warn("Lost the lease on expiry shard {} after expiring {} holds", shard, expired);
+        lostShards.increment();
+        return expired;
+      }
+      afterExpiresAt = last.expiresAt();
+      afterHoldId = last.holdId();
+    } while (chunk.size() == permits);
+    databaseConcurrencyLimiter.run(() -> expiryShardLeases.complete(shard));
+    sweptShards.increment();
+    log.debug("Expiry shard {}: expired {} holds", shard, expired);
+    return expired;
+  }
+
+  private long expireShardInDatabase(int shard, Instant currentTime, Instant deadline) {
+    int chunkSize = expiryChunkProcessor.chunkSize();
+    long expired = 0;
+    int permits;
+    int count;
+    do {
+      permits = expiryPacer.acquire(chunkSize, deadline);
+      if (permits == 0) {
+        return pause(shard, expired);
+      }
+      int limit = permits;
+      long start = System.nanoTime();
+      try {
+        count = databaseConcurrencyLimiter.call(() -> databaseHoldExpiry.expireChunk(currentTime,
+            shards, shard, limit)).size();
+      } catch (RuntimeException e) {
+        // Holds left AUTHORIZED are picked up by the next sweep
+        expiryPacer.settle(permits, 0);
+        failedChunkCounter.increment();
+        log.error("Failed to expire chunk of shard {} in the database", shard, e);
+        break;
+      }
+      expiryPacer.settle(permits, count);
+      expiryChunkTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      expiredCounter.increment(count);
+      expired += count;
+      if (!databaseConcurrencyLimiter.call(() -> expiryShardLeases.renew(shard))) {
+        log.warn("Lost the lease on expiry shard {} after expiring {} holds", shard, expired);
+        lostShards.increment();
+        return expired;
+      }
+    } while (count == permits);
+    databaseConcurrencyLimiter.run(() -> expiryShardLeases.complete(shard));
+    sweptShards.increment();
+    log.debug("Expiry shard {}: expired {} holds in the database", shard, expired);
+    return expired;
+  }
+
+  private long pause(int shard, long expired) {
+    databaseConcurrencyLimiter.run(() -> expiryShardLeases.release(shard));
+    pausedShards.increment();
+    log.info("Paused expiry shard {} after expiring {} holds: expiry rate limit reached", shard,
+        expired);
+    return expired;
+  }
+
+  private int expireChunk(int shard, List<ExpiringHold> chunk) {
+    long start = System.nanoTime();
+    try {
+      int count = databaseConcurrencyLimiter.call(() -> expiryChunkProcessor.expire(chunk)).size();
+      expiryChunkTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      expiredCounter.increment(count);
+      skippedCounter.increment(chunk.size() - count);
+      return count;
+    } catch (RuntimeException e) {
+      // Holds left AUTHORIZED are picked up by the next sweep
+      failedChunkCounter.increment();
+      log.error("Failed to expire chunk of {} holds in shard {} starting at hold ID: {}",
+          chunk.size(), shard, chunk.get(0).holdId(), e);
+      return 0;
+    }
+  }
+}
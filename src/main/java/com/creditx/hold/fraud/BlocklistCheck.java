@@ -0,0 +1,37 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects holds where the issuer or the merchant account is blocklisted.
+ */
+@Component
+@Order(2)
+public class BlocklistCheck implements HoldPreCheck {
+
+  private final Set<Long> blockedAccounts;
+
+  public BlocklistCheck(@Value("${app.fraud.blocked-accounts:}") Set<Long> blockedAccounts) {
+    this.blockedAccounts = Set.copyOf(blockedAccounts);
+  }
+
+  @Override
+  public String name() {
+    return "blocklist";
+  }
+
+  @Override
+  public FraudDecision check(CreateHoldRequest request) {
+    if (blockedAccounts.contains(request.getIssuerAccountId())) {
+      return FraudDecision.reject(FraudReason.ISSUER_BLOCKED);
+    }
+    if (blockedAccounts.contains(request.getMerchantAccountId())) {
+      return FraudDecision.reject(FraudReason.MERCHANT_BLOCKED);
+    }
+    return FraudDecision.approve();
+  }
+}
@@ -0,0 +1,85 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.cache.AccountRiskProfileCache;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.model.AccountRiskProfile;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects holds above the issuer account's limit: its risk profile's maximum hold amount, or the
+ * service default when the account has no profile or the profile cannot be loaded.
+ */
+@Component
+@Order(1)
+@Slf4j
+public class FraudAmountCheck implements HoldPreCheck {
+
+  // 10000.00 in minor units
+  static final long FRAUD_LIMIT = 1_000_000L;
+
+  private final AccountRiskProfileCache accountRiskProfileCache;
+  private final long loadTimeoutMs;
+
+  public FraudAmountCheck(AccountRiskProfileCache accountRiskProfileCache,
+      @Value("${app.hold.precheck.deadline-ms:200}") long loadTimeoutMs) {
+    this.accountRiskProfileCache = accountRiskProfileCache;
+    this.loadTimeoutMs = loadTimeoutMs;
+  }
+
+  @Override
+  public String name() {
+    return "fraud-amount";
+  }
+
+  @Override
+  public FraudDecision check(CreateHoldRequest request) {
+    if (request.getAmount() > limitFor(request.getIssuerAccountId())) {
+      return FraudDecision.reject(FraudReason.AMOUNT_OVER_LIMIT);
+    }
+    return FraudDecision.approve();
+  }
+
+  /**
+   * The issuer account's maximum hold amount in minor units, waiting at most the pre-check
+   * deadline for its profile to load.
+   */
+  long limitFor(Long accountId) {
+    try {
+      return accountRiskProfileCache.get(accountId).get(loadTimeoutMs, TimeUnit.MILLISECONDS)
+          .map(AccountRiskProfile::getMaxHoldAmount).orElse(FRAUD_LIMIT);
+    } catch (ExecutionException e) {
+      log.warn("Could not load risk profile for account {}, using the default limit", accountId,
+          e.getCause());
+      return FRAUD_LIMIT;
+    } catch (TimeoutException e) {
+      log.warn("Risk profile for account {} did not load within {} ms, using the default limit",
+          accountId, loadTimeoutMs);
+      return FRAUD_LIMIT;
+    } catch (InterruptedException e) {
+      // Cancelled by the runner; the decision is no longer read
+      Thread.currentThread().interrupt();
+      return FRAUD_LIMIT;
+    }
+  }
+
+  /**
+   * The limit this check has just applied to the account: read from the profile its load left in
+   * the cache, without loading or waiting, and the default limit if there is none.
+   */
+  long appliedLimitFor(Long accountId) {
+    CompletableFuture<Optional<AccountRiskProfile>> profile =
+        accountRiskProfileCache.getIfPresent(accountId);
+    if (profile == null || !profile.isDone() || profile.isCompletedExceptionally()) {
+      return FRAUD_LIMIT;
+    }
+    return profile.join().map(AccountRiskProfile::getMaxHoldAmount).orElse(FRAUD_LIMIT);
+  }
+}
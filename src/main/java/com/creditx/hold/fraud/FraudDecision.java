@@ -0,0 +1,47 @@
+package com.creditx.hold.fraud;
+
+/**
+ * Result of a {@link HoldPreCheck}: approve, or reject with a {@link FraudReason}. Decisions are
+ * shared constants, so neither outcome allocates.
+ */
+public final class FraudDecision {
+
+  private static final FraudDecision APPROVED = new FraudDecision(null);
+  private static final FraudDecision[] REJECTIONS = new FraudDecision[FraudReason.values().length];
+
+  static {
+    for (FraudReason reason : FraudReason.values()) {
+      REJECTIONS[reason.ordinal()] = new FraudDecision(reason);
+    }
+  }
+
+  private final FraudReason reason;
+
+  private FraudDecision(FraudReason reason) {
+    this.reason = reason;
+  }
+
+  public static FraudDecision approve() {
+    return APPROVED;
+  }
+
+  public static FraudDecision reject(FraudReason reason) {
+    return REJECTIONS[reason.ordinal()];
+  }
+
+  public boolean isApproved() {
+    return reason == null;
+  }
+
+  /**
+   * The rejection reason, or {@code null} when approved.
+   */
+  public FraudReason reason() {
+    return reason;
+  }
+
+  @Override
+  public String toString() {
+    return isApproved() ? "APPROVED" : "REJECTED(" + reason + ")";
+  }
+}
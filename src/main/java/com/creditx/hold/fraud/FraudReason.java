@@ -0,0 +1,24 @@
+package com.creditx.hold.fraud;
+
+/**
+ * Machine-readable reason a hold request was rejected, returned to callers as {@code reasonCode}.
+ */
+public enum FraudReason {
+  AMOUNT_OVER_LIMIT("Transaction amount exceeds fraud limit"),
+  ISSUER_BLOCKED("Issuer account is blocked"),
+  MERCHANT_BLOCKED("Merchant account is blocked"),
+  REPEATED_ATTEMPTS("Too many attempts for this issuer and merchant"),
+  ISSUER_MERCHANT_FANOUT("Issuer account is transacting with too many merchants"),
+  MERCHANT_ISSUER_FANIN("Merchant is seeing too many distinct issuer accounts"),
+  HIGH_RISK_SCORE("Combined risk score exceeds threshold");
+
+  private final String description;
+
+  FraudReason(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+}
@@ -0,0 +1,22 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+
+/**
+ * An independent check a hold request must pass before the hold is placed. Checks run
+ * concurrently on virtual threads, so they must not depend on each other or on the caller's
+ * transaction, and should respond to interruption when they block.
+ */
+public interface HoldPreCheck {
+
+  /**
+   * Short name used in metrics and logs.
+   */
+  String name();
+
+  /**
+   * Check the request. Rejections are returned, not thrown, since under attack they are the
+   * common case.
+   */
+  FraudDecision check(CreateHoldRequest request);
+}
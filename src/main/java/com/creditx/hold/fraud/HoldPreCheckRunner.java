@@ -0,0 +1,185 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs all {@link HoldPreCheck}s for a request concurrently, one virtual thread per check, so the
+ * request waits for the slowest check rather than the sum of them.
+ *
+ * <p>The checks are scoped like a structured task scope: {@link #start} forks them and the
+ * returned {@link PendingChecks} owns them until it is closed, so no check outlives the request.
+ * The first rejection or the deadline cancels the checks still running. Rejections are logged
+ * through {@link RejectionLogger}. ({@code
+ * StructuredTaskScope} itself is still a preview API, hence the executor-based equivalent.)
+ */
+@Component
+@Slf4j
+public class HoldPreCheckRunner {
+
+  private static final String[] OUTCOMES = {"passed", "rejected", "cancelled", "error"};
+  private static final int PASSED = 0;
+  private static final int REJECTED = 1;
+  private static final int CANCELLED = 2;
+  private static final int ERROR = 3;
+
+  private final List<HoldPreCheck> checks;
+  private final long deadlineNanos;
+  private final Timer[][] timers;
+  private final RejectionLogger rejectionLogger;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public HoldPreCheckRunner(List<HoldPreCheck> checks,
+      @Value("${app.hold.precheck.deadline-ms:200}") long deadlineMs,
+      MeterRegistry meterRegistry, RejectionLogger rejectionLogger) {
+    this.checks = List.copyOf(checks);
+    this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+    this.timers = new Timer[this.checks.size()][OUTCOMES.length];
+    for (int i = 0; i < this.checks.size(); i++) {
+      for (int outcome = 0; outcome < OUTCOMES.length; outcome++) {
+        timers[i][outcome] = Timer.builder("hold.precheck.duration")
+            .tag("check", this.checks.get(i).name()).tag("outcome", OUTCOMES[outcome])
+            .description("Latency of individual hold pre-checks").register(meterRegistry);
+      }
+    }
+    this.rejectionLogger = rejectionLogger;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Fork all checks for the request. Close the result to cancel whatever is still running, e.g.
+   * when the request turns out to be a duplicate.
+   */
+  public PendingChecks start(CreateHoldRequest request) {
+    return new PendingChecks(request);
+  }
+
+  /**
+   * Run all checks and wait for them.
+   *
+   * @return approval if every check approved, otherwise the first rejection
+   * @throws PreCheckTimeoutException if the checks do not finish within the deadline
+   */
+  public FraudDecision runAll(CreateHoldRequest request) {
+    try (var pending = start(request)) {
+      return pending.await();
+    }
+  }
+
+  /**
+   * Run the checks of several requests, all at once, and wait for them.
+   *
+   * @return one decision per request, in order, or null where the checks did not finish within
+   *     the deadline
+   */
+  public FraudDecision[] runAll(List<CreateHoldRequest> requests) {
+    List<PendingChecks> pending = new ArrayList<>(requests.size());
+    try {
+      for (CreateHoldRequest request : requests) {
+        pending.add(start(request));
+      }
+      FraudDecision[] decisions = new FraudDecision[requests.size()];
+      for (int i = 0; i < decisions.length; i++) {
+        try {
+          decisions[i] = pending.get(i).await();
+        } catch (PreCheckTimeoutException e) {
+          log.warn("Pre-checks for transaction {} timed out", requests.get(i).getTransactionId());
+        }
+      }
+      return decisions;
+    } finally {
+      pending.forEach(PendingChecks::close);
+    }
+  }
+
+  public final class PendingChecks implements AutoCloseable {
+
+    private final long startNanos = System.nanoTime();
+    private final CreateHoldRequest request;
+    private final CompletionService<FraudDecision> completion =
+        new ExecutorCompletionService<>(executor);
+    private final List<Future<FraudDecision>> futures = new ArrayList<>(checks.size());
+
+    private PendingChecks(CreateHoldRequest request) {
+      this.request = request;
+      for (int i = 0; i < checks.size(); i++) {
+        int checkIndex = i;
+        futures.add(completion.submit(() -> runTimed(checkIndex, request)));
+      }
+    }
+
+    /**
+     * Wait until every check has approved the request or one has rejected it.
+     *
+     * @return approval if every check approved, otherwise the first rejection
+     * @throws PreCheckTimeoutException if the checks do not finish within the deadline
+     */
+    public FraudDecision await() {
+      try {
+        for (int i = 0; i < futures.size(); i++) {
+          long remaining = startNanos + deadlineNanos - System.nanoTime();
+          Future<FraudDecision> done = completion.poll(remaining, TimeUnit.NANOSECONDS);
+          if (done == null) {
+            throw new PreCheckTimeoutException(
+                "Hold pre-checks did not complete within " + TimeUnit.NANOSECONDS.toMillis(
+                    deadlineNanos) + " ms");
+          }
+          FraudDecision decision = done.get();
+          if (!decision.isApproved()) {
+            rejectionLogger.rejected(request.getTransactionId(), decision.reason());
+            return decision;
+          }
+        }
+        return FraudDecision.approve();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new IllegalStateException("Hold pre-check failed", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for hold pre-checks", e);
+      } finally {
+        close();
+      }
+    }
+
+    @Override
+    public void close() {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private FraudDecision runTimed(int checkIndex, CreateHoldRequest request) {
+    long start = System.nanoTime();
+    int outcome = ERROR;
+    try {
+      FraudDecision decision = checks.get(checkIndex).check(request);
+      outcome = decision.isApproved() ? PASSED : REJECTED;
+      return decision;
+    } finally {
+      if (Thread.currentThread().isInterrupted()) {
+        outcome = CANCELLED;
+      }
+      timers[checkIndex][outcome].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
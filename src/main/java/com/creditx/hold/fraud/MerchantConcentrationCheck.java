@@ -0,0 +1,69 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.fraud.sketch.ConcentrationSketches;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Velocity rules over the streaming {@link ConcentrationSketches}. Every transaction is recorded
+ * before the rules run, including transactions that are then rejected, since repeated declined
+ * attempts are themselves the signal. Retries of a transaction already recorded within the sketch
+ * window are not counted again, so client or gateway retries do not inflate the attempts. The
+ * thresholds apply to the sketch window.
+ */
+@Component
+@Order(3)
+public class MerchantConcentrationCheck implements HoldPreCheck {
+
+  private final ConcentrationSketches sketches;
+  private final long maxIssuersPerMerchant;
+  private final long maxMerchantsPerIssuer;
+  private final long maxPairAttempts;
+  private final Cache<Long, Boolean> recordedTransactions;
+
+  public MerchantConcentrationCheck(ConcentrationSketches sketches,
+      @Value("${app.fraud.sketch.max-issuers-per-merchant:500}") long maxIssuersPerMerchant,
+      @Value("${app.fraud.sketch.max-merchants-per-issuer:20}") long maxMerchantsPerIssuer,
+      @Value("${app.fraud.sketch.max-pair-attempts:10}") long maxPairAttempts,
+      @Value("${app.fraud.sketch.window-ms:600000}") long windowMs,
+      @Value("${app.fraud.sketch.max-tracked-transactions:100000}") long maxTrackedTransactions) {
+    this.sketches = sketches;
+    this.maxIssuersPerMerchant = maxIssuersPerMerchant;
+    this.maxMerchantsPerIssuer = maxMerchantsPerIssuer;
+    this.maxPairAttempts = maxPairAttempts;
+    this.recordedTransactions = Caffeine.newBuilder().maximumSize(maxTrackedTransactions)
+        .expireAfterWrite(Duration.ofMillis(windowMs)).build();
+  }
+
+  @Override
+  public String name() {
+    return "merchant-concentration";
+  }
+
+  @Override
+  public FraudDecision check(CreateHoldRequest request) {
+    long now = System.currentTimeMillis();
+    long issuer = request.getIssuerAccountId();
+    long merchant = request.getMerchantAccountId();
+    if (recordedTransactions.asMap().putIfAbsent(request.getTransactionId(), Boolean.TRUE)
+        == null) {
+      sketches.record(issuer, merchant, now);
+    }
+
+    if (sketches.pairAttempts(issuer, merchant, now) > maxPairAttempts) {
+      return FraudDecision.reject(FraudReason.REPEATED_ATTEMPTS);
+    }
+    if (sketches.distinctMerchantsForIssuer(issuer, now) > maxMerchantsPerIssuer) {
+      return FraudDecision.reject(FraudReason.ISSUER_MERCHANT_FANOUT);
+    }
+    if (sketches.distinctIssuersForMerchant(merchant, now) > maxIssuersPerMerchant) {
+      return FraudDecision.reject(FraudReason.MERCHANT_ISSUER_FANIN);
+    }
+    return FraudDecision.approve();
+  }
+}
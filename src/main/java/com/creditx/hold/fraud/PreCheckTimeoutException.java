@@ -0,0 +1,12 @@
+package com.creditx.hold.fraud;
+
+/**
+ * Thrown when the hold pre-checks did not all finish within their deadline. The request is
+ * neither approved nor rejected and may be retried.
+ */
+public class PreCheckTimeoutException extends RuntimeException {
+
+  public PreCheckTimeoutException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,50 @@
+package com.creditx.hold.fraud;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs hold rejections at most once per interval for each reason, so a card-testing burst does not
+ * flood the logs. Every rejection is still counted in {@code hold.fraud.rejections}, and the next
+ * line that is logged reports how many were suppressed.
+ */
+@Component
+@Slf4j
+public class RejectionLogger {
+
+  private final long intervalNanos;
+  private final AtomicLong[] nextLogAt = new AtomicLong[FraudReason.values().length];
+  private final AtomicLong[] suppressed = new AtomicLong[FraudReason.values().length];
+  private final Counter[] rejections = new Counter[FraudReason.values().length];
+
+  public RejectionLogger(@Value("${app.fraud.rejection-log-interval-ms:1000}") long intervalMs,
+      MeterRegistry meterRegistry) {
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+    long now = System.nanoTime();
+    for (FraudReason reason : FraudReason.values()) {
+      nextLogAt[reason.ordinal()] = new AtomicLong(now);
+      suppressed[reason.ordinal()] = new AtomicLong();
+      rejections[reason.ordinal()] = Counter.builder("hold.fraud.rejections")
+          .tag("reason", reason.name()).description("Hold requests rejected by the pre-checks")
+          .register(meterRegistry);
+    }
+  }
+
+  public void rejected(long transactionId, FraudReason reason) {
+    int slot = reason.ordinal();
+    rejections[slot].increment();
+    long now = System.nanoTime();
+    long next = nextLogAt[slot].get();
+    if (now - next < 0 || !nextLogAt[slot].compareAndSet(next, now + intervalNanos)) {
+      suppressed[slot].incrementAndGet();
+      return;
+    }
+    log.warn("Rejected hold for transaction {}: {} ({} similar rejections not logged)",
+        transactionId, reason, suppressed[slot].getAndSet(0));
+  }
+}
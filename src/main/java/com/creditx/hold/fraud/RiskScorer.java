@@ -0,0 +1,136 @@
+package com.creditx.hold.fraud;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.fraud.scoring.BatchScorer;
+import com.creditx.hold.fraud.scoring.BatchScorers;
+import com.creditx.hold.fraud.scoring.FeatureBatch;
+import com.creditx.hold.fraud.scoring.LinearRuleSet;
+import com.creditx.hold.fraud.sketch.ConcentrationSketches;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Combined risk score over the requests of a batch that passed the individual pre-checks, so
+ * several signals that are each just under their own limit can still reject a request together.
+ * Each feature is normalized to its individual limit (1.0 = at the limit) and the weighted sum is
+ * compared with a threshold. Batches are scored in one pass, on SIMD lanes when the Vector API is
+ * enabled, into buffers each thread reuses.
+ *
+ * <p>The rule is off unless {@code app.fraud.scoring.enabled} is set, since it rejects requests
+ * that pass every individual check.
+ */
+@Component
+public class RiskScorer {
+
+  static final int AMOUNT_RATIO = 0;
+  static final int PAIR_ATTEMPTS = 1;
+  static final int ISSUER_FANOUT = 2;
+  static final int MERCHANT_FANIN = 3;
+  private static final int FEATURE_COUNT = 4;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final boolean enabled;
+  private final ConcentrationSketches sketches;
+  private final FraudAmountCheck fraudAmountCheck;
+  private final RejectionLogger rejectionLogger;
+  private final LinearRuleSet rules;
+  private final double maxPairAttempts;
+  private final double maxMerchantsPerIssuer;
+  private final double maxIssuersPerMerchant;
+  private final BatchScorer scorer = BatchScorers.best();
+  private final Timer scoringTime;
+  private final ThreadLocal<Buffers> buffers =
+      ThreadLocal.withInitial(() -> new Buffers(INITIAL_CAPACITY));
+
+  public RiskScorer(@Value("${app.fraud.scoring.enabled:false}") boolean enabled,
+      ConcentrationSketches sketches, FraudAmountCheck fraudAmountCheck,
+      RejectionLogger rejectionLogger,
+      @Value("${app.fraud.scoring.weights:1.0,1.0,1.0,1.0}") double[] weights,
+      @Value("${app.fraud.scoring.threshold:2.5}") double threshold,
+      @Value("${app.fraud.sketch.max-pair-attempts:10}") long maxPairAttempts,
+      @Value("${app.fraud.sketch.max-merchants-per-issuer:20}") long maxMerchantsPerIssuer,
+      @Value("${app.fraud.sketch.max-issuers-per-merchant:500}") long maxIssuersPerMerchant,
+      MeterRegistry meterRegistry) {
+    if (weights.length != FEATURE_COUNT) {
+      throw new IllegalArgumentException(
+          "app.fraud.scoring.weights needs " + FEATURE_COUNT + " values");
+    }
+    this.enabled = enabled;
+    this.sketches = sketches;
+    this.fraudAmountCheck = fraudAmountCheck;
+    this.rejectionLogger = rejectionLogger;
+    this.rules = new LinearRuleSet(weights.clone(), 0, threshold);
+    this.maxPairAttempts = maxPairAttempts;
+    this.maxMerchantsPerIssuer = maxMerchantsPerIssuer;
+    this.maxIssuersPerMerchant = maxIssuersPerMerchant;
+    this.scoringTime = Timer.builder("hold.fraud.scoring.duration").tag("scorer", scorer.name())
+        .description("Time to score a batch of hold requests").register(meterRegistry);
+  }
+
+  /**
+   * Score the requests in one pass.
+   *
+   * @return one decision per request, in order; all approvals when the rule is disabled
+   */
+  public FraudDecision[] score(List<CreateHoldRequest> requests) {
+    int size = requests.size();
+    FraudDecision[] decisions = new FraudDecision[size];
+    if (!enabled || size == 0) {
+      Arrays.fill(decisions, FraudDecision.approve());
+      return decisions;
+    }
+    long start = System.nanoTime();
+    long now = System.currentTimeMillis();
+    Buffers reused = buffers.get();
+    if (reused.batch.capacity() < size) {
+      reused = new Buffers(Math.max(size, reused.batch.capacity() * 2));
+      buffers.set(reused);
+    }
+    FeatureBatch batch = reused.batch;
+    batch.resize(size);
+    for (int i = 0; i < size; i++) {
+      CreateHoldRequest request = requests.get(i);
+      long issuer = request.getIssuerAccountId();
+      long merchant = request.getMerchantAccountId();
+      // The limit the amount pre-check applied, so scoring never loads or waits on a profile
+      batch.set(AMOUNT_RATIO, i,
+          (double) request.getAmount() / fraudAmountCheck.appliedLimitFor(issuer));
+      batch.set(PAIR_ATTEMPTS, i, sketches.pairAttempts(issuer, merchant, now) / maxPairAttempts);
+      batch.set(ISSUER_FANOUT, i,
+          sketches.distinctMerchantsForIssuer(issuer, now) / maxMerchantsPerIssuer);
+      batch.set(MERCHANT_FANIN, i,
+          sketches.distinctIssuersForMerchant(merchant, now) / maxIssuersPerMerchant);
+    }
+
+    boolean[] rejected = reused.rejected;
+    scorer.score(batch, rules, reused.scores, rejected);
+    scoringTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    for (int i = 0; i < size; i++) {
+      if (rejected[i]) {
+        decisions[i] = FraudDecision.reject(FraudReason.HIGH_RISK_SCORE);
+        rejectionLogger.rejected(requests.get(i).getTransactionId(), FraudReason.HIGH_RISK_SCORE);
+      } else {
+        decisions[i] = FraudDecision.approve();
+      }
+    }
+    return decisions;
+  }
+
+  private static final class Buffers {
+
+    private final FeatureBatch batch;
+    private final double[] scores;
+    private final boolean[] rejected;
+
+    private Buffers(int capacity) {
+      this.batch = new FeatureBatch(FEATURE_COUNT, capacity);
+      this.scores = new double[capacity];
+      this.rejected = new boolean[capacity];
+    }
+  }
+}
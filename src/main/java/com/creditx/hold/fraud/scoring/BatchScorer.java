@@ -0,0 +1,18 @@
+package com.creditx.hold.fraud.scoring;
+
+/**
+ * Evaluates a {@link LinearRuleSet} across every request of a {@link FeatureBatch}.
+ */
+public interface BatchScorer {
+
+  /**
+   * Score the batch.
+   *
+   * @param scores   receives the score of each request
+   * @param rejected receives whether each request's score exceeds the threshold
+   * @return the number of rejected requests
+   */
+  int score(FeatureBatch batch, LinearRuleSet rules, double[] scores, boolean[] rejected);
+
+  String name();
+}
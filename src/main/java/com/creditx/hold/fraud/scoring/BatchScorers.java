@@ -0,0 +1,34 @@
+package com.creditx.hold.fraud.scoring;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the SIMD scorer when the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * and the scalar scorer otherwise.
+ */
+@Slf4j
+public final class BatchScorers {
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  private BatchScorers() {
+  }
+
+  public static BatchScorer best() {
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+      try {
+        // Loaded reflectively so this class links without the incubator module
+        BatchScorer scorer = (BatchScorer) Class.forName(
+                BatchScorers.class.getPackageName() + ".VectorBatchScorer")
+            .getDeclaredConstructor().newInstance();
+        log.info("Fraud batch scoring uses the Vector API ({})", scorer.name());
+        return scorer;
+      } catch (ReflectiveOperationException | LinkageError e) {
+        log.warn("Vector API scorer unavailable, using the scalar scorer", e);
+      }
+    } else {
+      log.info("Module {} not enabled, fraud batch scoring uses the scalar scorer", VECTOR_MODULE);
+    }
+    return new ScalarBatchScorer();
+  }
+}
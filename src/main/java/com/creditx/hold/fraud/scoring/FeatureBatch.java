@@ -0,0 +1,51 @@
+package com.creditx.hold.fraud.scoring;
+
+/**
+ * Features of a batch of hold requests in column-major primitive arrays: {@code column(f)[i]} is
+ * feature {@code f} of request {@code i}. Keeping each feature contiguous lets the scorer load a
+ * full SIMD register of requests at a time. A batch can be reused for smaller batches through
+ * {@link #resize}, so callers need not allocate the arrays again for every batch.
+ */
+public final class FeatureBatch {
+
+  private final double[][] columns;
+  private int size;
+
+  public FeatureBatch(int featureCount, int size) {
+    this.columns = new double[featureCount][size];
+    this.size = size;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The largest size the batch can be resized to.
+   */
+  public int capacity() {
+    return columns[0].length;
+  }
+
+  /**
+   * Reuse the batch for {@code size} requests; the rows to use must be set again.
+   */
+  public void resize(int size) {
+    if (size < 0 || size > capacity()) {
+      throw new IllegalArgumentException("Batch size " + size + " outside 0.." + capacity());
+    }
+    this.size = size;
+  }
+
+  public int featureCount() {
+    return columns.length;
+  }
+
+  public double[] column(int feature) {
+    return columns[feature];
+  }
+
+  public void set(int feature, int row, double value) {
+    columns[feature][row] = value;
+  }
+}
@@ -0,0 +1,10 @@
+package com.creditx.hold.fraud.scoring;
+
+/**
+ * A linear rule: {@code score = bias + sum(weights[f] * feature[f])}, rejecting when the score
+ * exceeds {@code threshold}. A threshold rule on a single feature is a weight vector with one
+ * non-zero entry.
+ */
+public record LinearRuleSet(double[] weights, double bias, double threshold) {
+
+}
@@ -0,0 +1,36 @@
+package com.creditx.hold.fraud.scoring;
+
+/**
+ * Plain loop over the batch; used when the Vector API is not available and for batch tails.
+ */
+public final class ScalarBatchScorer implements BatchScorer {
+
+  @Override
+  public int score(FeatureBatch batch, LinearRuleSet rules, double[] scores, boolean[] rejected) {
+    return scoreRange(batch, rules, scores, rejected, 0, batch.size());
+  }
+
+  @Override
+  public String name() {
+    return "scalar";
+  }
+
+  static int scoreRange(FeatureBatch batch, LinearRuleSet rules, double[] scores,
+      boolean[] rejected, int from, int to) {
+    double[] weights = rules.weights();
+    int rejectedCount = 0;
+    for (int i = from; i < to; i++) {
+      double score = rules.bias();
+      for (int f = 0; f < weights.length; f++) {
+        // fma to match the vector path bit for bit
+        score = Math.fma(batch.column(f)[i], weights[f], score);
+      }
+      scores[i] = score;
+      rejected[i] = score > rules.threshold();
+      if (rejected[i]) {
+        rejectedCount++;
+      }
+    }
+    return rejectedCount;
+  }
+}
@@ -0,0 +1,42 @@
+package com.creditx.hold.fraud.scoring;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD scorer on the incubating Vector API: each iteration scores as many requests as fit in the
+ * platform's preferred vector width, with one fused multiply-add per feature. Only load this class
+ * through {@link BatchScorers}, which checks that the module is present.
+ */
+final class VectorBatchScorer implements BatchScorer {
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  @Override
+  public int score(FeatureBatch batch, LinearRuleSet rules, double[] scores, boolean[] rejected) {
+    double[] weights = rules.weights();
+    int size = batch.size();
+    int upperBound = SPECIES.loopBound(size);
+    int rejectedCount = 0;
+    int i = 0;
+    for (; i < upperBound; i += SPECIES.length()) {
+      DoubleVector score = DoubleVector.broadcast(SPECIES, rules.bias());
+      for (int f = 0; f < weights.length; f++) {
+        DoubleVector feature = DoubleVector.fromArray(SPECIES, batch.column(f), i);
+        score = feature.fma(DoubleVector.broadcast(SPECIES, weights[f]), score);
+      }
+      score.intoArray(scores, i);
+      VectorMask<Double> over = score.compare(VectorOperators.GT, rules.threshold());
+      over.intoArray(rejected, i);
+      rejectedCount += over.trueCount();
+    }
+    return rejectedCount + ScalarBatchScorer.scoreRange(batch, rules, scores, rejected, i, size);
+  }
+
+  @Override
+  public String name() {
+    return "vector-" + SPECIES.vectorBitSize();
+  }
+}
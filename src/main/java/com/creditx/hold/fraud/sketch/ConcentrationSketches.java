@@ -0,0 +1,67 @@
+package com.creditx.hold.fraud.sketch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streaming fraud signals over issuer/merchant pairs, fed with every hold request. All queries are
+ * independent of traffic volume and memory is fixed by configuration:
+ * <ul>
+ *   <li>distinct issuer accounts per merchant and distinct merchants per issuer (HyperLogLog)</li>
+ *   <li>attempts per issuer/merchant pair (count-min)</li>
+ * </ul>
+ */
+@Component
+public class ConcentrationSketches {
+
+  private final WindowedDistinctCounter issuersByMerchant;
+  private final WindowedDistinctCounter merchantsByIssuer;
+  private final WindowedFrequencySketch pairAttempts;
+
+  public ConcentrationSketches(
+      @Value("${app.fraud.sketch.window-ms:600000}") long windowMs,
+      @Value("${app.fraud.sketch.buckets:6}") int buckets,
+      @Value("${app.fraud.sketch.hll-precision:8}") int hllPrecision,
+      @Value("${app.fraud.sketch.max-tracked-accounts:10000}") long maxTrackedAccounts,
+      @Value("${app.fraud.sketch.cms-depth:4}") int cmsDepth,
+      @Value("${app.fraud.sketch.cms-width:16384}") int cmsWidth,
+      MeterRegistry meterRegistry) {
+    Duration window = Duration.ofMillis(windowMs);
+    this.issuersByMerchant = new WindowedDistinctCounter(hllPrecision, window, buckets,
+        maxTrackedAccounts);
+    this.merchantsByIssuer = new WindowedDistinctCounter(hllPrecision, window, buckets,
+        maxTrackedAccounts);
+    this.pairAttempts = new WindowedFrequencySketch(cmsDepth, cmsWidth, window, buckets);
+    Gauge.builder("hold.fraud.sketch.tracked", issuersByMerchant,
+            WindowedDistinctCounter::trackedKeys).tag("sketch", "issuers-by-merchant")
+        .description("Accounts tracked by the fraud sketches").register(meterRegistry);
+    Gauge.builder("hold.fraud.sketch.tracked", merchantsByIssuer,
+            WindowedDistinctCounter::trackedKeys).tag("sketch", "merchants-by-issuer")
+        .description("Accounts tracked by the fraud sketches").register(meterRegistry);
+  }
+
+  public void record(long issuerAccountId, long merchantAccountId, long nowMillis) {
+    issuersByMerchant.add(merchantAccountId, issuerAccountId, nowMillis);
+    merchantsByIssuer.add(issuerAccountId, merchantAccountId, nowMillis);
+    pairAttempts.increment(pairKey(issuerAccountId, merchantAccountId), nowMillis);
+  }
+
+  public long distinctIssuersForMerchant(long merchantAccountId, long nowMillis) {
+    return issuersByMerchant.estimate(merchantAccountId, nowMillis);
+  }
+
+  public long distinctMerchantsForIssuer(long issuerAccountId, long nowMillis) {
+    return merchantsByIssuer.estimate(issuerAccountId, nowMillis);
+  }
+
+  public long pairAttempts(long issuerAccountId, long merchantAccountId, long nowMillis) {
+    return pairAttempts.estimate(pairKey(issuerAccountId, merchantAccountId), nowMillis);
+  }
+
+  private static long pairKey(long issuerAccountId, long merchantAccountId) {
+    return Hashing.mix64(issuerAccountId) * 31 + merchantAccountId;
+  }
+}
@@ -0,0 +1,17 @@
+package com.creditx.hold.fraud.sketch;
+
+final class Hashing {
+
+  private Hashing() {
+  }
+
+  /**
+   * MurmurHash3 64-bit finalizer: spreads sequential ids such as account ids over all 64 bits.
+   */
+  static long mix64(long value) {
+    long z = value;
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+}
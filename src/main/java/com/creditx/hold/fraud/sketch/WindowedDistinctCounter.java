@@ -0,0 +1,74 @@
+package com.creditx.hold.fraud.sketch;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * Distinct items seen per key over a sliding window, e.g. distinct issuer accounts per merchant.
+ * Each key holds a ring of {@link HyperLogLog}s, one per time bucket. The number of keys is
+ * bounded, so memory is fixed at roughly {@code maxKeys * buckets * 2^precision} bytes. Keys that
+ * go quiet for a whole window are dropped.
+ */
+public class WindowedDistinctCounter {
+
+  private final int precision;
+  private final int buckets;
+  private final long bucketMillis;
+  private final Cache<Long, Window> windows;
+
+  public WindowedDistinctCounter(int precision, Duration window, int buckets, long maxKeys) {
+    this.precision = precision;
+    this.buckets = buckets;
+    this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+    this.windows = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(window).build();
+  }
+
+  public void add(long key, long item, long nowMillis) {
+    windows.get(key, k -> new Window()).add(Hashing.mix64(item), nowMillis / bucketMillis);
+  }
+
+  /**
+   * Estimated number of distinct items added for the key within the window.
+   */
+  public long estimate(long key, long nowMillis) {
+    Window window = windows.getIfPresent(key);
+    return window == null ? 0 : window.estimate(nowMillis / bucketMillis);
+  }
+
+  public long trackedKeys() {
+    return windows.estimatedSize();
+  }
+
+  private final class Window {
+
+    private final HyperLogLog[] sketches = new HyperLogLog[buckets];
+    private final long[] epochs = new long[buckets];
+
+    private Window() {
+      for (int i = 0; i < buckets; i++) {
+        sketches[i] = new HyperLogLog(precision);
+        epochs[i] = -buckets;
+      }
+    }
+
+    synchronized void add(long hash, long epoch) {
+      int slot = (int) (epoch % buckets);
+      if (epochs[slot] != epoch) {
+        sketches[slot].clear();
+        epochs[slot] = epoch;
+      }
+      sketches[slot].add(hash);
+    }
+
+    synchronized long estimate(long epoch) {
+      byte[] union = new byte[1 << precision];
+      for (int slot = 0; slot < buckets; slot++) {
+        if (epoch - epochs[slot] < buckets) {
+          sketches[slot].mergeInto(union);
+        }
+      }
+      return HyperLogLog.estimate(union);
+    }
+  }
+}
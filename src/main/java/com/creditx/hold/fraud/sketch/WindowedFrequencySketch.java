@@ -0,0 +1,54 @@
+package com.creditx.hold.fraud.sketch;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate per-key counts over a sliding window, as a ring of {@link CountMinSketch}es, one per
+ * time bucket. Memory is fixed regardless of the number of keys. Increments racing with a bucket
+ * rotation may be dropped, which only ever lowers the estimate by a few counts.
+ */
+public class WindowedFrequencySketch {
+
+  private final int buckets;
+  private final long bucketMillis;
+  private final CountMinSketch[] sketches;
+  private final AtomicLongArray epochs;
+
+  public WindowedFrequencySketch(int depth, int width, Duration window, int buckets) {
+    this.buckets = buckets;
+    this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+    this.sketches = new CountMinSketch[buckets];
+    this.epochs = new AtomicLongArray(buckets);
+    for (int i = 0; i < buckets; i++) {
+      sketches[i] = new CountMinSketch(depth, width);
+      epochs.set(i, -buckets);
+    }
+  }
+
+  public void increment(long key, long nowMillis) {
+    long epoch = nowMillis / bucketMillis;
+    int slot = (int) (epoch % buckets);
+    long current = epochs.get(slot);
+    if (current < epoch && epochs.compareAndSet(slot, current, epoch)) {
+      sketches[slot].clear();
+    }
+    sketches[slot].increment(key);
+  }
+
+  /**
+   * Estimated count for the key within the window; never lower than the true count, apart from
+   * increments lost to a concurrent rotation.
+   */
+  public long estimate(long key, long nowMillis) {
+    long epoch = nowMillis / bucketMillis;
+    long total = 0;
+    for (int slot = 0; slot < buckets; slot++) {
+      if (epoch - epochs.get(slot) < buckets) {
+        total += sketches[slot].estimate(key);
+      }
+    }
+    return total;
+  }
+
+}
@@ -0,0 +1,353 @@
+package com.creditx.hold.index;
+
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process index of holds, keyed by hold id, kept off-heap in a direct buffer as an
+ * open-addressing table with linear probing. Each slot is a fixed 48-byte record, so the index
+ * costs no per-entry objects and adds nothing to GC scanning however many holds are active.
+ *
+ * <p>The index is populated with AUTHORIZED holds at startup and on creation. Holds this instance
+ * captures, voids or expires are removed once their transaction commits. Holds created or settled
+ * by other instances may be missing or stale, so callers must treat the index as a hint and guard
+ * writes with the expected status. The table grows up to {@link #MAX_CAPACITY} slots, the most a
+ * single direct buffer can address; past that, new holds are left out of the index.
+ */
+@Component
+@Slf4j
+public class ActiveHoldIndex {
+
+  static final int ENTRY_BYTES = 48;
+  private static final int HOLD_ID = 0;
+  private static final int TRANSACTION_ID = 8;
+  private static final int ACCOUNT_ID = 16;
+  private static final int AMOUNT = 24;
+  private static final int EXPIRES_AT = 32;
+  private static final int STATUS = 40;
+  private static final long EMPTY = 0L; // CHS_HOLD_SEQ starts at 1
+  private static final double MAX_LOAD = 0.7;
+  static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE / ENTRY_BYTES);
+  private static final HoldStatus[] STATUSES = HoldStatus.values();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter overflows;
+  private ByteBuffer table;
+  private int capacity;
+  private int size;
+
+  public ActiveHoldIndex(@Value("${app.hold.index.initial-capacity:65536}") int initialCapacity,
+      MeterRegistry meterRegistry) {
+    if (initialCapacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Active hold index capacity must not exceed " + MAX_CAPACITY + ": " + initialCapacity);
+    }
+    this.capacity = Math.max(16, Integer.highestOneBit(initialCapacity - 1) << 1);
+    this.table = allocate(capacity);
+    Gauge.builder("hold.index.size", this, ActiveHoldIndex::size)
+        .description("Holds currently held in the active hold index").register(meterRegistry);
+    Gauge.builder("hold.index.bytes", this, index -> (double) index.capacity * ENTRY_BYTES)
+        .description("Off-heap memory reserved by the active hold index").baseUnit("bytes")
+        .register(meterRegistry);
+    this.hits = Counter.builder("hold.index.lookups").tag("result", "hit")
+        .description("Active hold index lookups").register(meterRegistry);
+    this.misses = Counter.builder("hold.index.lookups").tag("result", "miss")
+        .description("Active hold index lookups").register(meterRegistry);
+    this.overflows = Counter.builder("hold.index.overflows")
+        .description("Holds left out of the active hold index because it is full")
+        .register(meterRegistry);
+  }
+
+  public Optional<IndexedHold> get(long holdId) {
+    lock.readLock().lock();
+    try {
+      int slot = find(holdId);
+      if (slot < 0) {
+        misses.increment();
+        return Optional.empty();
+      }
+      hits.increment();
+      return Optional.of(read(slot));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Record the current state of a hold, after commit when a transaction is active. Holds that are
+   * no longer AUTHORIZED are removed instead.
+   *
+   * @param hold the hold whose state changed
+   */
+  public void record(Hold hold) {
+    if (hold.getStatus() != HoldStatus.AUTHORIZED) {
+      recordExpired(hold.getHoldId());
+    } else {
+      IndexedHold entry = IndexedHold.of(hold);
+      afterCommit(() -> put(entry));
+    }
+  }
+
+  /**
+   * Remove a hold that expired or settled, after commit when a transaction is active.
+   */
+  public void recordExpired(long holdId) {
+    afterCommit(() -> remove(holdId));
+  }
+
+  /**
+   * Record a transition of an indexed hold, after commit when a transaction is active.
+   */
+  public void record(IndexedHold entry, HoldStatus newStatus) {
+    record(entry.toHold(newStatus));
+  }
+
+  public void put(IndexedHold entry) {
+    insert(entry, true);
+  }
+
+  /**
+   * Add an entry loaded from the database unless this instance already recorded the hold, which
+   * may be newer than the loaded row.
+   */
+  public void putIfAbsent(IndexedHold entry) {
+    insert(entry, false);
+  }
+
+  public boolean remove(long holdId) {
+    lock.writeLock().lock();
+    try {
+      int slot = find(holdId);
+      if (slot < 0) {
+        return false;
+      }
+      // Backward-shift deletion keeps probe chains intact without tombstones
+      int mask = capacity - 1;
+      int hole = slot;
+      int next = (hole + 1) & mask;
+      while (true) {
+        long nextId = table.getLong(offset(next) + HOLD_ID);
+        if (nextId == EMPTY) {
+          break;
+        }
+        int home = home(nextId);
+        if (((next - home) & mask) >= ((next - hole) & mask)) {
+          copySlot(next, hole);
+          hole = next;
+        }
+        next = (next + 1) & mask;
+      }
+      table.putLong(offset(hole) + HOLD_ID, EMPTY);
+      size--;
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Copy the AUTHORIZED entries, as raw {@value #ENTRY_BYTES}-byte records, into a buffer obtained
+   * from {@code target} for their total size in bytes. Used to snapshot the index. The copy is
+   * made under the read lock, so {@code target} should hand out memory, not a mapped file.
+   *
+   * @return the number of entries copied
+   */
+  public int copyAuthorizedTo(IntFunction<ByteBuffer> target) {
+    lock.readLock().lock();
+    try {
+      int count = 0;
+      for (int slot = 0; slot < capacity; slot++) {
+        if (isAuthorized(slot)) {
+          count++;
+        }
+      }
+      ByteBuffer out = target.apply(count * ENTRY_BYTES);
+      int position = 0;
+      for (int slot = 0; slot < capacity; slot++) {
+        if (isAuthorized(slot)) {
+          out.put(position, table, offset(slot), ENTRY_BYTES);
+          position += ENTRY_BYTES;
+        }
+      }
+      return count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Add raw records written by {@link #copyAuthorizedTo}, skipping holds already indexed.
+   *
+   * @return the number of records read
+   */
+  public int putAllIfAbsent(ByteBuffer records) {
+    int count = records.remaining() / ENTRY_BYTES;
+    for (int i = 0; i < count; i++) {
+      int base = records.position() + i * ENTRY_BYTES;
+      putIfAbsent(new IndexedHold(records.getLong(base + HOLD_ID),
+          records.getLong(base + TRANSACTION_ID), records.getLong(base + ACCOUNT_ID),
+          records.getLong(base + AMOUNT), records.getLong(base + EXPIRES_AT),
+          STATUSES[records.getInt(base + STATUS)]));
+    }
+    return count;
+  }
+
+  private boolean isAuthorized(int slot) {
+    int base = offset(slot);
+    return table.getLong(base + HOLD_ID) != EMPTY
+        && table.getInt(base + STATUS) == HoldStatus.AUTHORIZED.ordinal();
+  }
+
+  private void insert(IndexedHold entry, boolean replace) {
+    lock.writeLock().lock();
+    try {
+      int slot = find(entry.holdId());
+      if (slot >= 0 && !replace) {
+        return;
+      }
+      if (slot < 0) {
+        if (size + 1 > capacity * MAX_LOAD) {
+          rehash();
+          if (size + 1 > capacity * MAX_LOAD) {
+            overflows.increment();
+            return;
+          }
+          slot = find(entry.holdId());
+        }
+        slot = -slot - 1;
+        size++;
+      }
+      write(slot, entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Slot holding the id, or {@code -(insertion slot) - 1} if absent.
+   */
+  private int find(long holdId) {
+    int mask = capacity - 1;
+    int slot = home(holdId);
+    while (true) {
+      long id = table.getLong(offset(slot) + HOLD_ID);
+      if (id == holdId) {
+        return slot;
+      }
+      if (id == EMPTY) {
+        return -slot - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private int home(long holdId) {
+    long hash = holdId * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+  }
+
+  /**
+   * Rebuild the table, dropping entries that are no longer AUTHORIZED and doubling the capacity,
+   * up to {@link #MAX_CAPACITY}, if the survivors would still fill more than half of it.
+   */
+  private void rehash() {
+    ByteBuffer old = table;
+    int oldCapacity = capacity;
+    int retained = 0;
+    for (int slot = 0; slot < oldCapacity; slot++) {
+      if (old.getLong(slot * ENTRY_BYTES + HOLD_ID) != EMPTY && isRetained(old, slot)) {
+        retained++;
+      }
+    }
+    int newCapacity = oldCapacity;
+    while ((retained + 1) * 2L > newCapacity && newCapacity < MAX_CAPACITY) {
+      newCapacity <<= 1;
+    }
+    capacity = newCapacity;
+    table = allocate(newCapacity);
+    size = 0;
+    for (int slot = 0; slot < oldCapacity; slot++) {
+      long id = old.getLong(slot * ENTRY_BYTES + HOLD_ID);
+      if (id != EMPTY && isRetained(old, slot)) {
+        int target = -find(id) - 1;
+        table.put(offset(target), old, slot * ENTRY_BYTES, ENTRY_BYTES);
+        size++;
+      }
+    }
+    log.info("Rebuilt active hold index: {} entries, capacity {} -> {}", size, oldCapacity,
+        newCapacity);
+  }
+
+  private static boolean isRetained(ByteBuffer buffer, int slot) {
+    return buffer.getInt(slot * ENTRY_BYTES + STATUS) == HoldStatus.AUTHORIZED.ordinal();
+  }
+
+  private static ByteBuffer allocate(int capacity) {
+    long bytes = (long) capacity * ENTRY_BYTES;
+    if (bytes > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Active hold index of " + capacity + " entries is too large");
+    }
+    return ByteBuffer.allocateDirect((int) bytes);
+  }
+
+  private IndexedHold read(int slot) {
+    int base = offset(slot);
+    return new IndexedHold(table.getLong(base + HOLD_ID), table.getLong(base + TRANSACTION_ID),
+        table.getLong(base + ACCOUNT_ID), table.getLong(base + AMOUNT),
+        table.getLong(base + EXPIRES_AT), STATUSES[table.getInt(base + STATUS)]);
+  }
+
+  private void write(int slot, IndexedHold entry) {
+    int base = offset(slot);
+    table.putLong(base + HOLD_ID, entry.holdId());
+    table.putLong(base + TRANSACTION_ID, entry.transactionId());
+    table.putLong(base + ACCOUNT_ID, entry.accountId());
+    table.putLong(base + AMOUNT, entry.amountMinor());
+    table.putLong(base + EXPIRES_AT, entry.expiresAtMillis());
+    table.putInt(base + STATUS, entry.status().ordinal());
+  }
+
+  private void copySlot(int from, int to) {
+    table.put(offset(to), table, offset(from), ENTRY_BYTES);
+  }
+
+  private static int offset(int slot) {
+    return slot * ENTRY_BYTES;
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.creditx.hold.index;
+
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.HoldRepository;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the {@link ActiveHoldIndex} from CHS_HOLDS once the application is up, streaming the
+ * AUTHORIZED holds through a projection so no entities are loaded.
+ *
+ * <p>With {@link ActiveHoldSnapshot} enabled, a recent snapshot is mapped instead and only the
+ * holds updated after its watermark are read. The watermark trails the clock by
+ * {@code app.hold.index.snapshot.watermark-lag-ms}, so rows committed late by a long transaction
+ * or stamped by a skewed database clock are replayed rather than missed; replaying a change twice
+ * is harmless.
+ */
+@Component
+@ConditionalOnProperty(name = "app.hold.index.load-on-startup", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ActiveHoldIndexLoader {
+
+  private final HoldRepository holdRepository;
+  private final ActiveHoldIndex activeHoldIndex;
+  private final ActiveHoldSnapshot activeHoldSnapshot;
+  private final Duration watermarkLag;
+  private volatile Instant watermark;
+
+  public ActiveHoldIndexLoader(HoldRepository holdRepository, ActiveHoldIndex activeHoldIndex,
+      ActiveHoldSnapshot activeHoldSnapshot,
+      @Value("${app.hold.index.snapshot.watermark-lag-ms:60000}") long watermarkLagMs) {
+    this.holdRepository = holdRepository;
+    this.activeHoldIndex = activeHoldIndex;
+    this.activeHoldSnapshot = activeHoldSnapshot;
+    this.watermarkLag = Duration.ofMillis(watermarkLagMs);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void load() {
+    long start = System.nanoTime();
+    Optional<Instant> restored = activeHoldSnapshot.restore(activeHoldIndex);
+    if (restored.isPresent()) {
+      watermark = restored.get();
+      int restoredHolds = activeHoldIndex.size();
+      int replayed = catchUp();
+      log.info("Restored {} active holds from snapshot and replayed {} changes in {} ms",
+          restoredHolds, replayed, (System.nanoTime() - start) / 1_000_000);
+      return;
+    }
+    Instant loadStart = Instant.now().minus(watermarkLag);
+    AtomicInteger loaded = new AtomicInteger();
+    try (var entries = holdRepository.streamIndexEntries(HoldStatus.AUTHORIZED)) {
+      entries.forEach(entry -> {
+        activeHoldIndex.putIfAbsent(entry);
+        loaded.incrementAndGet();
+      });
+    }
+    watermark = loadStart;
+    log.info("Loaded {} active holds into the index in {} ms", loaded.get(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * Apply the holds updated since the watermark, including those changed by other instances, and
+   * advance it. New AUTHORIZED holds are added without replacing a newer local state; expired
+   * and settled holds are removed.
+   *
+   * @return the number of changes applied, 0 before the index was first loaded
+   */
+  @Transactional
+  public int catchUp() {
+    Instant since = watermark;
+    if (since == null) {
+      return 0;
+    }
+    Instant next = Instant.now().minus(watermarkLag);
+    AtomicInteger applied = new AtomicInteger();
+    try (var entries = holdRepository.streamIndexEntriesUpdatedAfter(
+        EnumSet.allOf(HoldStatus.class), since)) {
+      entries.forEach(entry -> {
+        switch (entry.status()) {
+          case AUTHORIZED -> activeHoldIndex.putIfAbsent(entry);
+          default -> activeHoldIndex.remove(entry.holdId());
+        }
+        applied.incrementAndGet();
+      });
+    }
+    if (next.isAfter(since)) {
+      watermark = next;
+    }
+    return applied.get();
+  }
+
+  /**
+   * The UPDATED_AT up to which the index reflects CHS_HOLDS, empty until it was first loaded.
+   */
+  public Optional<Instant> watermark() {
+    return Optional.ofNullable(watermark);
+  }
+}
@@ -0,0 +1,166 @@
+package com.creditx.hold.index;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local, memory-mapped snapshot of the AUTHORIZED entries of the {@link ActiveHoldIndex}, so a
+ * restarted instance maps the file and only replays the holds changed since instead of streaming
+ * every active hold from CHS_HOLDS.
+ *
+ * <p>The file is a 48-byte header followed by the index's own 48-byte records:
+ * <pre>
+ *   0  int   magic "CHSI"       24 int   watermark nanos
+ *   4  int   format version     28 int   reserved
+ *   8  int   record size        32 long  written at, epoch millis
+ *  12  int   record count       40 long  CRC32C of bytes 0-39 and of the records
+ *  16  long  watermark, epoch seconds
+ * </pre>
+ * The watermark is the UPDATED_AT up to which the snapshot reflects CHS_HOLDS. A snapshot is
+ * written to a temporary file and moved over the previous one, so readers only ever see complete
+ * files. One with an unknown version, a bad checksum, or older than
+ * {@code app.hold.index.snapshot.max-age-ms} is ignored.
+ */
+@Component
+@Slf4j
+public class ActiveHoldSnapshot {
+
+  static final int MAGIC = 0x43485349;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 48;
+  private static final int CHECKSUM = 40;
+
+  private final boolean enabled;
+  private final Path path;
+  private final Duration maxAge;
+  private final Timer writeTimer;
+  private final MeterRegistry meterRegistry;
+
+  public ActiveHoldSnapshot(@Value("${app.hold.index.snapshot.enabled:false}") boolean enabled,
+      @Value("${app.hold.index.snapshot.path:${java.io.tmpdir}/chs-active-holds.snapshot}") String path,
+      @Value("${app.hold.index.snapshot.max-age-ms:21600000}") long maxAgeMs,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.path = Path.of(path);
+    this.maxAge = Duration.ofMillis(maxAgeMs);
+    this.meterRegistry = meterRegistry;
+    this.writeTimer = Timer.builder("hold.index.snapshot.write")
+        .description("Time to write the active hold snapshot").register(meterRegistry);
+  }
+
+  /**
+   * Write the index's AUTHORIZED entries with the given watermark, replacing the previous snapshot.
+   *
+   * @return the number of entries written
+   */
+  public int write(ActiveHoldIndex index, Instant watermark) throws IOException {
+    long start = System.nanoTime();
+    Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+    // The entries are copied in memory under the index's read lock, and the file is written after
+    // it is released, so disk I/O never blocks index updates
+    ByteBuffer[] entries = new ByteBuffer[1];
+    int count = index.copyAuthorizedTo(bytes -> entries[0] = ByteBuffer.allocateDirect(bytes));
+    int bytes = entries[0].capacity();
+    try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, HEADER_BYTES + (long) bytes);
+      buffer.put(HEADER_BYTES, entries[0], 0, bytes);
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, VERSION);
+      buffer.putInt(8, ActiveHoldIndex.ENTRY_BYTES);
+      buffer.putInt(12, count);
+      buffer.putLong(16, watermark.getEpochSecond());
+      buffer.putInt(24, watermark.getNano());
+      buffer.putInt(28, 0);
+      buffer.putLong(32, System.currentTimeMillis());
+      buffer.putLong(CHECKSUM, checksum(buffer, count));
+      buffer.force();
+    }
+    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    writeTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    log.debug("Wrote {} active holds to {} with watermark {}", count, path, watermark);
+    return count;
+  }
+
+  /**
+   * Load the snapshot into the index if it is enabled, present, intact and recent enough.
+   *
+   * @return the snapshot's watermark, or empty if nothing was loaded
+   */
+  public Optional<Instant> restore(ActiveHoldIndex index) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    if (!Files.isRegularFile(path)) {
+      restored("missing");
+      return Optional.empty();
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_BYTES) {
+        return invalid("truncated header");
+      }
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+          || buffer.getInt(8) != ActiveHoldIndex.ENTRY_BYTES) {
+        return invalid("unknown format");
+      }
+      int count = buffer.getInt(12);
+      if (count < 0
+          || channel.size() != HEADER_BYTES + (long) count * ActiveHoldIndex.ENTRY_BYTES) {
+        return invalid("size does not match its header");
+      }
+      if (buffer.getLong(CHECKSUM) != checksum(buffer, count)) {
+        return invalid("checksum mismatch");
+      }
+      Instant writtenAt = Instant.ofEpochMilli(buffer.getLong(32));
+      if (writtenAt.plus(maxAge).isBefore(Instant.now())) {
+        restored("stale");
+        log.info("Ignoring active hold snapshot written at {}, older than {}", writtenAt, maxAge);
+        return Optional.empty();
+      }
+      index.putAllIfAbsent(buffer.slice(HEADER_BYTES, count * ActiveHoldIndex.ENTRY_BYTES));
+      restored("restored");
+      return Optional.of(Instant.ofEpochSecond(buffer.getLong(16), buffer.getInt(24)));
+    } catch (IOException e) {
+      log.warn("Could not read active hold snapshot {}", path, e);
+      return invalid("unreadable");
+    }
+  }
+
+  private static long checksum(ByteBuffer buffer, int count) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(0, CHECKSUM));
+    crc.update(buffer.slice(HEADER_BYTES, count * ActiveHoldIndex.ENTRY_BYTES));
+    return crc.getValue();
+  }
+
+  private Optional<Instant> invalid(String reason) {
+    restored("invalid");
+    log.warn("Ignoring active hold snapshot {}: {}", path, reason);
+    return Optional.empty();
+  }
+
+  private void restored(String result) {
+    Counter.builder("hold.index.snapshot.restores").tag("result", result)
+        .description("Startup attempts to restore the active hold snapshot")
+        .register(meterRegistry).increment();
+  }
+}
@@ -0,0 +1,35 @@
+package com.creditx.hold.index;
+
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import java.time.Instant;
+
+/**
+ * Snapshot of one {@link ActiveHoldIndex} entry. Amounts are in minor units (cents), like
+ * {@code Hold.amount}.
+ */
+public record IndexedHold(long holdId, long transactionId, long accountId, long amountMinor,
+                          long expiresAtMillis, HoldStatus status) {
+
+  /**
+   * Constructor used by the JPQL projection that rebuilds the index.
+   */
+  public IndexedHold(Long holdId, Long transactionId, Long accountId, Long amount,
+      Instant expiresAt, HoldStatus status) {
+    this(holdId, transactionId, accountId, amount, expiresAt.toEpochMilli(), status);
+  }
+
+  public static IndexedHold of(Hold hold) {
+    return new IndexedHold(hold.getHoldId(), hold.getTransactionId(), hold.getAccountId(),
+        hold.getAmount(), hold.getExpiresAt(), hold.getStatus());
+  }
+
+  /**
+   * Rebuild a detached hold carrying the indexed attributes and the given status.
+   */
+  public Hold toHold(HoldStatus newStatus) {
+    return Hold.builder().holdId(holdId).transactionId(transactionId).accountId(accountId)
+        .amount(amountMinor).status(newStatus)
+        .expiresAt(Instant.ofEpochMilli(expiresAtMillis)).build();
+  }
+}
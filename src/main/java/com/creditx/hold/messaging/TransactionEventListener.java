@@ -1,5 +1,6 @@
 package com.creditx.hold.messaging;
 
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
 import com.creditx.hold.constants.EventTypes;
 import com.creditx.hold.dto.TransactionAuthorizedEvent;
 import com.creditx.hold.dto.TransactionFailedEvent;
@@ -23,6 +24,7 @@ public class TransactionEventListener {
   private final TransactionEventService transactionEventService;
   private final TransactionSpanTagger transactionSpanTagger;
   private final ObjectMapper objectMapper;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
 
   @Bean
   public Consumer<Message<String>> transactionAuthorized() {
@@ -50,7 +52,8 @@ public class TransactionEventListener {
           return;
         }
 
-        transactionEventService.processTransactionAuthorized(event);
+        databaseConcurrencyLimiter.run(
+            () -> transactionEventService.processTransactionAuthorized(event));
         log.info("Successfully processed transaction.authorized for hold: {}", event.getHoldId());
       } catch (Exception e) {
         log.error("Failed to process transaction.authorized event: {}", payload, e);
@@ -85,7 +88,8 @@ public class TransactionEventListener {
           return;
         }
 
-        transactionEventService.processTransactionPosted(event);
+        databaseConcurrencyLimiter.run(
+            () -> transactionEventService.processTransactionPosted(event));
         log.info("Successfully processed transaction.posted for hold: {}", event.getHoldId());
       } catch (Exception e) {
         log.error("Failed to process transaction.posted event: {}", payload, e);
@@ -120,7 +124,8 @@ public class TransactionEventListener {
           return;
         }
 
-        transactionEventService.processTransactionFailed(event);
+        databaseConcurrencyLimiter.run(
+            () -> transactionEventService.processTransactionFailed(event));
         log.info("Successfully processed transaction.failed for hold: {}", event.getHoldId());
       } catch (Exception e) {
         log.error("Failed to process transaction.failed event: {}", payload, e);
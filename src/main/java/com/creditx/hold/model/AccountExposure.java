@@ -0,0 +1,38 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "CHS_ACCOUNT_EXPOSURE")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountExposure {
+
+  @Id
+  @Column(name = "ACCOUNT_ID")
+  private Long accountId;
+
+  /**
+   * Sum of AUTHORIZED hold amounts in minor units (cents).
+   */
+  @Column(name = "HELD_AMOUNT", nullable = false, precision = 20, scale = 2)
+  @Convert(converter = MinorUnitsConverter.class)
+  private Long heldAmount;
+
+  @Column(name = "ACTIVE_HOLD_COUNT", nullable = false)
+  private Long activeHoldCount;
+
+  @Column(name = "UPDATED_AT", insertable = false, updatable = false)
+  private Instant updatedAt;
+}
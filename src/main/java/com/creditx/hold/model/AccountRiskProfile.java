@@ -0,0 +1,41 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "CHS_ACCOUNT_RISK_PROFILES")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRiskProfile {
+
+  @Id
+  @Column(name = "ACCOUNT_ID")
+  private Long accountId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "RISK_TIER", nullable = false, length = 20)
+  private RiskTier riskTier;
+
+  /**
+   * Largest single hold in minor units (cents), or {@code null} for the service default.
+   */
+  @Column(name = "MAX_HOLD_AMOUNT", precision = 20, scale = 2)
+  @Convert(converter = MinorUnitsConverter.class)
+  private Long maxHoldAmount;
+
+  @Column(name = "UPDATED_AT", insertable = false, updatable = false)
+  private Instant updatedAt;
+}
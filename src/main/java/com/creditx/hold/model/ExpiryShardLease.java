@@ -0,0 +1,41 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Which instance owns an expiry shard, until when, and how far its current sweep has got. The
+ * cursor is the keyset position (expiresAt, holdId) of the last chunk processed, null between
+ * sweeps.
+ */
+@Entity
+@Table(name = "CHS_EXPIRY_SHARD_LEASES")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpiryShardLease {
+
+  @Id
+  @Column(name = "SHARD_ID")
+  private Integer shardId;
+
+  @Column(name = "OWNER", length = 100)
+  private String owner;
+
+  @Column(name = "LEASE_UNTIL")
+  private Instant leaseUntil;
+
+  @Column(name = "CURSOR_EXPIRES_AT")
+  private Instant cursorExpiresAt;
+
+  @Column(name = "CURSOR_HOLD_ID")
+  private Long cursorHoldId;
+}
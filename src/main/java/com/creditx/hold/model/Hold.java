@@ -1,6 +1,7 @@
 package com.creditx.hold.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -9,7 +10,6 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,8 +36,12 @@ public class Hold {
   @Column(name = "ACCOUNT_ID", nullable = false)
   private Long accountId;
 
+  /**
+   * Amount in minor units (cents).
+   */
   @Column(name = "AMOUNT", nullable = false, precision = 20, scale = 2)
-  private BigDecimal amount;
+  @Convert(converter = MinorUnitsConverter.class)
+  private Long amount;
 
   @Enumerated(EnumType.STRING)
   @Column(name = "STATUS", nullable = false, length = 20)
@@ -0,0 +1,71 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A terminal hold archived out of CHS_HOLDS. Rows are only written by the archiver's
+ * INSERT ... SELECT, never through this entity.
+ */
+@Entity
+@Immutable
+@Table(name = "CHS_HOLDS_HISTORY")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldHistory {
+
+  @Id
+  @Column(name = "HOLD_ID")
+  private Long holdId;
+
+  @Column(name = "TRANSACTION_ID", nullable = false)
+  private Long transactionId;
+
+  @Column(name = "ACCOUNT_ID", nullable = false)
+  private Long accountId;
+
+  /**
+   * Amount in minor units (cents).
+   */
+  @Column(name = "AMOUNT", nullable = false, precision = 20, scale = 2)
+  @Convert(converter = MinorUnitsConverter.class)
+  private Long amount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "STATUS", nullable = false, length = 20)
+  private HoldStatus status;
+
+  @Column(name = "CREATED_AT", nullable = false)
+  private Instant createdAt;
+
+  @Column(name = "UPDATED_AT", nullable = false)
+  private Instant updatedAt;
+
+  @Column(name = "EXPIRES_AT", nullable = false)
+  private Instant expiresAt;
+
+  @Column(name = "ARCHIVED_AT", nullable = false)
+  private Instant archivedAt;
+
+  /**
+   * The archived hold as a detached {@link Hold}, for callers that serve both tables alike.
+   */
+  public Hold toHold() {
+    return Hold.builder().holdId(holdId).transactionId(transactionId).accountId(accountId)
+        .amount(amount).status(status).createdAt(createdAt).updatedAt(updatedAt)
+        .expiresAt(expiresAt).build();
+  }
+}
@@ -0,0 +1,37 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "CHS_IDEMPOTENCY_KEYS")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+  @Id
+  @Column(name = "IDEMPOTENCY_KEY", length = 255)
+  private String idempotencyKey;
+
+  @Column(name = "REQUEST_HASH", nullable = false, length = 64)
+  private String requestHash;
+
+  // Both null while the key is reserved and its request still running
+  @Column(name = "STATUS_CODE")
+  private Integer statusCode;
+
+  @Column(name = "RESPONSE_BODY", length = 1000)
+  private String responseBody;
+
+  @Column(name = "EXPIRES_AT", nullable = false)
+  private Instant expiresAt;
+}
@@ -0,0 +1,23 @@
+package com.creditx.hold.model;
+
+import com.creditx.hold.util.MinorUnits;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * Maps minor-unit {@code long} amounts to NUMBER(20,2) columns.
+ */
+@Converter
+public class MinorUnitsConverter implements AttributeConverter<Long, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(Long attribute) {
+    return attribute == null ? null : MinorUnits.toDecimal(attribute);
+  }
+
+  @Override
+  public Long convertToEntityAttribute(BigDecimal dbData) {
+    return dbData == null ? null : MinorUnits.fromDecimal(dbData);
+  }
+}
@@ -0,0 +1,5 @@
+package com.creditx.hold.model;
+
+public enum RiskTier {
+  LOW, STANDARD, HIGH
+}
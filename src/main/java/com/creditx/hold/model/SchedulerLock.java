@@ -0,0 +1,36 @@
+package com.creditx.hold.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "CHS_SCHEDULER_LOCKS")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+
+  @Id
+  @Column(name = "LOCK_NAME", length = 64)
+  private String lockName;
+
+  @Column(name = "LOCKED_BY", nullable = false, length = 100)
+  private String lockedBy;
+
+  @Column(name = "LOCKED_AT", nullable = false)
+  private Instant lockedAt;
+
+  @Column(name = "LOCK_UNTIL", nullable = false)
+  private Instant lockUntil;
+
+  @Column(name = "FENCING_TOKEN", nullable = false)
+  private Long fencingToken;
+}
@@ -0,0 +1,52 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.AccountExposure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountExposureRepository extends JpaRepository<AccountExposure, Long> {
+
+  String ADD_DELTA_SQL = """
+      UPDATE CHS_ACCOUNT_EXPOSURE SET HELD_AMOUNT = HELD_AMOUNT + :amountDelta / 100,
+          ACTIVE_HOLD_COUNT = ACTIVE_HOLD_COUNT + :countDelta, UPDATED_AT = SYSTIMESTAMP
+      WHERE ACCOUNT_ID = :accountId
+      """;
+
+  // A concurrent insert of the same account waits for the other transaction and is then skipped
+  // instead of failing with ORA-00001, as a MERGE would
+  String CREATE_IF_ABSENT_SQL = """
+      INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(CHS_ACCOUNT_EXPOSURE (ACCOUNT_ID)) */
+      INTO CHS_ACCOUNT_EXPOSURE (ACCOUNT_ID, HELD_AMOUNT, ACTIVE_HOLD_COUNT)
+      VALUES (:accountId, 0, 0)
+      """;
+
+  /**
+   * Adds a delta to an account's exposure row, creating the row on first use. The update is
+   * applied in the database so concurrent transactions serialize on the row lock instead of
+   * overwriting each other's totals, and concurrent first holds of an account both land on the
+   * one row.
+   *
+   * @param amountDelta change in minor units (cents); scaled to the column inside the statement
+   */
+  default int applyDelta(Long accountId, long amountDelta, long countDelta) {
+    int updated = addDelta(accountId, amountDelta, countDelta);
+    if (updated == 0) {
+      createIfAbsent(accountId);
+      updated = addDelta(accountId, amountDelta, countDelta);
+    }
+    return updated;
+  }
+
+  @Modifying
+  @Query(value = ADD_DELTA_SQL, nativeQuery = true)
+  int addDelta(@Param("accountId") Long accountId, @Param("amountDelta") long amountDelta,
+      @Param("countDelta") long countDelta);
+
+  @Modifying
+  @Query(value = CREATE_IF_ABSENT_SQL, nativeQuery = true)
+  int createIfAbsent(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,10 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.AccountRiskProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountRiskProfileRepository extends JpaRepository<AccountRiskProfile, Long> {
+
+}
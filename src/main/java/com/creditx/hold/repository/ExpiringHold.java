@@ -0,0 +1,21 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import java.time.Instant;
+
+/**
+ * Columns of an expired AUTHORIZED hold needed to expire it, without loading the entity. Amounts
+ * are in minor units (cents), like {@code Hold.amount}.
+ */
+public record ExpiringHold(Long holdId, Long transactionId, Long accountId, Long amount,
+                           Instant expiresAt) {
+
+  /**
+   * Rebuild a detached hold carrying the projected attributes and the given status.
+   */
+  public Hold toHold(HoldStatus newStatus) {
+    return Hold.builder().holdId(holdId).transactionId(transactionId).accountId(accountId)
+        .amount(amount).status(newStatus).expiresAt(expiresAt).build();
+  }
+}
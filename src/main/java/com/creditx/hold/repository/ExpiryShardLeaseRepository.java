@@ -0,0 +1,62 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.ExpiryShardLease;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExpiryShardLeaseRepository extends JpaRepository<ExpiryShardLease, Integer> {
+
+  String ACQUIRE_SQL = """
+      MERGE INTO CHS_EXPIRY_SHARD_LEASES l
+      USING (SELECT :shardId AS SHARD_ID FROM DUAL) s
+      ON (l.SHARD_ID = s.SHARD_ID)
+      WHEN MATCHED THEN UPDATE SET l.OWNER = :owner, l.LEASE_UNTIL = :leaseUntil
+          WHERE l.OWNER = :owner OR l.LEASE_UNTIL IS NULL OR l.LEASE_UNTIL < :now
+      WHEN NOT MATCHED THEN INSERT (SHARD_ID, OWNER, LEASE_UNTIL)
+          VALUES (:shardId, :owner, :leaseUntil)
+      """;
+
+  /**
+   * Take a shard's lease if it is free, expired or already ours, creating the row on first use.
+   *
+   * @return 1 if the lease is now held by {@code owner}, 0 if another owner holds it
+   */
+  @Modifying
+  @Query(value = ACQUIRE_SQL, nativeQuery = true)
+  int acquire(@Param("shardId") int shardId, @Param("owner") String owner,
+      @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+  /**
+   * Record a shard's progress and extend its lease, only while {@code owner} still holds it.
+   *
+   * @return 0 if the lease was lost
+   */
+  @Modifying
+  @Query("UPDATE ExpiryShardLease l SET l.cursorExpiresAt = :cursorExpiresAt, "
+      + "l.cursorHoldId = :cursorHoldId, l.leaseUntil = :leaseUntil "
+      + "WHERE l.shardId = :shardId AND l.owner = :owner")
+  int advance(@Param("shardId") int shardId, @Param("owner") String owner,
+      @Param("cursorExpiresAt") Instant cursorExpiresAt, @Param("cursorHoldId") Long cursorHoldId,
+      @Param("leaseUntil") Instant leaseUntil);
+
+  /**
+   * Release a shard's lease, keeping its cursor for the next owner.
+   */
+  @Modifying
+  @Query("UPDATE ExpiryShardLease l SET l.leaseUntil = null "
+      + "WHERE l.shardId = :shardId AND l.owner = :owner")
+  int release(@Param("shardId") int shardId, @Param("owner") String owner);
+
+  /**
+   * End a shard's sweep: clear its cursor and release the lease.
+   */
+  @Modifying
+  @Query("UPDATE ExpiryShardLease l SET l.cursorExpiresAt = null, l.cursorHoldId = null, "
+      + "l.leaseUntil = null WHERE l.shardId = :shardId AND l.owner = :owner")
+  int complete(@Param("shardId") int shardId, @Param("owner") String owner);
+}
@@ -0,0 +1,40 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.HoldHistory;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.query.Procedure;
+import org.springframework.data.repository.query.Param;
+
+public interface HoldHistoryRepository extends JpaRepository<HoldHistory, Long> {
+
+  Optional<HoldHistory> findByTransactionId(Long transactionId);
+
+  List<HoldHistory> findByTransactionIdIn(Collection<Long> transactionIds);
+
+  /**
+   * Copy the given holds from CHS_HOLDS into the history table in one statement.
+   *
+   * @return number of rows copied
+   */
+  @Modifying
+  @Query(value = "INSERT INTO CHS_HOLDS_HISTORY (HOLD_ID, TRANSACTION_ID, ACCOUNT_ID, AMOUNT, "
+      + "STATUS, CREATED_AT, UPDATED_AT, EXPIRES_AT) SELECT HOLD_ID, TRANSACTION_ID, ACCOUNT_ID, "
+      + "AMOUNT, STATUS, CREATED_AT, UPDATED_AT, EXPIRES_AT FROM CHS_HOLDS "
+      + "WHERE HOLD_ID IN (:holdIds)", nativeQuery = true)
+  int copyFromHolds(@Param("holdIds") Collection<Long> holdIds);
+
+  /**
+   * Archive the day partitions of CHS_HOLDS ending before {@code cutoff} by partition exchange.
+   * The procedure commits as it goes.
+   *
+   * @return number of holds archived, 0 when CHS_HOLDS is not partitioned
+   */
+  @Procedure(procedureName = "CHS_ARCHIVE_HOLD_PARTITIONS", outputParameterName = "p_archived")
+  Integer archivePartitions(@Param("p_cutoff") Instant cutoff);
+}
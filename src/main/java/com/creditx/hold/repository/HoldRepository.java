@@ -1,19 +1,134 @@
 package com.creditx.hold.repository;
 
+import com.creditx.hold.index.IndexedHold;
 import com.creditx.hold.model.Hold;
 import com.creditx.hold.model.HoldStatus;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface HoldRepository extends JpaRepository<Hold, Long> {
 
   Optional<Hold> findByTransactionId(Long transactionId);
 
-  @Query("SELECT h FROM Hold h WHERE h.status = :status AND h.expiresAt < :currentTime")
-  List<Hold> findExpiredHolds(@Param("status") HoldStatus status,
-      @Param("currentTime") Instant currentTime);
+  List<Hold> findByTransactionIdIn(Collection<Long> transactionIds);
+
+  long countByStatusAndExpiresAtBefore(HoldStatus status, Instant currentTime);
+
+  @Query("SELECT MIN(h.expiresAt) FROM Hold h WHERE h.status = :status")
+  Optional<Instant> findEarliestExpiresAt(@Param("status") HoldStatus status);
+
+  /**
+   * Next chunk of holds in the given status expiring before {@code currentTime}, oldest first,
+   * after the keyset position ({@code afterExpiresAt}, {@code afterHoldId}).
+   */
+  @Query("SELECT new com.creditx.hold.repository.ExpiringHold(h.holdId, h.transactionId, "
+      + "h.accountId, h.amount, h.expiresAt) FROM Hold h WHERE h.status = :status "
+      + "AND h.expiresAt < :currentTime AND (h.expiresAt > :afterExpiresAt "
+      + "OR (h.expiresAt = :afterExpiresAt AND h.holdId > :afterHoldId)) "
+      + "ORDER BY h.expiresAt, h.holdId")
+  List<ExpiringHold> findExpiredChunk(@Param("status") HoldStatus status,
+      @Param("currentTime") Instant currentTime, @Param("afterExpiresAt") Instant afterExpiresAt,
+      @Param("afterHoldId") Long afterHoldId, Limit limit);
+
+  /**
+   * Like {@link #findExpiredChunk}, restricted to the holds of one shard: those with
+   * {@code MOD(holdId, shards) = shard}.
+   */
+  @Query("SELECT new com.creditx.hold.repository.ExpiringHold(h.holdId, h.transactionId, "
+      + "h.accountId, h.amount, h.expiresAt) FROM Hold h WHERE h.status = :status "
+      + "AND h.expiresAt < :currentTime AND MOD(h.holdId, :shards) = :shard "
+      + "AND (h.expiresAt > :afterExpiresAt "
+      + "OR (h.expiresAt = :afterExpiresAt AND h.holdId > :afterHoldId)) "
+      + "ORDER BY h.expiresAt, h.holdId")
+  List<ExpiringHold> findExpiredShardChunk(@Param("status") HoldStatus status,
+      @Param("currentTime") Instant currentTime, @Param("shards") long shards,
+      @Param("shard") long shard, @Param("afterExpiresAt") Instant afterExpiresAt,
+      @Param("afterHoldId") Long afterHoldId, Limit limit);
+
+  /**
+   * Lock the given holds that are still AUTHORIZED, skipping rows another transaction holds.
+   *
+   * @return ids of the locked holds
+   */
+  @Query(value = "SELECT HOLD_ID FROM CHS_HOLDS WHERE HOLD_ID IN (:holdIds) "
+      + "AND STATUS = 'AUTHORIZED' FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Number> lockAuthorized(@Param("holdIds") Collection<Long> holdIds);
+
+  /**
+   * Lock up to {@code limit} holds in a terminal status last updated before {@code cutoff}, skipping
+   * rows another transaction holds. The limit is applied while fetching: with SKIP LOCKED, Oracle
+   * locks rows as they are fetched, whereas ROWNUM would count the locked rows it then skips.
+   *
+   * @return ids of the locked holds
+   */
+  default List<Number> lockArchivable(Instant cutoff, int limit) {
+    try (Stream<Number> archivable = streamArchivable(cutoff)) {
+      return archivable.limit(limit).toList();
+    }
+  }
+
+  /**
+   * Holds in a terminal status last updated before {@code cutoff}, each locked as it is fetched
+   * and skipped if another transaction holds it. Fetches match the default
+   * {@code app.hold.archive.batch-size}, so a batch locks no rows it does not archive.
+   */
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+  @Query(value = "SELECT HOLD_ID FROM CHS_HOLDS WHERE STATUS IN ('CAPTURED', 'VOIDED', 'EXPIRED') "
+      + "AND UPDATED_AT < :cutoff FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  Stream<Number> streamArchivable(@Param("cutoff") Instant cutoff);
+
+  @Modifying
+  @Query("DELETE FROM Hold h WHERE h.holdId IN :holdIds")
+  int deleteByHoldIdIn(@Param("holdIds") Collection<Long> holdIds);
+
+  /**
+   * Stream holds in the given status as index entries, without materializing entities.
+   */
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  @Query("SELECT new com.creditx.hold.index.IndexedHold(h.holdId, h.transactionId, h.accountId, "
+      + "h.amount, h.expiresAt, h.status) FROM Hold h WHERE h.status = :status")
+  Stream<IndexedHold> streamIndexEntries(@Param("status") HoldStatus status);
+
+  /**
+   * Stream holds in the given statuses updated after {@code since} as index entries. Listing the
+   * statuses lets the (STATUS, UPDATED_AT) index serve the range.
+   */
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  @Query("SELECT new com.creditx.hold.index.IndexedHold(h.holdId, h.transactionId, h.accountId, "
+      + "h.amount, h.expiresAt, h.status) FROM Hold h WHERE h.status IN :statuses "
+      + "AND h.updatedAt > :since")
+  Stream<IndexedHold> streamIndexEntriesUpdatedAfter(
+      @Param("statuses") Collection<HoldStatus> statuses, @Param("since") Instant since);
+
+  /**
+   * Move a hold to a new status only if it is still in the expected one.
+   *
+   * @return number of rows updated, 0 if the hold is missing or already moved on
+   */
+  @Modifying
+  @Query("UPDATE Hold h SET h.status = :newStatus WHERE h.holdId = :holdId "
+      + "AND h.status = :expectedStatus")
+  int updateStatus(@Param("holdId") Long holdId, @Param("expectedStatus") HoldStatus expectedStatus,
+      @Param("newStatus") HoldStatus newStatus);
+
+  /**
+   * Move holds to a new status, only those still in the expected one.
+   *
+   * @return number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE Hold h SET h.status = :newStatus WHERE h.holdId IN :holdIds "
+      + "AND h.status = :expectedStatus")
+  int updateStatusIn(@Param("holdIds") Collection<Long> holdIds,
+      @Param("expectedStatus") HoldStatus expectedStatus, @Param("newStatus") HoldStatus newStatus);
 }
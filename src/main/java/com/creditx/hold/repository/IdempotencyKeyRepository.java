@@ -0,0 +1,77 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.IdempotencyKey;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+  /**
+   * Reserve a key for a request with a pending row, unless the key already has a row. Unlike
+   * {@code save}, which merges an entity with an assigned id, this never overwrites another
+   * instance's row: a concurrent insert of the same key waits for the other transaction and is
+   * then skipped instead of failing with ORA-00001. Runs in its own transaction.
+   *
+   * @return 1 if the key was reserved, 0 if it already had a row
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(CHS_IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY)) */
+      INTO CHS_IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, REQUEST_HASH, EXPIRES_AT)
+      VALUES (:key, :requestHash, :expiresAt)
+      """, nativeQuery = true)
+  int reserve(@Param("key") String key, @Param("requestHash") String requestHash,
+      @Param("expiresAt") Instant expiresAt);
+
+  /**
+   * Reserve a key whose row expired but has not been purged yet.
+   *
+   * @return 1 if the key was reserved, 0 if its row is gone or no longer expired
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE CHS_IDEMPOTENCY_KEYS
+      SET REQUEST_HASH = :requestHash, STATUS_CODE = NULL, RESPONSE_BODY = NULL,
+          EXPIRES_AT = :expiresAt
+      WHERE IDEMPOTENCY_KEY = :key AND EXPIRES_AT < :now
+      """, nativeQuery = true)
+  int reserveExpired(@Param("key") String key, @Param("requestHash") String requestHash,
+      @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+  /**
+   * Store the final response of a reserved key.
+   *
+   * @return 1 if stored, 0 if the key is not reserved for this request
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE CHS_IDEMPOTENCY_KEYS SET STATUS_CODE = :statusCode, RESPONSE_BODY = :responseBody
+      WHERE IDEMPOTENCY_KEY = :key AND REQUEST_HASH = :requestHash AND STATUS_CODE IS NULL
+      """, nativeQuery = true)
+  int complete(@Param("key") String key, @Param("requestHash") String requestHash,
+      @Param("statusCode") int statusCode, @Param("responseBody") String responseBody);
+
+  /**
+   * Drop the reservation of a request that failed, so the key can be used again.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      DELETE FROM CHS_IDEMPOTENCY_KEYS
+      WHERE IDEMPOTENCY_KEY = :key AND REQUEST_HASH = :requestHash AND STATUS_CODE IS NULL
+      """, nativeQuery = true)
+  int release(@Param("key") String key, @Param("requestHash") String requestHash);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+}
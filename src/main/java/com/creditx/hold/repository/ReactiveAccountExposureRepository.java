@@ -0,0 +1,37 @@
+package com.creditx.hold.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking exposure updates over R2DBC, so holds created through the reactive API keep
+ * CHS_ACCOUNT_EXPOSURE in step with the JPA path.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAccountExposureRepository {
+
+  private final DatabaseClient databaseClient;
+
+  /**
+   * Same as {@link AccountExposureRepository#applyDelta}: update the row, and create it first if
+   * the account has none yet.
+   */
+  public Mono<Void> applyDelta(Long accountId, long amountDelta, long countDelta) {
+    return addDelta(accountId, amountDelta, countDelta).flatMap(updated -> updated > 0
+        ? Mono.<Void>empty()
+        : databaseClient.sql(AccountExposureRepository.CREATE_IF_ABSENT_SQL)
+            .bind("accountId", accountId).then()
+            .then(addDelta(accountId, amountDelta, countDelta)).then());
+  }
+
+  private Mono<Long> addDelta(Long accountId, long amountDelta, long countDelta) {
+    return databaseClient.sql(AccountExposureRepository.ADD_DELTA_SQL)
+        .bind("accountId", accountId).bind("amountDelta", amountDelta)
+        .bind("countDelta", countDelta).fetch().rowsUpdated();
+  }
+}
@@ -0,0 +1,61 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.util.MinorUnits;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to CHS_HOLDS over R2DBC, used by the reactive hold API.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveHoldRepository {
+
+  private final DatabaseClient databaseClient;
+
+  /**
+   * The hold placed for a transaction, looking in CHS_HOLDS_HISTORY too so archived holds are
+   * found like on the JPA path.
+   */
+  public Mono<Hold> findByTransactionId(Long transactionId) {
+    return databaseClient.sql("""
+            SELECT HOLD_ID, STATUS FROM (
+                SELECT HOLD_ID, STATUS FROM CHS_HOLDS WHERE TRANSACTION_ID = :transactionId
+                UNION ALL
+                SELECT HOLD_ID, STATUS FROM CHS_HOLDS_HISTORY WHERE TRANSACTION_ID = :transactionId)
+            FETCH FIRST 1 ROWS ONLY
+            """).bind("transactionId", transactionId)
+        .map(row -> Hold.builder().holdId(row.get("HOLD_ID", Long.class))
+            .transactionId(transactionId)
+            .status(HoldStatus.valueOf(row.get("STATUS", String.class))).build()).one();
+  }
+
+  /**
+   * Insert the hold with an id drawn from CHS_HOLD_SEQ, the same sequence the JPA mapping uses.
+   *
+   * @param hold the hold to insert, without an id
+   * @return the hold with its id set
+   */
+  public Mono<Hold> insert(Hold hold) {
+    return databaseClient.sql("SELECT CHS_HOLD_SEQ.NEXTVAL AS HOLD_ID FROM DUAL")
+        .map(row -> row.get("HOLD_ID", Long.class)).one()
+        .flatMap(holdId -> databaseClient.sql("""
+                INSERT INTO CHS_HOLDS (HOLD_ID, TRANSACTION_ID, ACCOUNT_ID, AMOUNT, STATUS, EXPIRES_AT)
+                VALUES (:holdId, :transactionId, :accountId, :amount, :status, :expiresAt)
+                """).bind("holdId", holdId).bind("transactionId", hold.getTransactionId())
+            .bind("accountId", hold.getAccountId()).bind("amount", MinorUnits.toDecimal(hold.getAmount()))
+            .bind("status", hold.getStatus().name())
+            .bind("expiresAt", hold.getExpiresAt().atOffset(ZoneOffset.UTC)).then()
+            .then(Mono.fromSupplier(() -> {
+              hold.setHoldId(holdId);
+              return hold;
+            })));
+  }
+}
@@ -0,0 +1,28 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.OutboxEventStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking writes to CHS_OUTBOX_EVENTS over R2DBC, used by the reactive hold API. Rows are
+ * picked up by the same outbox publisher as the ones written through JPA.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOutboxEventRepository {
+
+  private final DatabaseClient databaseClient;
+
+  public Mono<Void> insert(String eventType, Long aggregateId, String payload) {
+    return databaseClient.sql("""
+            INSERT INTO CHS_OUTBOX_EVENTS (EVENT_ID, EVENT_TYPE, AGGREGATE_ID, PAYLOAD, STATUS)
+            VALUES (CHS_OUTBOX_SEQ.NEXTVAL, :eventType, :aggregateId, :payload, :status)
+            """).bind("eventType", eventType).bind("aggregateId", aggregateId)
+        .bind("payload", payload).bind("status", OutboxEventStatus.PENDING.name()).then();
+  }
+}
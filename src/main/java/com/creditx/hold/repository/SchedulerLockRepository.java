@@ -0,0 +1,64 @@
+package com.creditx.hold.repository;
+
+import com.creditx.hold.model.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lock statements use the database clock, so instances with skewed clocks agree on when a lock
+ * lapses.
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+  String TRY_LOCK_SQL = """
+      MERGE INTO CHS_SCHEDULER_LOCKS l
+      USING (SELECT :lockName AS LOCK_NAME FROM DUAL) s
+      ON (l.LOCK_NAME = s.LOCK_NAME)
+      WHEN MATCHED THEN UPDATE SET l.LOCKED_BY = :lockedBy, l.LOCKED_AT = SYSTIMESTAMP,
+          l.LOCK_UNTIL = SYSTIMESTAMP + NUMTODSINTERVAL(:lockAtMostMs / 1000, 'SECOND'),
+          l.FENCING_TOKEN = l.FENCING_TOKEN + 1
+          WHERE l.LOCK_UNTIL <= SYSTIMESTAMP
+      WHEN NOT MATCHED THEN INSERT (LOCK_NAME, LOCKED_BY, LOCKED_AT, LOCK_UNTIL, FENCING_TOKEN)
+          VALUES (:lockName, :lockedBy, SYSTIMESTAMP,
+              SYSTIMESTAMP + NUMTODSINTERVAL(:lockAtMostMs / 1000, 'SECOND'), 1)
+      """;
+
+  /**
+   * Take a lock if it is free or has lapsed, creating its row on first use, and move its fencing
+   * token on.
+   *
+   * @return 1 if the lock was taken, 0 if another holder has it
+   */
+  @Modifying
+  @Query(value = TRY_LOCK_SQL, nativeQuery = true)
+  int tryLock(@Param("lockName") String lockName, @Param("lockedBy") String lockedBy,
+      @Param("lockAtMostMs") long lockAtMostMs);
+
+  /**
+   * Release a lock, keeping it taken until {@code lockAtLeastMs} after it was acquired. Only the
+   * holder of {@code fencingToken} can release it.
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE CHS_SCHEDULER_LOCKS
+      SET LOCK_UNTIL = GREATEST(SYSTIMESTAMP,
+          LOCKED_AT + NUMTODSINTERVAL(:lockAtLeastMs / 1000, 'SECOND'))
+      WHERE LOCK_NAME = :lockName AND FENCING_TOKEN = :fencingToken
+      """, nativeQuery = true)
+  int unlock(@Param("lockName") String lockName, @Param("fencingToken") long fencingToken,
+      @Param("lockAtLeastMs") long lockAtLeastMs);
+
+  /**
+   * 1 if the lock is still held under {@code fencingToken} and has not lapsed.
+   */
+  @Query(value = """
+      SELECT COUNT(*) FROM CHS_SCHEDULER_LOCKS
+      WHERE LOCK_NAME = :lockName AND FENCING_TOKEN = :fencingToken
+          AND LOCK_UNTIL > SYSTIMESTAMP
+      """, nativeQuery = true)
+  int countHeld(@Param("lockName") String lockName, @Param("fencingToken") long fencingToken);
+}
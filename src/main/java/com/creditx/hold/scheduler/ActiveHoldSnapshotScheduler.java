@@ -0,0 +1,48 @@
+package com.creditx.hold.scheduler;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.config.SchedulerConfig;
+import com.creditx.hold.index.ActiveHoldIndex;
+import com.creditx.hold.index.ActiveHoldIndexLoader;
+import com.creditx.hold.index.ActiveHoldSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Brings the active hold index up to date with CHS_HOLDS and writes it to the local snapshot.
+ * Every instance keeps its own snapshot, so the job is not cluster locked.
+ */
+@Service
+@ConditionalOnProperty(name = {"app.hold.index.load-on-startup",
+    "app.hold.index.snapshot.enabled"}, havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveHoldSnapshotScheduler {
+
+  private final ActiveHoldIndexLoader activeHoldIndexLoader;
+  private final ActiveHoldIndex activeHoldIndex;
+  private final ActiveHoldSnapshot activeHoldSnapshot;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+  @Scheduled(fixedDelayString = "${app.hold.index.snapshot.interval-ms:60000}",
+      initialDelayString = "${app.hold.index.snapshot.interval-ms:60000}",
+      scheduler = SchedulerConfig.INDEX_SNAPSHOT_SCHEDULER)
+  public void writeSnapshot() {
+    if (activeHoldIndexLoader.watermark().isEmpty()) {
+      log.debug("Active hold index not loaded yet, skipping snapshot");
+      return;
+    }
+    try {
+      int applied = databaseConcurrencyLimiter.call(activeHoldIndexLoader::catchUp);
+      int written = activeHoldSnapshot.write(activeHoldIndex,
+          activeHoldIndexLoader.watermark().orElseThrow());
+      log.debug("Applied {} hold changes and wrote {} active holds to the snapshot", applied,
+          written);
+    } catch (Exception e) {
+      log.error("Error occurred while writing the active hold snapshot", e);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.creditx.hold.scheduler;
+
+import com.creditx.hold.archive.HoldArchiver;
+import com.creditx.hold.concurrency.ClusterLocked;
+import com.creditx.hold.config.SchedulerConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "app.hold.archive.enabled", havingValue = "true",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class HoldArchiveScheduler {
+
+  private final HoldArchiver holdArchiver;
+
+  @Scheduled(fixedDelayString = "${app.hold.archive.interval-ms:3600000}",
+      scheduler = SchedulerConfig.HOLD_ARCHIVE_SCHEDULER)
+  @ClusterLocked(name = "hold-archive",
+      lockAtMostFor = "${app.scheduler.lock.hold-archive.lock-at-most-ms:3600000}",
+      lockAtLeastFor = "${app.scheduler.lock.hold-archive.lock-at-least-ms:60000}")
+  public void archiveHolds() {
+    try {
+      // Each batch takes its own database permit
+      holdArchiver.archive();
+    } catch (Exception e) {
+      log.error("Error occurred while archiving holds", e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.creditx.hold.scheduler;
 
+import com.creditx.hold.config.SchedulerConfig;
 import com.creditx.hold.service.HoldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,10 +14,13 @@ public class HoldExpiryScheduler {
 
   private final HoldService holdService;
 
-  @Scheduled(fixedDelayString = "${app.hold.expiry-check-interval:300000}") // Default to 5 minutes
+  // Not @ClusterLocked: every replica sweeps, and the shard leases split the work between them
+  @Scheduled(fixedDelayString = "${app.hold.expiry-check-interval:300000}", // Default to 5 minutes
+      scheduler = SchedulerConfig.HOLD_EXPIRY_SCHEDULER)
   public void expireHolds() {
     log.debug("Starting hold expiry check");
     try {
+      // The shard workers take database permits per chunk
       holdService.expireHolds();
     } catch (Exception e) {
       log.error("Error occurred during hold expiry processing", e);
@@ -0,0 +1,35 @@
+package com.creditx.hold.scheduler;
+
+import com.creditx.hold.cache.IdempotencyResponseCache;
+import com.creditx.hold.concurrency.ClusterLocked;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.config.SchedulerConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "app.idempotency.db-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyPurgeScheduler {
+
+  private final IdempotencyResponseCache idempotencyResponseCache;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+  @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}",
+      scheduler = SchedulerConfig.IDEMPOTENCY_PURGE_SCHEDULER)
+  @ClusterLocked(name = "idempotency-purge",
+      lockAtMostFor = "${app.scheduler.lock.idempotency-purge.lock-at-most-ms:600000}",
+      lockAtLeastFor = "${app.scheduler.lock.idempotency-purge.lock-at-least-ms:60000}")
+  public void purgeExpiredKeys() {
+    try {
+      int deleted = databaseConcurrencyLimiter.call(idempotencyResponseCache::purgeExpired);
+      log.debug("Purged {} expired idempotency keys", deleted);
+    } catch (Exception e) {
+      log.error("Error occurred while purging idempotency keys", e);
+    }
+  }
+}
@@ -1,5 +1,10 @@
 package com.creditx.hold.scheduler;
 
+import com.creditx.hold.concurrency.ClusterLock;
+import com.creditx.hold.concurrency.ClusterLockProvider;
+import com.creditx.hold.concurrency.ClusterLocked;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.config.SchedulerConfig;
 import com.creditx.hold.messaging.OutboxStreamPublisher;
 import com.creditx.hold.model.OutboxEvent;
 import com.creditx.hold.service.OutboxEventService;
@@ -17,19 +22,31 @@ public class OutboxEventPublishingScheduler {
 
   private final OutboxEventService outboxEventService;
   private final OutboxStreamPublisher outboxStreamPublisher;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final ClusterLockProvider clusterLockProvider;
 
   @Value("${app.outbox.batch-size}")
   private int batchSize;
 
-  @Scheduled(fixedDelayString = "${app.outbox.publish-interval}")
+  @Scheduled(fixedDelayString = "${app.outbox.publish-interval}",
+      scheduler = SchedulerConfig.OUTBOX_RELAY_SCHEDULER)
+  @ClusterLocked(name = "outbox-relay",
+      lockAtMostFor = "${app.scheduler.lock.outbox-relay.lock-at-most-ms:60000}")
   public void publishPendingEvents() {
     log.debug("Starting outbox event publishing cycle");
-    List<OutboxEvent> events = outboxEventService.fetchPendingEvents(batchSize);
+    // Permits are taken per database call, not held while waiting on the broker
+    List<OutboxEvent> events = databaseConcurrencyLimiter.call(
+        () -> outboxEventService.fetchPendingEvents(batchSize));
 
     if (events.isEmpty()) {
       log.debug("No pending outbox events to publish");
       return;
     }
+    // A relay whose lock lapsed while fetching must not publish alongside its successor
+    if (ClusterLock.current().filter(lock -> !clusterLockProvider.isHeld(lock)).isPresent()) {
+      log.warn("Outbox relay lock was taken over, skipping {} events", events.size());
+      return;
+    }
 
     log.info("Publishing {} pending outbox events", events.size());
     int successCount = 0;
@@ -40,12 +57,12 @@ public class OutboxEventPublishingScheduler {
         log.debug("Publishing event {} of type {}", event.getEventId(), event.getEventType());
         outboxStreamPublisher.publish(event.getAggregateId().toString(), event.getPayload(),
             event.getEventType());
-        outboxEventService.markAsPublished(event);
+        databaseConcurrencyLimiter.run(() -> outboxEventService.markAsPublished(event));
         successCount++;
         log.debug("Successfully published event {}", event.getEventId());
       } catch (Exception e) {
         log.error("Failed to publish event {}: {}", event.getEventId(), e.getMessage(), e);
-        outboxEventService.markAsFailed(event);
+        databaseConcurrencyLimiter.run(() -> outboxEventService.markAsFailed(event));
         failureCount++;
       }
     }
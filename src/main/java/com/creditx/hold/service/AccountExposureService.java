@@ -0,0 +1,29 @@
+package com.creditx.hold.service;
+
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import java.util.Collection;
+
+public interface AccountExposureService {
+
+  /**
+   * Adds newly authorized holds to their accounts' exposure. Must run in the transaction that
+   * inserts the holds.
+   */
+  void holdsAuthorized(Collection<Hold> holds);
+
+  /**
+   * Applies a hold's status change. Exposure only drops when the hold leaves AUTHORIZED; moves
+   * between final states leave it unchanged. Must run in the transaction that updates the hold.
+   */
+  void holdTransitioned(Hold hold, HoldStatus previousStatus);
+
+  /**
+   * Releases holds that left AUTHORIZED together, e.g. an expiry chunk. Must run in the transaction
+   * that updates the holds.
+   */
+  void holdsReleased(Collection<Hold> holds);
+
+  AccountExposureResponse getExposure(Long accountId);
+}
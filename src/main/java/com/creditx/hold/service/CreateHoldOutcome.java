@@ -0,0 +1,22 @@
+package com.creditx.hold.service;
+
+import com.creditx.hold.dto.CreateHoldResponse;
+
+/**
+ * Per-request result of a batched hold creation: either the response for the caller or the error
+ * that rejected its request.
+ */
+public record CreateHoldOutcome(CreateHoldResponse response, RuntimeException error) {
+
+  public static CreateHoldOutcome success(CreateHoldResponse response) {
+    return new CreateHoldOutcome(response, null);
+  }
+
+  public static CreateHoldOutcome failure(RuntimeException error) {
+    return new CreateHoldOutcome(null, error);
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
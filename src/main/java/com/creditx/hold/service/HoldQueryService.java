@@ -0,0 +1,23 @@
+package com.creditx.hold.service;
+
+import com.creditx.hold.dto.HoldResponse;
+import java.util.Optional;
+
+public interface HoldQueryService {
+
+  /**
+   * Find a hold by its id, served from the hold cache when possible
+   *
+   * @param holdId the hold id
+   * @return the hold, or empty if it does not exist
+   */
+  Optional<HoldResponse> findHold(Long holdId);
+
+  /**
+   * Find the hold placed for a transaction, served from the hold cache when possible
+   *
+   * @param transactionId the transaction id
+   * @return the hold, or empty if the transaction has no hold
+   */
+  Optional<HoldResponse> findHoldByTransactionId(Long transactionId);
+}
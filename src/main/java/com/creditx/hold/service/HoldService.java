@@ -2,10 +2,20 @@ package com.creditx.hold.service;
 
 import com.creditx.hold.dto.CreateHoldRequest;
 import com.creditx.hold.dto.CreateHoldResponse;
+import java.util.List;
 
 public interface HoldService {
 
   CreateHoldResponse createHold(CreateHoldRequest request);
 
+  /**
+   * Create several holds in one database transaction. Rejections of individual requests do not
+   * affect the others; the returned outcomes are in the same order as the requests.
+   *
+   * @param requests the hold requests to create together
+   * @return one outcome per request
+   */
+  List<CreateHoldOutcome> createHolds(List<CreateHoldRequest> requests);
+
   void expireHolds();
 }
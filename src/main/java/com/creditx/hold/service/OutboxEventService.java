@@ -2,11 +2,17 @@ package com.creditx.hold.service;
 
 import com.creditx.hold.model.OutboxEvent;
 import java.util.List;
+import java.util.Map;
 
 public interface OutboxEventService {
 
   OutboxEvent saveEvent(String eventType, Long aggregateId, String payload);
 
+  /**
+   * Save one event per aggregate id, inserted as a JDBC batch at commit.
+   */
+  List<OutboxEvent> saveEvents(String eventType, Map<Long, String> payloadsByAggregateId);
+
   List<OutboxEvent> fetchPendingEvents(int limit);
 
   void markAsPublished(OutboxEvent event);
@@ -0,0 +1,17 @@
+package com.creditx.hold.service;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveHoldService {
+
+  /**
+   * Non-blocking equivalent of {@link HoldService#createHold(CreateHoldRequest)} with the same
+   * idempotency and outbox semantics.
+   *
+   * @param request the hold request
+   * @return the created or already existing hold
+   */
+  Mono<CreateHoldResponse> createHold(CreateHoldRequest request);
+}
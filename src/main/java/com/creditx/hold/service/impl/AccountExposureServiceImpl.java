@@ -0,0 +1,67 @@
+package com.creditx.hold.service.impl;
+
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.AccountExposureRepository;
+import com.creditx.hold.service.AccountExposureService;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountExposureServiceImpl implements AccountExposureService {
+
+  private final AccountExposureRepository accountExposureRepository;
+
+  @Override
+  public void holdsAuthorized(Collection<Hold> holds) {
+    // One update per account, in account order so concurrent batches lock rows consistently
+    Map<Long, Long> amounts = new TreeMap<>();
+    Map<Long, Long> counts = new TreeMap<>();
+    for (Hold hold : holds) {
+      amounts.merge(hold.getAccountId(), hold.getAmount(), Math::addExact);
+      counts.merge(hold.getAccountId(), 1L, Long::sum);
+    }
+    amounts.forEach((accountId, amount) -> accountExposureRepository.applyDelta(accountId, amount,
+        counts.get(accountId)));
+  }
+
+  @Override
+  public void holdTransitioned(Hold hold, HoldStatus previousStatus) {
+    if (previousStatus != HoldStatus.AUTHORIZED || hold.getStatus() == HoldStatus.AUTHORIZED) {
+      return;
+    }
+    accountExposureRepository.applyDelta(hold.getAccountId(), -hold.getAmount(), -1);
+    log.debug("Released {} from exposure of account {} ({} -> {})", hold.getAmount(),
+        hold.getAccountId(), previousStatus, hold.getStatus());
+  }
+
+  @Override
+  public void holdsReleased(Collection<Hold> holds) {
+    Map<Long, Long> amounts = new TreeMap<>();
+    Map<Long, Long> counts = new TreeMap<>();
+    for (Hold hold : holds) {
+      amounts.merge(hold.getAccountId(), hold.getAmount(), Math::addExact);
+      counts.merge(hold.getAccountId(), 1L, Long::sum);
+    }
+    amounts.forEach((accountId, amount) -> accountExposureRepository.applyDelta(accountId, -amount,
+        -counts.get(accountId)));
+    log.debug("Released {} holds from exposure of {} accounts", holds.size(), amounts.size());
+  }
+
+  @Override
+  public AccountExposureResponse getExposure(Long accountId) {
+    return accountExposureRepository.findById(accountId)
+        .map(exposure -> AccountExposureResponse.builder().accountId(accountId)
+            .heldAmount(exposure.getHeldAmount()).activeHoldCount(exposure.getActiveHoldCount())
+            .updatedAt(exposure.getUpdatedAt()).build())
+        .orElseGet(() -> AccountExposureResponse.builder().accountId(accountId)
+            .heldAmount(0L).activeHoldCount(0L).build());
+  }
+}
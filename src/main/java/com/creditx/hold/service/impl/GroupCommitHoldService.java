@@ -0,0 +1,230 @@
+package com.creditx.hold.service.impl;
+
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.fraud.FraudDecision;
+import com.creditx.hold.fraud.HoldPreCheckRunner;
+import com.creditx.hold.service.CreateHoldOutcome;
+import com.creditx.hold.service.HoldService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Group-commit front for {@link HoldServiceImpl}. Concurrent {@code createHold} calls are queued and
+ * a single flusher thread commits everything that arrives within the configured window (or until
+ * the batch is full) through {@link HoldService#createHolds(List)}, so the group pays for one
+ * transaction and one JDBC batch. Every caller still receives its own response or error.
+ *
+ * <p>The flusher runs the group's pre-checks concurrently before the transaction starts. Callers
+ * wait at most {@code app.hold.group-commit.await-timeout-ms}; when the flusher stops, requests
+ * it did not take are failed with a retryable {@link DatabaseBusyException}.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.hold.group-commit.enabled", havingValue = "true")
+@Slf4j
+public class GroupCommitHoldService implements HoldService {
+
+  private final HoldServiceImpl delegate;
+  private final HoldPreCheckRunner preCheckRunner;
+  private final BlockingQueue<PendingHold> queue;
+  private final DistributionSummary groupSize;
+  private final Timer queueWait;
+  private final Timer commitTime;
+  private final Counter fallbacks;
+
+  @Value("${app.hold.group-commit.window-ms:2}")
+  private long windowMs;
+
+  @Value("${app.hold.group-commit.max-batch-size:64}")
+  private int maxBatchSize;
+
+  @Value("${app.hold.group-commit.await-timeout-ms:10000}")
+  private long awaitTimeoutMs;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public GroupCommitHoldService(HoldServiceImpl delegate, HoldPreCheckRunner preCheckRunner,
+      MeterRegistry meterRegistry,
+      @Value("${app.hold.group-commit.queue-capacity:4096}") int queueCapacity) {
+    this.delegate = delegate;
+    this.preCheckRunner = preCheckRunner;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.groupSize = DistributionSummary.builder("hold.group.commit.size")
+        .description("Number of hold requests committed together").register(meterRegistry);
+    this.queueWait = Timer.builder("hold.group.commit.queue.wait")
+        .description("Time a hold request waits for its group to be committed")
+        .register(meterRegistry);
+    this.commitTime = Timer.builder("hold.group.commit.duration")
+        .description("Time spent committing one group").register(meterRegistry);
+    this.fallbacks = Counter.builder("hold.group.commit.fallbacks")
+        .description("Groups that failed and were retried request by request")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  void start() {
+    running = true;
+    flusher = new Thread(this::runFlusher, "hold-group-commit");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info("Group commit enabled for hold creation: window={}ms, maxBatchSize={}", windowMs,
+        maxBatchSize);
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    running = false;
+    flusher.join(TimeUnit.SECONDS.toMillis(5));
+  }
+
+  @Override
+  public CreateHoldResponse createHold(CreateHoldRequest request) {
+    var pending = new PendingHold(request, System.nanoTime(), new CompletableFuture<>());
+    if (!running || !queue.offer(pending)) {
+      log.debug("Group commit queue unavailable, creating hold for transaction {} directly",
+          request.getTransactionId());
+      return delegate.createHold(request);
+    }
+    // The flusher may have exited since the check above; take the request back unless it was taken
+    if (!running && queue.remove(pending)) {
+      return delegate.createHold(request);
+    }
+    return await(pending.result());
+  }
+
+  @Override
+  public List<CreateHoldOutcome> createHolds(List<CreateHoldRequest> requests) {
+    return delegate.createHolds(requests, preCheckRunner.runAll(requests));
+  }
+
+  @Override
+  public void expireHolds() {
+    delegate.expireHolds();
+  }
+
+  private void runFlusher() {
+    long windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    List<PendingHold> group = new ArrayList<>(maxBatchSize);
+    try {
+      flushUntilStopped(windowNanos, group);
+    } finally {
+      running = false;
+      List<PendingHold> leftover = new ArrayList<>();
+      queue.drainTo(leftover);
+      leftover.forEach(pending -> pending.result().completeExceptionally(
+          new DatabaseBusyException("Hold group commit stopped, try again later")));
+    }
+  }
+
+  private void flushUntilStopped(long windowNanos, List<PendingHold> group) {
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingHold first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        group.add(first);
+        long deadline = first.enqueuedAt() + windowNanos;
+        while (group.size() < maxBatchSize) {
+          PendingHold next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          group.add(next);
+        }
+        flush(group);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        flush(group);
+        return;
+      } catch (Exception e) {
+        log.error("Unexpected error in hold group commit flusher", e);
+        group.forEach(pending -> pending.result().completeExceptionally(e));
+      } finally {
+        group.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingHold> group) {
+    if (group.isEmpty()) {
+      return;
+    }
+    long now = System.nanoTime();
+    groupSize.record(group.size());
+    group.forEach(pending -> queueWait.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+
+    List<CreateHoldRequest> requests = group.stream().map(PendingHold::request).toList();
+    List<CreateHoldOutcome> outcomes;
+    try {
+      FraudDecision[] preChecks = preCheckRunner.runAll(requests);
+      outcomes = commitTime.record(() -> delegate.createHolds(requests, preChecks));
+    } catch (RuntimeException e) {
+      // One bad row must not fail its neighbours: retry each request in its own transaction
+      log.warn("Group commit of {} holds failed, retrying individually: {}", group.size(),
+          e.getMessage());
+      fallbacks.increment();
+      group.forEach(this::createIndividually);
+      return;
+    }
+
+    for (int i = 0; i < group.size(); i++) {
+      CreateHoldOutcome outcome = outcomes.get(i);
+      if (outcome.isSuccess()) {
+        group.get(i).result().complete(outcome.response());
+      } else {
+        group.get(i).result().completeExceptionally(outcome.error());
+      }
+    }
+  }
+
+  private void createIndividually(PendingHold pending) {
+    try {
+      pending.result().complete(delegate.createHold(pending.request()));
+    } catch (RuntimeException e) {
+      pending.result().completeExceptionally(e);
+    }
+  }
+
+  private CreateHoldResponse await(CompletableFuture<CreateHoldResponse> result) {
+    try {
+      return result.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new DatabaseBusyException(
+          "Group commit did not complete within " + awaitTimeoutMs + " ms, try again later");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Group commit failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for group commit", e);
+    }
+  }
+
+  private record PendingHold(CreateHoldRequest request, long enqueuedAt,
+                             CompletableFuture<CreateHoldResponse> result) {
+
+  }
+}
@@ -0,0 +1,55 @@
+package com.creditx.hold.service.impl;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldHistory;
+import com.creditx.hold.repository.HoldHistoryRepository;
+import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.HoldQueryService;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldQueryServiceImpl implements HoldQueryService {
+
+  private final HoldRepository holdRepository;
+  private final HoldHistoryRepository holdHistoryRepository;
+  private final HoldCache holdCache;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+  @Override
+  public Optional<HoldResponse> findHold(Long holdId) {
+    var cached = holdCache.getByHoldId(holdId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    log.debug("Hold {} not cached, loading from database", holdId);
+    // Terminal holds past retention have moved to the history table
+    return databaseConcurrencyLimiter.call(() -> holdRepository.findById(holdId)
+        .or(() -> holdHistoryRepository.findById(holdId).map(HoldHistory::toHold)))
+        .map(this::cacheAndMap);
+  }
+
+  @Override
+  public Optional<HoldResponse> findHoldByTransactionId(Long transactionId) {
+    var cached = holdCache.getByTransactionId(transactionId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    log.debug("Hold for transaction {} not cached, loading from database", transactionId);
+    return databaseConcurrencyLimiter.call(() -> holdRepository.findByTransactionId(transactionId)
+        .or(() -> holdHistoryRepository.findByTransactionId(transactionId)
+            .map(HoldHistory::toHold))).map(this::cacheAndMap);
+  }
+
+  private HoldResponse cacheAndMap(Hold hold) {
+    holdCache.putIfAbsent(hold);
+    return HoldCache.toResponse(hold);
+  }
+}
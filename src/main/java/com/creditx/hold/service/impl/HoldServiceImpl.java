@@ -1,93 +1,237 @@
 package com.creditx.hold.service.impl;
 
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
 import com.creditx.hold.dto.CreateHoldRequest;
 import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.expiry.ShardedHoldExpiry;
+import com.creditx.hold.fraud.FraudDecision;
+import com.creditx.hold.fraud.HoldPreCheckRunner;
+import com.creditx.hold.fraud.PreCheckTimeoutException;
+import com.creditx.hold.fraud.RiskScorer;
+import com.creditx.hold.index.ActiveHoldIndex;
 import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldHistory;
 import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.HoldHistoryRepository;
 import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
+import com.creditx.hold.service.CreateHoldOutcome;
 import com.creditx.hold.service.HoldService;
 import com.creditx.hold.service.OutboxEventService;
+import com.creditx.hold.util.MinorUnitsSerializer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
-import java.math.BigDecimal;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Creates holds, each call in its own transaction. A database permit from the
+ * {@link DatabaseConcurrencyLimiter} is taken before the transaction starts, so the permits bound
+ * the connections in use whether requests come in one by one or in groups. The idempotency lookup
+ * falls back to the history table, so a transaction whose hold was archived gets that hold back
+ * rather than a second one.
+ */
 @Service
 @Slf4j
 public class HoldServiceImpl implements HoldService {
 
+  static final Duration HOLD_TTL = Duration.ofDays(7);
+
   private final HoldRepository holdRepository;
+  private final HoldHistoryRepository holdHistoryRepository;
   private final OutboxEventService outboxEventService;
+  private final HoldCache holdCache;
+  private final AccountExposureService accountExposureService;
+  private final ActiveHoldIndex activeHoldIndex;
+  private final HoldPreCheckRunner preCheckRunner;
+  private final RiskScorer riskScorer;
+  private final ShardedHoldExpiry shardedHoldExpiry;
+  private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+  private final TransactionTemplate transactionTemplate;
   private final ObjectMapper objectMapper;
 
-  public HoldServiceImpl(HoldRepository holdRepository, OutboxEventService outboxEventService) {
+  public HoldServiceImpl(HoldRepository holdRepository,
+      HoldHistoryRepository holdHistoryRepository, OutboxEventService outboxEventService,
+      HoldCache holdCache, AccountExposureService accountExposureService,
+      ActiveHoldIndex activeHoldIndex, HoldPreCheckRunner preCheckRunner,
+      RiskScorer riskScorer, ShardedHoldExpiry shardedHoldExpiry,
+      DatabaseConcurrencyLimiter databaseConcurrencyLimiter,
+      PlatformTransactionManager transactionManager) {
     this.holdRepository = holdRepository;
+    this.holdHistoryRepository = holdHistoryRepository;
     this.outboxEventService = outboxEventService;
+    this.holdCache = holdCache;
+    this.accountExposureService = accountExposureService;
+    this.activeHoldIndex = activeHoldIndex;
+    this.preCheckRunner = preCheckRunner;
+    this.riskScorer = riskScorer;
+    this.shardedHoldExpiry = shardedHoldExpiry;
+    this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
     this.objectMapper = new ObjectMapper();
     this.objectMapper.findAndRegisterModules(); // This enables JSR310 module for Instant serialization
   }
 
   @Override
-  @Transactional
   public CreateHoldResponse createHold(CreateHoldRequest request) {
-    // Check for idempotency - if hold already exists for this transaction
-    var existingHold = holdRepository.findByTransactionId(request.getTransactionId());
-    if (existingHold.isPresent()) {
-      Hold hold = existingHold.get();
-      return CreateHoldResponse.builder().holdId(hold.getHoldId()).status(hold.getStatus()).build();
-    }
-
-    // Run fraud checks
-    validateFraud(request);
+    return databaseConcurrencyLimiter.call(
+        () -> transactionTemplate.execute(status -> createHoldInTransaction(request)));
+  }
 
-    // Create hold with 7-day expiration
-    Hold hold = Hold.builder().transactionId(request.getTransactionId())
-        .accountId(request.getIssuerAccountId()).amount(request.getAmount())
-        .status(HoldStatus.AUTHORIZED).expiresAt(Instant.now().plus(7, ChronoUnit.DAYS)).build();
+  private CreateHoldResponse createHoldInTransaction(CreateHoldRequest request) {
+    // Pre-checks run on virtual threads while the idempotency lookup uses this thread's
+    // transaction; a duplicate request cancels them
+    try (var preChecks = preCheckRunner.start(request)) {
+      var existingHold = holdRepository.findByTransactionId(request.getTransactionId())
+          .or(() -> holdHistoryRepository.findByTransactionId(request.getTransactionId())
+              .map(HoldHistory::toHold));
+      if (existingHold.isPresent()) {
+        return toResponse(existingHold.get());
+      }
+      var decision = preChecks.await();
+      if (!decision.isApproved()) {
+        return CreateHoldResponse.rejected(decision.reason());
+      }
+    }
 
-    hold = holdRepository.save(hold);
+    Hold hold = holdRepository.save(newHold(request));
+    accountExposureService.holdsAuthorized(List.of(hold));
 
     // Create outbox event for hold.created
     recordHoldCreatedEvent(hold, request);
+    holdCache.put(hold);
+    activeHoldIndex.record(hold);
 
-    return CreateHoldResponse.builder().holdId(hold.getHoldId()).status(hold.getStatus()).build();
+    return toResponse(hold);
   }
 
   @Override
-  @Transactional
-  public void expireHolds() {
-    Instant currentTime = Instant.now();
-    List<Hold> expiredHolds = holdRepository.findExpiredHolds(HoldStatus.AUTHORIZED, currentTime);
+  public List<CreateHoldOutcome> createHolds(List<CreateHoldRequest> requests) {
+    return createHolds(requests, preCheckRunner.runAll(requests));
+  }
 
-    log.info("Found {} expired holds to process", expiredHolds.size());
+  /**
+   * Like {@link #createHolds(List)}, with the pre-checks already run by
+   * {@link HoldPreCheckRunner#runAll(List)}, so callers can run them before the transaction starts
+   * and its connection is not held while they wait on fraud lookups.
+   *
+   * @param preChecks one decision per request, null where the checks timed out
+   */
+  public List<CreateHoldOutcome> createHolds(List<CreateHoldRequest> requests,
+      FraudDecision[] preChecks) {
+    return databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(
+        status -> createHoldsInTransaction(requests, preChecks)));
+  }
 
-    for (Hold hold : expiredHolds) {
-      try {
-        // Update hold status to EXPIRED
-        hold.setStatus(HoldStatus.EXPIRED);
-        holdRepository.save(hold);
+  private List<CreateHoldOutcome> createHoldsInTransaction(List<CreateHoldRequest> requests,
+      FraudDecision[] preChecks) {
+    List<CreateHoldOutcome> outcomes = new ArrayList<>(requests.size());
+    if (requests.isEmpty()) {
+      return outcomes;
+    }
+
+    // One idempotency lookup for the whole batch, and one in the history table for the rest
+    Map<Long, Hold> existingHolds = new HashMap<>();
+    List<Long> transactionIds = requests.stream().map(CreateHoldRequest::getTransactionId)
+        .distinct().toList();
+    holdRepository.findByTransactionIdIn(transactionIds)
+        .forEach(hold -> existingHolds.putIfAbsent(hold.getTransactionId(), hold));
+    List<Long> notFound = transactionIds.stream().filter(id -> !existingHolds.containsKey(id))
+        .toList();
+    if (!notFound.isEmpty()) {
+      holdHistoryRepository.findByTransactionIdIn(notFound).forEach(
+          archived -> existingHolds.putIfAbsent(archived.getTransactionId(), archived.toHold()));
+    }
 
-        // Publish hold.expired outbox event
-        recordHoldExpiredEvent(hold);
+    // Requests that passed the pre-checks, keyed by transaction so duplicates within the batch
+    // share one
+    Map<Long, Integer> candidateIndexByTransaction = new HashMap<>();
+    List<CreateHoldRequest> candidates = new ArrayList<>();
+
+    for (int i = 0; i < requests.size(); i++) {
+      CreateHoldRequest request = requests.get(i);
+      Hold existing = existingHolds.get(request.getTransactionId());
+      if (existing != null) {
+        outcomes.add(CreateHoldOutcome.success(toResponse(existing)));
+        continue;
+      }
+      if (candidateIndexByTransaction.containsKey(request.getTransactionId())) {
+        outcomes.add(null); // resolved below once the first request's hold is saved
+        continue;
+      }
+      FraudDecision decision = preChecks[i];
+      if (decision == null) {
+        outcomes.add(CreateHoldOutcome.failure(
+            new PreCheckTimeoutException("Hold pre-checks did not complete within the deadline")));
+        continue;
+      }
+      if (!decision.isApproved()) {
+        outcomes.add(CreateHoldOutcome.success(CreateHoldResponse.rejected(decision.reason())));
+        continue;
+      }
+      candidateIndexByTransaction.put(request.getTransactionId(), candidates.size());
+      candidates.add(request);
+      outcomes.add(null);
+    }
 
-        log.info("Successfully expired hold with ID: {}", hold.getHoldId());
-      } catch (Exception e) {
-        log.error("Failed to expire hold with ID: {}", hold.getHoldId(), e);
+    // The combined risk score, when enabled, is evaluated for all candidates in one pass
+    FraudDecision[] scores = riskScorer.score(candidates);
+    List<CreateHoldRequest> newRequests = new ArrayList<>(candidates.size());
+    List<Hold> newHolds = new ArrayList<>(candidates.size());
+    int[] newHoldIndexByCandidate = new int[candidates.size()];
+    for (int c = 0; c < candidates.size(); c++) {
+      newHoldIndexByCandidate[c] = scores[c].isApproved() ? newHolds.size() : -1;
+      if (scores[c].isApproved()) {
+        newRequests.add(candidates.get(c));
+        newHolds.add(newHold(candidates.get(c)));
       }
     }
-  }
 
-  private void validateFraud(CreateHoldRequest request) {
-    // TODO: Implement a fraud rulebook
-    // Simple fraud rule - reject if amount is larger than 10000
-    if (request.getAmount().compareTo(new BigDecimal("10000.00")) > 0) {
-      throw new IllegalArgumentException("Transaction amount exceeds fraud limit");
+    // Inserts are flushed together as one JDBC batch at commit
+    List<Hold> savedHolds = holdRepository.saveAll(newHolds);
+    accountExposureService.holdsAuthorized(savedHolds);
+    for (int i = 0; i < savedHolds.size(); i++) {
+      recordHoldCreatedEvent(savedHolds.get(i), newRequests.get(i));
+      holdCache.put(savedHolds.get(i));
+      activeHoldIndex.record(savedHolds.get(i));
     }
+
+    for (int i = 0; i < requests.size(); i++) {
+      if (outcomes.get(i) == null) {
+        int c = candidateIndexByTransaction.get(requests.get(i).getTransactionId());
+        outcomes.set(i, CreateHoldOutcome.success(scores[c].isApproved()
+            ? toResponse(savedHolds.get(newHoldIndexByCandidate[c]))
+            : CreateHoldResponse.rejected(scores[c].reason())));
+      }
+    }
+    log.debug("Created {} holds for a batch of {} requests", savedHolds.size(), requests.size());
+    return outcomes;
+  }
+
+  @Override
+  public void expireHolds() {
+    shardedHoldExpiry.expireAll();
+  }
+
+  private Hold newHold(CreateHoldRequest request) {
+    // Create hold with 7-day expiration
+    return Hold.builder().transactionId(request.getTransactionId())
+        .accountId(request.getIssuerAccountId()).amount(request.getAmount())
+        .status(HoldStatus.AUTHORIZED).expiresAt(Instant.now().plus(HOLD_TTL)).build();
+  }
+
+  private CreateHoldResponse toResponse(Hold hold) {
+    return CreateHoldResponse.builder().holdId(hold.getHoldId()).status(hold.getStatus()).build();
   }
 
   private void recordHoldCreatedEvent(Hold hold, CreateHoldRequest request) {
@@ -103,30 +247,11 @@ public class HoldServiceImpl implements HoldService {
     }
   }
 
-
-  private void recordHoldExpiredEvent(Hold hold) {
-    var payload = new HoldExpiredPayload(hold.getHoldId(), hold.getTransactionId(),
-        hold.getAccountId(), hold.getAmount(), hold.getStatus().toString(), hold.getExpiresAt());
-
-    try {
-      outboxEventService.saveEvent("hold.expired", hold.getHoldId(),
-          objectMapper.writeValueAsString(payload));
-      log.debug("Created hold.expired outbox event for hold ID: {}", hold.getHoldId());
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("Failed to serialize hold expired event payload", e);
-    }
-  }
-
-  // Simple record for JSON serialization
-  private record HoldCreatedPayload(Long holdId, Long transactionId, Long issuerAccountId,
-                                    Long merchantAccountId, BigDecimal amount, String currency,
-                                    String status, Instant expiresAt) {
-
-  }
-
   // Simple record for JSON serialization
-  private record HoldExpiredPayload(Long holdId, Long transactionId, Long accountId,
-                                    BigDecimal amount, String status, Instant expiresAt) {
+  record HoldCreatedPayload(Long holdId, Long transactionId, Long issuerAccountId,
+                            Long merchantAccountId,
+                            @JsonSerialize(using = MinorUnitsSerializer.class) Long amount,
+                            String currency, String status, Instant expiresAt) {
 
   }
 }
@@ -6,7 +6,9 @@ import com.creditx.hold.repository.OutboxEventRepository;
 import com.creditx.hold.service.OutboxEventService;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +31,18 @@ public class OutboxEventServiceImpl implements OutboxEventService {
     return savedEvent;
   }
 
+  @Override
+  @Transactional
+  public List<OutboxEvent> saveEvents(String eventType, Map<Long, String> payloadsByAggregateId) {
+    List<OutboxEvent> events = new ArrayList<>(payloadsByAggregateId.size());
+    payloadsByAggregateId.forEach((aggregateId, payload) -> events.add(OutboxEvent.builder()
+        .eventType(eventType).aggregateId(aggregateId).payload(payload)
+        .status(OutboxEventStatus.PENDING).build()));
+    List<OutboxEvent> savedEvents = repository.saveAll(events);
+    log.debug("Saved {} {} outbox events", savedEvents.size(), eventType);
+    return savedEvents;
+  }
+
   @Override
   public List<OutboxEvent> fetchPendingEvents(int limit) {
     log.debug("Fetching pending outbox events with limit: {}", limit);
@@ -0,0 +1,118 @@
+package com.creditx.hold.service.impl;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.constants.EventTypes;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.fraud.HoldPreCheckRunner;
+import com.creditx.hold.index.ActiveHoldIndex;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ReactiveAccountExposureRepository;
+import com.creditx.hold.repository.ReactiveHoldRepository;
+import com.creditx.hold.repository.ReactiveOutboxEventRepository;
+import com.creditx.hold.service.ReactiveHoldService;
+import com.creditx.hold.service.impl.HoldServiceImpl.HoldCreatedPayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveHoldServiceImpl implements ReactiveHoldService {
+
+  private final ReactiveHoldRepository holdRepository;
+  private final ReactiveOutboxEventRepository outboxEventRepository;
+  private final ReactiveAccountExposureRepository accountExposureRepository;
+  private final TransactionalOperator transactionalOperator;
+  private final HoldPreCheckRunner preCheckRunner;
+  private final HoldCache holdCache;
+  private final ActiveHoldIndex activeHoldIndex;
+  private final ObjectMapper objectMapper;
+
+  public ReactiveHoldServiceImpl(ReactiveHoldRepository holdRepository,
+      ReactiveOutboxEventRepository outboxEventRepository,
+      ReactiveAccountExposureRepository accountExposureRepository,
+      TransactionalOperator transactionalOperator, HoldPreCheckRunner preCheckRunner,
+      HoldCache holdCache, ActiveHoldIndex activeHoldIndex) {
+    this.holdRepository = holdRepository;
+    this.outboxEventRepository = outboxEventRepository;
+    this.accountExposureRepository = accountExposureRepository;
+    this.transactionalOperator = transactionalOperator;
+    this.preCheckRunner = preCheckRunner;
+    this.holdCache = holdCache;
+    this.activeHoldIndex = activeHoldIndex;
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.findAndRegisterModules(); // Same payload format as HoldServiceImpl
+  }
+
+  @Override
+  public Mono<CreateHoldResponse> createHold(CreateHoldRequest request) {
+    // Retries are answered before anything else. The pre-checks wait on their own virtual threads,
+    // so they are awaited off the event loop, and before the transaction opens, so no pooled
+    // connection is held while they wait on fraud lookups.
+    return holdRepository.findByTransactionId(request.getTransactionId())
+        .map(this::toResponse)
+        .switchIfEmpty(Mono.fromCallable(() -> preCheckRunner.runAll(request))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(decision -> decision.isApproved() ? createApproved(request)
+                : Mono.just(CreateHoldResponse.rejected(decision.reason()))));
+  }
+
+  private Mono<CreateHoldResponse> createApproved(CreateHoldRequest request) {
+    // Idempotency lookup, hold, exposure and outbox writes share one transaction; the lookup is
+    // repeated in it for a duplicate that was created while the pre-checks ran
+    return holdRepository.findByTransactionId(request.getTransactionId())
+        .map(existing -> new Outcome(null, toResponse(existing)))
+        .switchIfEmpty(Mono.defer(() -> insertHold(request))
+            .map(hold -> new Outcome(hold, toResponse(hold))))
+        .as(transactionalOperator::transactional)
+        // The transactional Mono emits once the commit completed, so this is the reactive
+        // counterpart of the after-commit cache and index updates of HoldServiceImpl
+        .doOnNext(outcome -> {
+          if (outcome.created() != null) {
+            holdCache.put(outcome.created());
+            activeHoldIndex.record(outcome.created());
+          }
+        }).map(Outcome::response);
+  }
+
+  private Mono<Hold> insertHold(CreateHoldRequest request) {
+    Hold hold = Hold.builder().transactionId(request.getTransactionId())
+        .accountId(request.getIssuerAccountId()).amount(request.getAmount())
+        .status(HoldStatus.AUTHORIZED).expiresAt(Instant.now().plus(HoldServiceImpl.HOLD_TTL))
+        .build();
+    return holdRepository.insert(hold)
+        .flatMap(saved -> accountExposureRepository.applyDelta(saved.getAccountId(),
+                saved.getAmount(), 1).then(recordHoldCreatedEvent(saved, request))
+            .thenReturn(saved));
+  }
+
+  private CreateHoldResponse toResponse(Hold hold) {
+    return CreateHoldResponse.builder().holdId(hold.getHoldId()).status(hold.getStatus()).build();
+  }
+
+  private Mono<Void> recordHoldCreatedEvent(Hold hold, CreateHoldRequest request) {
+    var payload = new HoldCreatedPayload(hold.getHoldId(), request.getTransactionId(),
+        request.getIssuerAccountId(), request.getMerchantAccountId(), request.getAmount(),
+        request.getCurrency(), hold.getStatus().toString(), hold.getExpiresAt());
+    try {
+      return outboxEventRepository.insert(EventTypes.HOLD_CREATED, hold.getHoldId(),
+          objectMapper.writeValueAsString(payload));
+    } catch (JsonProcessingException e) {
+      return Mono.error(
+          new RuntimeException("Failed to serialize hold created event payload", e));
+    }
+  }
+
+  private record Outcome(Hold created, CreateHoldResponse response) {
+
+  }
+}
@@ -1,11 +1,14 @@
 package com.creditx.hold.service.impl;
 
+import com.creditx.hold.cache.HoldCache;
 import com.creditx.hold.dto.TransactionAuthorizedEvent;
 import com.creditx.hold.dto.TransactionFailedEvent;
 import com.creditx.hold.dto.TransactionPostedEvent;
+import com.creditx.hold.index.ActiveHoldIndex;
 import com.creditx.hold.model.Hold;
 import com.creditx.hold.model.HoldStatus;
 import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
 import com.creditx.hold.service.ProcessedEventService;
 import com.creditx.hold.service.TransactionEventService;
 import com.creditx.hold.tracing.TransactionSpanTagger;
@@ -26,6 +29,9 @@ public class TransactionEventServiceImpl implements TransactionEventService {
   private final ProcessedEventService processedEventService;
   private final ObjectMapper objectMapper = new ObjectMapper();
   private final TransactionSpanTagger transactionSpanTagger;
+  private final HoldCache holdCache;
+  private final AccountExposureService accountExposureService;
+  private final ActiveHoldIndex activeHoldIndex;
 
   @Override
   @Transactional
@@ -54,13 +60,19 @@ public class TransactionEventServiceImpl implements TransactionEventService {
         return;
       }
 
-      // Find the hold by holdId and update status to CAPTURED
-      Hold hold = holdRepository.findById(event.getHoldId())
-          .orElseThrow(() -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
+      if (!transitionIndexedHold(event.getHoldId(), HoldStatus.CAPTURED)) {
+        // Find the hold by holdId and update status to CAPTURED
+        Hold hold = holdRepository.findById(event.getHoldId()).orElseThrow(
+            () -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
 
-      // Update hold status to CAPTURED
-      hold.setStatus(HoldStatus.CAPTURED);
-      holdRepository.save(hold);
+        // Update hold status to CAPTURED
+        HoldStatus previousStatus = hold.getStatus();
+        hold.setStatus(HoldStatus.CAPTURED);
+        holdRepository.save(hold);
+        accountExposureService.holdTransitioned(hold, previousStatus);
+        holdCache.put(hold);
+        activeHoldIndex.record(hold);
+      }
 
       // Mark event as processed
       processedEventService.markEventAsProcessed(eventId, payloadHash, "SUCCESS");
@@ -108,17 +120,25 @@ public class TransactionEventServiceImpl implements TransactionEventService {
         return;
       }
 
-      // Find the hold by holdId and update status to CAPTURED (if not already)
-      Hold hold = holdRepository.findById(event.getHoldId())
-          .orElseThrow(() -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
-
-      // Only update if hold is not already CAPTURED
-      if (hold.getStatus() != HoldStatus.CAPTURED) {
-        hold.setStatus(HoldStatus.CAPTURED);
-        holdRepository.save(hold);
+      if (transitionIndexedHold(event.getHoldId(), HoldStatus.CAPTURED)) {
         log.info("Updated hold {} status to CAPTURED", event.getHoldId());
       } else {
-        log.info("Hold {} is already CAPTURED, no update needed", event.getHoldId());
+        // Find the hold by holdId and update status to CAPTURED (if not already)
+        Hold hold = holdRepository.findById(event.getHoldId()).orElseThrow(
+            () -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
+
+        // Only update if hold is not already CAPTURED
+        if (hold.getStatus() != HoldStatus.CAPTURED) {
+          HoldStatus previousStatus = hold.getStatus();
+          hold.setStatus(HoldStatus.CAPTURED);
+          holdRepository.save(hold);
+          accountExposureService.holdTransitioned(hold, previousStatus);
+          holdCache.put(hold);
+          activeHoldIndex.record(hold);
+          log.info("Updated hold {} status to CAPTURED", event.getHoldId());
+        } else {
+          log.info("Hold {} is already CAPTURED, no update needed", event.getHoldId());
+        }
       }
 
       // Mark event as processed
@@ -167,18 +187,27 @@ public class TransactionEventServiceImpl implements TransactionEventService {
         return;
       }
 
-      // Find the hold by holdId and update status to VOIDED (if not already)
-      Hold hold = holdRepository.findById(event.getHoldId())
-          .orElseThrow(() -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
-
-      // Only update if hold is not already VOIDED or EXPIRED
-      if (hold.getStatus() != HoldStatus.VOIDED && hold.getStatus() != HoldStatus.EXPIRED) {
-        hold.setStatus(HoldStatus.VOIDED);
-        holdRepository.save(hold);
+      if (transitionIndexedHold(event.getHoldId(), HoldStatus.VOIDED)) {
         log.info("Updated hold {} status to VOIDED due to transaction failure", event.getHoldId());
       } else {
-        log.info("Hold {} is already in final state {}, no update needed", event.getHoldId(),
-            hold.getStatus());
+        // Find the hold by holdId and update status to VOIDED (if not already)
+        Hold hold = holdRepository.findById(event.getHoldId()).orElseThrow(
+            () -> new IllegalArgumentException("Hold not found: " + event.getHoldId()));
+
+        // Only update if hold is not already VOIDED or EXPIRED
+        if (hold.getStatus() != HoldStatus.VOIDED && hold.getStatus() != HoldStatus.EXPIRED) {
+          HoldStatus previousStatus = hold.getStatus();
+          hold.setStatus(HoldStatus.VOIDED);
+          holdRepository.save(hold);
+          accountExposureService.holdTransitioned(hold, previousStatus);
+          holdCache.put(hold);
+          activeHoldIndex.record(hold);
+          log.info("Updated hold {} status to VOIDED due to transaction failure",
+              event.getHoldId());
+        } else {
+          log.info("Hold {} is already in final state {}, no update needed", event.getHoldId(),
+              hold.getStatus());
+        }
       }
 
       // Mark event as processed
@@ -199,4 +228,25 @@ public class TransactionEventServiceImpl implements TransactionEventService {
       throw e;
     }
   }
+
+  /**
+   * Move a hold the index still knows as AUTHORIZED to {@code newStatus} with a conditional
+   * UPDATE, skipping the entity load. Returns false when the index has no such entry or the row
+   * has already moved on, in which case the caller loads the hold and applies its usual rules.
+   */
+  private boolean transitionIndexedHold(Long holdId, HoldStatus newStatus) {
+    var indexed = activeHoldIndex.get(holdId)
+        .filter(entry -> entry.status() == HoldStatus.AUTHORIZED);
+    if (indexed.isEmpty()
+        || holdRepository.updateStatus(holdId, HoldStatus.AUTHORIZED, newStatus) == 0) {
+      return false;
+    }
+    Hold hold = indexed.get().toHold(newStatus);
+    accountExposureService.holdTransitioned(hold, HoldStatus.AUTHORIZED);
+    // The index keeps expiresAt in milliseconds only, so the rebuilt hold is not cached; the next
+    // read loads the row
+    holdCache.evict(holdId);
+    activeHoldIndex.record(hold);
+    return true;
+  }
 }
@@ -0,0 +1,134 @@
+package com.creditx.hold.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amounts in currency minor units (cents) held as {@code long}. The scale is fixed at two decimal
+ * places because CHS_HOLDS.AMOUNT is NUMBER(20,2) and holds carry no currency column; supporting
+ * currencies with another exponent needs the currency stored alongside the amount first.
+ *
+ * <p>{@link #parse} and {@link #format} work on caller-supplied character buffers so the request
+ * and payload paths convert amounts without allocating.
+ */
+public final class MinorUnits {
+
+  public static final int SCALE = 2;
+
+  private static final long MAX_MAJOR = Long.MAX_VALUE / 100;
+
+  private MinorUnits() {
+  }
+
+  /**
+   * Convert a decimal amount, rounding extra decimal places half away from zero as Oracle does
+   * when storing into a NUMBER(20,2) column.
+   *
+   * @throws IllegalArgumentException if the amount does not fit in a long
+   */
+  public static long fromDecimal(BigDecimal amount) {
+    try {
+      return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Amount out of range: " + amount, e);
+    }
+  }
+
+  public static BigDecimal toDecimal(long minorUnits) {
+    return BigDecimal.valueOf(minorUnits, SCALE);
+  }
+
+  /**
+   * Parse a plain decimal such as {@code 100}, {@code 100.5} or {@code -0.25}. Extra decimal
+   * places are rounded like {@link #fromDecimal}; exponents are rejected.
+   *
+   * @throws IllegalArgumentException if the text is not a plain decimal or does not fit in a long
+   */
+  public static long parse(char[] chars, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    boolean negative = i < end && chars[i] == '-';
+    if (negative) {
+      i++;
+    }
+    long major = 0;
+    int digits = 0;
+    for (; i < end && chars[i] != '.'; i++, digits++) {
+      int digit = digit(chars[i]);
+      if (major > (MAX_MAJOR - digit) / 10) {
+        throw new IllegalArgumentException("Amount out of range");
+      }
+      major = major * 10 + digit;
+    }
+    long minor = 0;
+    int fractionDigits = 0;
+    boolean roundUp = false;
+    if (i < end) {
+      i++; // decimal point
+      for (; i < end; i++, fractionDigits++) {
+        int digit = digit(chars[i]);
+        if (fractionDigits < SCALE) {
+          minor = minor * 10 + digit;
+        } else if (fractionDigits == SCALE) {
+          roundUp = digit >= 5;
+        }
+      }
+      if (fractionDigits == 0) {
+        throw new IllegalArgumentException("Invalid amount");
+      }
+    }
+    if (digits == 0) {
+      throw new IllegalArgumentException("Invalid amount");
+    }
+    for (int scale = Math.min(fractionDigits, SCALE); scale < SCALE; scale++) {
+      minor *= 10;
+    }
+    try {
+      long value = Math.addExact(Math.multiplyExact(major, 100), minor + (roundUp ? 1 : 0));
+      return negative ? -value : value;
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Amount out of range");
+    }
+  }
+
+  /**
+   * Write the amount with exactly two decimal places, e.g. {@code 12345 -> "123.45"}.
+   *
+   * @param buffer at least 21 characters
+   * @return number of characters written from the start of the buffer
+   */
+  public static int format(long minorUnits, char[] buffer) {
+    if (minorUnits == Long.MIN_VALUE) {
+      String text = toDecimal(minorUnits).toPlainString();
+      text.getChars(0, text.length(), buffer, 0);
+      return text.length();
+    }
+    boolean negative = minorUnits < 0;
+    long value = Math.abs(minorUnits);
+    int length = 0;
+    // Digits are produced least significant first, then reversed
+    for (int position = 0; position < 3 || value > 0; position++) {
+      if (position == SCALE) {
+        buffer[length++] = '.';
+      }
+      buffer[length++] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    if (negative) {
+      buffer[length++] = '-';
+    }
+    for (int left = 0, right = length - 1; left < right; left++, right--) {
+      char swap = buffer[left];
+      buffer[left] = buffer[right];
+      buffer[right] = swap;
+    }
+    return length;
+  }
+
+  private static int digit(char c) {
+    if (c < '0' || c > '9') {
+      throw new IllegalArgumentException("Invalid amount");
+    }
+    return c - '0';
+  }
+}
@@ -0,0 +1,32 @@
+package com.creditx.hold.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+/**
+ * Reads a decimal JSON amount (number or string) straight into minor units from the parser's
+ * character buffer, without an intermediate {@code BigDecimal}.
+ */
+public class MinorUnitsDeserializer extends StdDeserializer<Long> {
+
+  public MinorUnitsDeserializer() {
+    super(Long.class);
+  }
+
+  @Override
+  public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+        && token != JsonToken.VALUE_STRING) {
+      return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+    }
+    try {
+      return MinorUnits.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    } catch (IllegalArgumentException e) {
+      return (Long) ctxt.handleWeirdStringValue(Long.class, p.getText(), e.getMessage());
+    }
+  }
+}
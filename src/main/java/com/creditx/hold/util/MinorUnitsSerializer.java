@@ -0,0 +1,27 @@
+package com.creditx.hold.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes a minor-unit amount as a JSON number with two decimal places, the same representation a
+ * NUMBER(20,2) {@code BigDecimal} produced.
+ */
+public class MinorUnitsSerializer extends StdSerializer<Long> {
+
+  // The generator copies the digits before returning, so each thread can reuse one buffer
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[24]);
+
+  public MinorUnitsSerializer() {
+    super(Long.class);
+  }
+
+  @Override
+  public void serialize(Long value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    char[] buffer = BUFFER.get();
+    gen.writeNumber(buffer, 0, MinorUnits.format(value, buffer));
+  }
+}
@@ -0,0 +1,79 @@
+-- Set-based expiry for app.hold.expiry.in-database: one call expires a chunk of due holds of a
+-- shard without shipping rows to the application. It must stay in step with
+-- HoldExpiryChunkProcessor: same row locking, exposure release and hold.expired payload.
+
+-- JSON number Jackson writes for an Instant: epoch seconds, a point and nine digits of nanos
+CREATE OR REPLACE FUNCTION CHS_JSON_INSTANT (p_value IN TIMESTAMP WITH TIME ZONE)
+RETURN VARCHAR2 DETERMINISTIC AS
+    PRAGMA UDF;
+    v_since   INTERVAL DAY(9) TO SECOND(9);
+    v_seconds NUMBER;
+    v_nanos   NUMBER;
+BEGIN
+    v_since := SYS_EXTRACT_UTC(p_value) - TIMESTAMP '1970-01-01 00:00:00';
+    v_seconds := EXTRACT(DAY FROM v_since) * 86400 + EXTRACT(HOUR FROM v_since) * 3600
+        + EXTRACT(MINUTE FROM v_since) * 60 + EXTRACT(SECOND FROM v_since);
+    v_nanos := ROUND((v_seconds - FLOOR(v_seconds)) * 1000000000);
+    IF v_seconds = 0 THEN
+        RETURN '0.0';
+    END IF;
+    RETURN TO_CHAR(FLOOR(v_seconds)) || '.' || LPAD(TO_CHAR(v_nanos), 9, '0');
+END;
+/
+
+-- Expire up to p_limit AUTHORIZED holds of shard p_shard (MOD(HOLD_ID, p_shards)) that expired
+-- before p_now, oldest first, skipping rows locked by a concurrent transition. Releases their
+-- exposure per account, in account order like AccountExposureService.holdsReleased, and inserts
+-- their hold.expired events. Returns the ids expired so the caller can update its caches; the
+-- caller owns the transaction.
+CREATE OR REPLACE PROCEDURE CHS_EXPIRE_HOLDS_CHUNK (
+    p_now     IN  TIMESTAMP WITH TIME ZONE,
+    p_shards  IN  NUMBER,
+    p_shard   IN  NUMBER,
+    p_limit   IN  NUMBER,
+    p_expired OUT SYS.ODCINUMBERLIST
+) AS
+    CURSOR c_due IS
+        SELECT HOLD_ID FROM CHS_HOLDS
+        WHERE STATUS = 'AUTHORIZED' AND EXPIRES_AT < p_now AND MOD(HOLD_ID, p_shards) = p_shard
+        ORDER BY EXPIRES_AT, HOLD_ID
+        FOR UPDATE SKIP LOCKED;
+BEGIN
+    -- With SKIP LOCKED, rows are locked as they are fetched
+    OPEN c_due;
+    FETCH c_due BULK COLLECT INTO p_expired LIMIT p_limit;
+    CLOSE c_due;
+    IF p_expired.COUNT = 0 THEN
+        RETURN;
+    END IF;
+
+    UPDATE CHS_HOLDS SET STATUS = 'EXPIRED'
+    WHERE HOLD_ID IN (SELECT COLUMN_VALUE FROM TABLE(p_expired));
+
+    FOR a IN (SELECT ACCOUNT_ID, SUM(AMOUNT) AS AMOUNT, COUNT(*) AS HOLDS FROM CHS_HOLDS
+              WHERE HOLD_ID IN (SELECT COLUMN_VALUE FROM TABLE(p_expired))
+              GROUP BY ACCOUNT_ID ORDER BY ACCOUNT_ID) LOOP
+        MERGE INTO CHS_ACCOUNT_EXPOSURE e
+        USING (SELECT a.ACCOUNT_ID AS ACCOUNT_ID FROM DUAL) d
+        ON (e.ACCOUNT_ID = d.ACCOUNT_ID)
+        WHEN MATCHED THEN UPDATE SET e.HELD_AMOUNT = e.HELD_AMOUNT - a.AMOUNT,
+            e.ACTIVE_HOLD_COUNT = e.ACTIVE_HOLD_COUNT - a.HOLDS, e.UPDATED_AT = SYSTIMESTAMP
+        WHEN NOT MATCHED THEN INSERT (ACCOUNT_ID, HELD_AMOUNT, ACTIVE_HOLD_COUNT)
+            VALUES (a.ACCOUNT_ID, -a.AMOUNT, -a.HOLDS);
+    END LOOP;
+
+    -- Same JSON as HoldExpiryChunkProcessor.HoldExpiredPayload, field for field
+    INSERT INTO CHS_OUTBOX_EVENTS (EVENT_TYPE, AGGREGATE_ID, PAYLOAD, STATUS)
+    SELECT 'hold.expired', HOLD_ID,
+        '{"holdId":' || TO_CHAR(HOLD_ID)
+            || ',"transactionId":' || TO_CHAR(TRANSACTION_ID)
+            || ',"accountId":' || TO_CHAR(ACCOUNT_ID)
+            || ',"amount":' || TO_CHAR(AMOUNT, 'FM999999999999999990.00')
+            || ',"status":"EXPIRED"'
+            || ',"expiresAt":' || CHS_JSON_INSTANT(EXPIRES_AT) || '}',
+        'PENDING'
+    FROM CHS_HOLDS
+    WHERE HOLD_ID IN (SELECT COLUMN_VALUE FROM TABLE(p_expired))
+    ORDER BY EXPIRES_AT, HOLD_ID;
+END;
+/
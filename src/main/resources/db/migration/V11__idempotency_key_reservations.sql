@@ -0,0 +1,3 @@
+-- An Idempotency-Key is reserved with a pending row, without a response yet, before its request
+-- runs, so a concurrent request reusing the key for a different body is rejected up front
+ALTER TABLE CHS_IDEMPOTENCY_KEYS MODIFY (STATUS_CODE NULL, RESPONSE_BODY NULL);
@@ -0,0 +1,15 @@
+-- Per-account hold exposure, maintained incrementally alongside every hold status change
+-- so credit-limit checks can read an account's total without summing CHS_HOLDS
+CREATE TABLE CHS_ACCOUNT_EXPOSURE (
+    ACCOUNT_ID        NUMBER(19) PRIMARY KEY,
+    HELD_AMOUNT       NUMBER(20,2) DEFAULT 0 NOT NULL,
+    ACTIVE_HOLD_COUNT NUMBER(19) DEFAULT 0 NOT NULL,
+    UPDATED_AT        TIMESTAMP(6) WITH TIME ZONE DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+-- Backfill from holds that are still authorized
+INSERT INTO CHS_ACCOUNT_EXPOSURE (ACCOUNT_ID, HELD_AMOUNT, ACTIVE_HOLD_COUNT)
+SELECT ACCOUNT_ID, SUM(AMOUNT), COUNT(*)
+FROM CHS_HOLDS
+WHERE STATUS = 'AUTHORIZED'
+GROUP BY ACCOUNT_ID;
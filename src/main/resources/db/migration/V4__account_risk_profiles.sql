@@ -0,0 +1,8 @@
+-- Per-account fraud settings read by the createHold pre-checks. Accounts without a row use the
+-- service defaults.
+CREATE TABLE CHS_ACCOUNT_RISK_PROFILES (
+    ACCOUNT_ID      NUMBER(19) PRIMARY KEY,
+    RISK_TIER       VARCHAR2(20) DEFAULT 'STANDARD' NOT NULL CHECK (RISK_TIER IN ('LOW','STANDARD','HIGH')),
+    MAX_HOLD_AMOUNT NUMBER(20,2),
+    UPDATED_AT      TIMESTAMP(6) WITH TIME ZONE DEFAULT SYSTIMESTAMP NOT NULL
+);
@@ -0,0 +1,10 @@
+-- Final responses of POST /api/holds by Idempotency-Key, for replay across instances
+CREATE TABLE CHS_IDEMPOTENCY_KEYS (
+    IDEMPOTENCY_KEY VARCHAR2(255) PRIMARY KEY,
+    REQUEST_HASH    VARCHAR2(64) NOT NULL,
+    STATUS_CODE     NUMBER(3) NOT NULL,
+    RESPONSE_BODY   VARCHAR2(1000) NOT NULL,
+    EXPIRES_AT      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IDX_CHS_IDEMPOTENCY_EXPIRES ON CHS_IDEMPOTENCY_KEYS(EXPIRES_AT);
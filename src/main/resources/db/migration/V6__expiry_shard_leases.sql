@@ -0,0 +1,9 @@
+-- Ownership leases and progress cursors for the sharded hold expiry sweep. Shard N covers the
+-- holds with MOD(HOLD_ID, shard count) = N; rows are created on first use
+CREATE TABLE CHS_EXPIRY_SHARD_LEASES (
+    SHARD_ID          NUMBER(5) PRIMARY KEY,
+    OWNER             VARCHAR2(100),
+    LEASE_UNTIL       TIMESTAMP(6) WITH TIME ZONE,
+    CURSOR_EXPIRES_AT TIMESTAMP(6) WITH TIME ZONE,
+    CURSOR_HOLD_ID    NUMBER(19)
+);
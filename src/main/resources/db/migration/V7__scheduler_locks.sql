@@ -0,0 +1,9 @@
+-- Cluster-wide locks for @ClusterLocked scheduled jobs. FENCING_TOKEN grows with every
+-- acquisition, so a holder whose lock has lapsed can tell it has been superseded
+CREATE TABLE CHS_SCHEDULER_LOCKS (
+    LOCK_NAME     VARCHAR2(64) PRIMARY KEY,
+    LOCKED_BY     VARCHAR2(100) NOT NULL,
+    LOCKED_AT     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    LOCK_UNTIL    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    FENCING_TOKEN NUMBER(19) NOT NULL
+);
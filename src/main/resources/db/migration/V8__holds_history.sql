@@ -0,0 +1,18 @@
+-- Terminal holds moved out of CHS_HOLDS once older than the retention window, so the hot table
+-- and its indexes stay proportional to open holds
+CREATE TABLE CHS_HOLDS_HISTORY (
+    HOLD_ID        NUMBER(19) PRIMARY KEY,
+    TRANSACTION_ID NUMBER(19) NOT NULL,
+    ACCOUNT_ID     NUMBER(19) NOT NULL,
+    AMOUNT         NUMBER(20,2) NOT NULL,
+    STATUS         VARCHAR2(20) NOT NULL CHECK (STATUS IN ('CAPTURED','VOIDED','EXPIRED')),
+    CREATED_AT     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    UPDATED_AT     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    EXPIRES_AT     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ARCHIVED_AT    TIMESTAMP(6) WITH TIME ZONE DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+CREATE INDEX IDX_CHS_HOLDS_HIST_TRANSACTION ON CHS_HOLDS_HISTORY(TRANSACTION_ID);
+
+-- Finds archivable holds: terminal status, last updated before the retention cutoff
+CREATE INDEX IDX_CHS_HOLDS_STATUS_UPDATED_AT ON CHS_HOLDS(STATUS, UPDATED_AT);
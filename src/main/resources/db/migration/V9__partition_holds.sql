@@ -0,0 +1,117 @@
+-- Partition CHS_HOLDS by day of EXPIRES_AT (interval) and sub-partition by STATUS (list), so
+-- expiry queries on STATUS = 'AUTHORIZED' prune to the small AUTHORIZED sub-partitions and
+-- status updates only touch local index segments. Whole days of terminal holds are archived by
+-- sub-partition exchange (CHS_ARCHIVE_HOLD_PARTITIONS below). TIMESTAMP WITH TIME ZONE cannot be a
+-- partitioning key, hence the virtual EXPIRES_AT_UTC column; the application never reads it.
+--
+-- The conversion runs online (MODIFY ... ONLINE keeps DML flowing) and is skipped when the
+-- Partitioning option is not available or the table is already partitioned. The table then stays
+-- as it is and archival carries on row by row.
+DECLARE
+    v_partitioning VARCHAR2(64);
+    v_partitioned  NUMBER;
+BEGIN
+    SELECT MAX(VALUE) INTO v_partitioning FROM V$OPTION WHERE PARAMETER = 'Partitioning';
+    SELECT COUNT(*) INTO v_partitioned FROM USER_PART_TABLES WHERE TABLE_NAME = 'CHS_HOLDS';
+    IF NVL(v_partitioning, 'FALSE') <> 'TRUE' OR v_partitioned > 0 THEN
+        RETURN;
+    END IF;
+
+    EXECUTE IMMEDIATE 'ALTER TABLE CHS_HOLDS ADD (EXPIRES_AT_UTC TIMESTAMP(6) '
+        || 'GENERATED ALWAYS AS (SYS_EXTRACT_UTC(EXPIRES_AT)) VIRTUAL)';
+    -- A status change moves the row to another sub-partition
+    EXECUTE IMMEDIATE 'ALTER TABLE CHS_HOLDS ENABLE ROW MOVEMENT';
+    -- The primary key and the account and transaction lookups do not lead with a partitioning
+    -- column, so they stay global
+    EXECUTE IMMEDIATE q'[
+        ALTER TABLE CHS_HOLDS MODIFY
+        PARTITION BY RANGE (EXPIRES_AT_UTC) INTERVAL (NUMTODSINTERVAL(1, 'DAY'))
+        SUBPARTITION BY LIST (STATUS)
+        SUBPARTITION TEMPLATE (
+            SUBPARTITION SP_AUTHORIZED VALUES ('AUTHORIZED'),
+            SUBPARTITION SP_CAPTURED VALUES ('CAPTURED'),
+            SUBPARTITION SP_VOIDED VALUES ('VOIDED'),
+            SUBPARTITION SP_EXPIRED VALUES ('EXPIRED'))
+        (PARTITION P_BEFORE_2025 VALUES LESS THAN (TIMESTAMP '2025-01-01 00:00:00'))
+        ONLINE
+        UPDATE INDEXES (
+            IDX_CHS_HOLDS_STATUS_EXPIRES_AT LOCAL,
+            IDX_CHS_HOLDS_STATUS_UPDATED_AT LOCAL,
+            IDX_CHS_HOLDS_ACCOUNT_STATUS GLOBAL,
+            IDX_CHS_HOLDS_TRANSACTION GLOBAL)]';
+
+    -- Exchange target for archival, with the local indexes' columns so exchanges keep them usable
+    EXECUTE IMMEDIATE 'CREATE TABLE CHS_HOLDS_ARCHIVE_STAGE FOR EXCHANGE WITH TABLE CHS_HOLDS';
+    EXECUTE IMMEDIATE 'CREATE INDEX IDX_CHS_HOLDS_STAGE_EXPIRES_AT '
+        || 'ON CHS_HOLDS_ARCHIVE_STAGE(STATUS, EXPIRES_AT)';
+    EXECUTE IMMEDIATE 'CREATE INDEX IDX_CHS_HOLDS_STAGE_UPDATED_AT '
+        || 'ON CHS_HOLDS_ARCHIVE_STAGE(STATUS, UPDATED_AT)';
+END;
+/
+
+-- Archive every day partition of CHS_HOLDS that ends before p_cutoff and has no AUTHORIZED hold
+-- left. Each terminal sub-partition is swapped with the empty stage table (a dictionary update),
+-- the stage rows are copied to CHS_HOLDS_HISTORY and deleted in one transaction, and the emptied
+-- partition is dropped. Rows left in the stage table by an interrupted run are flushed first.
+-- All partition and stage statements are dynamic, so the procedure compiles, and archives
+-- nothing, when the table was not partitioned above.
+CREATE OR REPLACE PROCEDURE CHS_ARCHIVE_HOLD_PARTITIONS (
+    p_cutoff   IN  TIMESTAMP WITH TIME ZONE,
+    p_archived OUT NUMBER
+) AS
+    v_partitioned NUMBER;
+    v_high        TIMESTAMP;
+    v_key         VARCHAR2(64);
+    v_open        NUMBER;
+    v_statuses    SYS.ODCIVARCHAR2LIST := SYS.ODCIVARCHAR2LIST('CAPTURED', 'VOIDED', 'EXPIRED');
+
+    FUNCTION flush_stage RETURN NUMBER IS
+        v_rows NUMBER;
+    BEGIN
+        EXECUTE IMMEDIATE 'INSERT INTO CHS_HOLDS_HISTORY (HOLD_ID, TRANSACTION_ID, ACCOUNT_ID, '
+            || 'AMOUNT, STATUS, CREATED_AT, UPDATED_AT, EXPIRES_AT) SELECT HOLD_ID, '
+            || 'TRANSACTION_ID, ACCOUNT_ID, AMOUNT, STATUS, CREATED_AT, UPDATED_AT, EXPIRES_AT '
+            || 'FROM CHS_HOLDS_ARCHIVE_STAGE';
+        v_rows := SQL%ROWCOUNT;
+        EXECUTE IMMEDIATE 'DELETE FROM CHS_HOLDS_ARCHIVE_STAGE';
+        COMMIT;
+        RETURN v_rows;
+    END;
+BEGIN
+    p_archived := 0;
+    SELECT COUNT(*) INTO v_partitioned FROM USER_PART_TABLES WHERE TABLE_NAME = 'CHS_HOLDS';
+    IF v_partitioned = 0 THEN
+        RETURN;
+    END IF;
+    p_archived := flush_stage;
+
+    FOR p IN (SELECT PARTITION_NAME, HIGH_VALUE, INTERVAL FROM USER_TAB_PARTITIONS
+              WHERE TABLE_NAME = 'CHS_HOLDS' ORDER BY PARTITION_POSITION) LOOP
+        EXECUTE IMMEDIATE 'SELECT ' || p.HIGH_VALUE || ' FROM DUAL' INTO v_high;
+        EXIT WHEN v_high > SYS_EXTRACT_UTC(p_cutoff);
+
+        EXECUTE IMMEDIATE 'SELECT COUNT(*) FROM CHS_HOLDS PARTITION (' || p.PARTITION_NAME
+            || ') WHERE STATUS = ''AUTHORIZED'' AND ROWNUM = 1' INTO v_open;
+        -- A day with open holds is left to the expiry sweep and row-by-row archival
+        CONTINUE WHEN v_open > 0;
+
+        v_key := 'TIMESTAMP ''' || TO_CHAR(v_high - INTERVAL '1' SECOND, 'YYYY-MM-DD HH24:MI:SS')
+            || '''';
+        FOR i IN 1 .. v_statuses.COUNT LOOP
+            EXECUTE IMMEDIATE 'ALTER TABLE CHS_HOLDS EXCHANGE SUBPARTITION FOR (' || v_key
+                || ', ''' || v_statuses(i) || ''') WITH TABLE CHS_HOLDS_ARCHIVE_STAGE '
+                || 'INCLUDING INDEXES WITHOUT VALIDATION UPDATE GLOBAL INDEXES';
+            p_archived := p_archived + flush_stage;
+        END LOOP;
+
+        -- A hold that changed status during the exchanges keeps the partition for the next run.
+        -- The first range partition cannot be dropped; it stays, empty.
+        EXECUTE IMMEDIATE 'SELECT COUNT(*) FROM CHS_HOLDS PARTITION (' || p.PARTITION_NAME
+            || ') WHERE ROWNUM = 1' INTO v_open;
+        IF v_open = 0 AND p.INTERVAL = 'YES' THEN
+            EXECUTE IMMEDIATE 'ALTER TABLE CHS_HOLDS DROP PARTITION ' || p.PARTITION_NAME
+                || ' UPDATE GLOBAL INDEXES';
+        END IF;
+    END LOOP;
+END;
+/
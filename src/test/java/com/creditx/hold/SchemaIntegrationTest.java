@@ -51,6 +51,53 @@ class SchemaIntegrationTest {
         "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_OUTBOX_EVENTS'", Integer.class);
     assertThat(outboxEventsTableCount).isEqualTo(1);
 
+    // Test that CHS_ACCOUNT_EXPOSURE table exists
+    Integer accountExposureTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_ACCOUNT_EXPOSURE'", Integer.class);
+    assertThat(accountExposureTableCount).isEqualTo(1);
+
+    // Test that CHS_ACCOUNT_RISK_PROFILES table exists
+    Integer riskProfilesTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_ACCOUNT_RISK_PROFILES'",
+        Integer.class);
+    assertThat(riskProfilesTableCount).isEqualTo(1);
+
+    // Test that CHS_IDEMPOTENCY_KEYS table exists
+    Integer idempotencyKeysTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_IDEMPOTENCY_KEYS'",
+        Integer.class);
+    assertThat(idempotencyKeysTableCount).isEqualTo(1);
+
+    // Test that CHS_EXPIRY_SHARD_LEASES table exists
+    Integer shardLeasesTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_EXPIRY_SHARD_LEASES'",
+        Integer.class);
+    assertThat(shardLeasesTableCount).isEqualTo(1);
+
+    // Test that CHS_SCHEDULER_LOCKS table exists
+    Integer schedulerLocksTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_SCHEDULER_LOCKS'",
+        Integer.class);
+    assertThat(schedulerLocksTableCount).isEqualTo(1);
+
+    // Test that CHS_HOLDS_HISTORY table exists
+    Integer holdsHistoryTableCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_tables WHERE table_name = 'CHS_HOLDS_HISTORY'",
+        Integer.class);
+    assertThat(holdsHistoryTableCount).isEqualTo(1);
+
+    // Test that the partition archival procedure compiled, partitioned or not
+    Integer archiveProcedureCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_objects WHERE object_name = 'CHS_ARCHIVE_HOLD_PARTITIONS' "
+            + "AND status = 'VALID'", Integer.class);
+    assertThat(archiveProcedureCount).isEqualTo(1);
+
+    // Test that the set-based expiry procedure and its payload function compiled
+    Integer expiryObjectCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_objects WHERE object_name IN ('CHS_EXPIRE_HOLDS_CHUNK', "
+            + "'CHS_JSON_INSTANT') AND status = 'VALID'", Integer.class);
+    assertThat(expiryObjectCount).isEqualTo(2);
+
     // Test inserting into CHS_PROCESSED_EVENTS
     jdbcTemplate.update("""
             INSERT INTO CHS_PROCESSED_EVENTS (EVENT_ID, PAYLOAD_HASH, STATUS, PROCESSED_AT)
@@ -0,0 +1,73 @@
+package com.creditx.hold.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.repository.HoldHistoryRepository;
+import com.creditx.hold.repository.HoldRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HoldArchiveBatchProcessorTest {
+
+  private static final Instant CUTOFF = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Mock
+  private HoldRepository holdRepository;
+
+  @Mock
+  private HoldHistoryRepository holdHistoryRepository;
+
+  @InjectMocks
+  private HoldArchiveBatchProcessor processor;
+
+  @Test
+  void shouldCopyThenDeleteLockedHolds() {
+    // given
+    when(holdRepository.lockArchivable(CUTOFF, 500)).thenReturn(List.of(1L, 2L));
+    when(holdHistoryRepository.copyFromHolds(List.of(1L, 2L))).thenReturn(2);
+    when(holdRepository.deleteByHoldIdIn(List.of(1L, 2L))).thenReturn(2);
+
+    // when
+    int archived = processor.archive(CUTOFF, 500);
+
+    // then
+    assertThat(archived).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDoNothingWhenNoHoldIsArchivable() {
+    // given
+    when(holdRepository.lockArchivable(CUTOFF, 500)).thenReturn(List.of());
+
+    // when
+    int archived = processor.archive(CUTOFF, 500);
+
+    // then
+    assertThat(archived).isZero();
+    verify(holdHistoryRepository, never()).copyFromHolds(any());
+    verify(holdRepository, never()).deleteByHoldIdIn(any());
+  }
+
+  @Test
+  void shouldFailBatchWhenCopyMissesAHold() {
+    // given
+    when(holdRepository.lockArchivable(CUTOFF, 500)).thenReturn(List.of(1L, 2L));
+    when(holdHistoryRepository.copyFromHolds(List.of(1L, 2L))).thenReturn(1);
+    when(holdRepository.deleteByHoldIdIn(List.of(1L, 2L))).thenReturn(2);
+
+    // when & then
+    assertThatThrownBy(() -> processor.archive(CUTOFF, 500))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,79 @@
+package com.creditx.hold.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HoldArchiverTest {
+
+  private static final long RETENTION_MS = Duration.ofDays(30).toMillis();
+
+  @Mock
+  private HoldArchiveBatchProcessor holdArchiveBatchProcessor;
+
+  private SimpleMeterRegistry meterRegistry;
+  private HoldArchiver holdArchiver;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    holdArchiver = new HoldArchiver(holdArchiveBatchProcessor,
+        new DatabaseConcurrencyLimiter(10, 1000, meterRegistry), RETENTION_MS, 2, meterRegistry);
+  }
+
+  @Test
+  void shouldArchiveBatchesUntilOneComesBackShort() {
+    // given
+    when(holdArchiveBatchProcessor.archive(any(), eq(2))).thenReturn(2, 2, 1);
+
+    // when
+    long archived = holdArchiver.archive();
+
+    // then
+    assertThat(archived).isEqualTo(5);
+    ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+    verify(holdArchiveBatchProcessor, times(3)).archive(cutoff.capture(), eq(2));
+    // Every batch of a run uses the same cutoff, one retention window back
+    assertThat(cutoff.getAllValues()).containsOnly(cutoff.getValue());
+    assertThat(cutoff.getValue()).isCloseTo(Instant.now().minusMillis(RETENTION_MS),
+        within(5, ChronoUnit.SECONDS));
+    assertThat(meterRegistry.get("hold.archive.holds").counter().count()).isEqualTo(5);
+    assertThat(meterRegistry.get("hold.archive.batch.duration").timer().count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldExchangePartitionsBeforeRowBatches() {
+    // given
+    when(holdArchiveBatchProcessor.archivePartitions(any())).thenReturn(1_000);
+    when(holdArchiveBatchProcessor.archive(any(), eq(2))).thenReturn(1);
+
+    // when
+    long archived = holdArchiver.archive();
+
+    // then
+    assertThat(archived).isEqualTo(1_001);
+    InOrder inOrder = inOrder(holdArchiveBatchProcessor);
+    inOrder.verify(holdArchiveBatchProcessor).archivePartitions(any());
+    inOrder.verify(holdArchiveBatchProcessor).archive(any(), eq(2));
+    assertThat(meterRegistry.get("hold.archive.holds").counter().count()).isEqualTo(1_001);
+  }
+}
@@ -0,0 +1,94 @@
+package com.creditx.hold.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.model.AccountRiskProfile;
+import com.creditx.hold.model.RiskTier;
+import com.creditx.hold.repository.AccountRiskProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccountRiskProfileCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private AccountRiskProfileRepository repository;
+  private AccountRiskProfileCache cache;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    repository = mock(AccountRiskProfileRepository.class);
+    cache = new AccountRiskProfileCache(repository, 100, 60_000, 30_000, 60_000, meterRegistry);
+  }
+
+  @Test
+  void shouldLoadOnceForConcurrentMisses() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    when(repository.findById(1L)).thenAnswer(invocation -> {
+      release.await(1, TimeUnit.SECONDS);
+      return Optional.of(profile(1L, 50_000L));
+    });
+
+    // when
+    CompletableFuture<Optional<AccountRiskProfile>> first = cache.get(1L);
+    CompletableFuture<Optional<AccountRiskProfile>> second = cache.get(1L);
+    release.countDown();
+
+    // then
+    assertThat(first.get(1, TimeUnit.SECONDS)).map(AccountRiskProfile::getMaxHoldAmount)
+        .contains(50_000L);
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(first.get());
+    verify(repository, times(1)).findById(1L);
+    assertThat(meterRegistry.get("account.risk.profile.load").tag("result", "found").timer()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheUnknownAccounts() throws Exception {
+    // given
+    when(repository.findById(2L)).thenReturn(Optional.empty());
+
+    // when
+    Optional<AccountRiskProfile> first = cache.get(2L).get(1, TimeUnit.SECONDS);
+    Optional<AccountRiskProfile> second = cache.get(2L).get(1, TimeUnit.SECONDS);
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).isEmpty();
+    verify(repository, times(1)).findById(2L);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "accountRiskProfiles")
+        .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "accountRiskProfiles")
+        .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReloadAfterInvalidate() throws Exception {
+    // given
+    when(repository.findById(3L)).thenReturn(Optional.empty(),
+        Optional.of(profile(3L, 10_000L)));
+    assertThat(cache.get(3L).get(1, TimeUnit.SECONDS)).isEmpty();
+
+    // when
+    cache.invalidate(3L);
+
+    // then
+    assertThat(cache.get(3L).get(1, TimeUnit.SECONDS)).map(AccountRiskProfile::getMaxHoldAmount)
+        .contains(10_000L);
+  }
+
+  private AccountRiskProfile profile(Long accountId, Long maxHoldAmount) {
+    return AccountRiskProfile.builder().accountId(accountId).riskTier(RiskTier.STANDARD)
+        .maxHoldAmount(maxHoldAmount).build();
+  }
+}
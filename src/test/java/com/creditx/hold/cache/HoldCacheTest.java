@@ -0,0 +1,90 @@
+package com.creditx.hold.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class HoldCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private HoldCache holdCache;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    holdCache = new HoldCache(100, 60_000, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldServeHoldByIdAndTransactionId() {
+    // when
+    holdCache.put(createHold(HoldStatus.AUTHORIZED));
+
+    // then
+    assertThat(holdCache.getByHoldId(1L)).map(HoldResponse::getStatus)
+        .contains(HoldStatus.AUTHORIZED);
+    assertThat(holdCache.getByTransactionId(10L)).map(HoldResponse::getHoldId).contains(1L);
+    assertThat(holdCache.getByHoldId(2L)).isEmpty();
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "holds").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void shouldPublishOnlyAfterCommit() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    holdCache.put(createHold(HoldStatus.CAPTURED));
+
+    // then
+    assertThat(holdCache.getByHoldId(1L)).isEmpty();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(holdCache.getByHoldId(1L)).map(HoldResponse::getStatus)
+        .contains(HoldStatus.CAPTURED);
+  }
+
+  @Test
+  void shouldNotLetReadersOverwriteNewerState() {
+    // given
+    holdCache.put(createHold(HoldStatus.CAPTURED));
+
+    // when
+    holdCache.putIfAbsent(createHold(HoldStatus.AUTHORIZED));
+
+    // then
+    assertThat(holdCache.getByHoldId(1L)).map(HoldResponse::getStatus)
+        .contains(HoldStatus.CAPTURED);
+  }
+
+  @Test
+  void shouldDeriveETagFromIdAndStatus() {
+    // when
+    holdCache.put(createHold(HoldStatus.VOIDED));
+
+    // then
+    assertThat(holdCache.getByHoldId(1L)).map(HoldResponse::eTag).contains("\"1-VOIDED\"");
+  }
+
+  private Hold createHold(HoldStatus status) {
+    return Hold.builder().holdId(1L).transactionId(10L).accountId(100L)
+        .amount(2_500L).status(status).expiresAt(Instant.now()).build();
+  }
+}
@@ -0,0 +1,180 @@
+package com.creditx.hold.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.cache.IdempotencyResponseCache.StoredResponse;
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.model.IdempotencyKey;
+import com.creditx.hold.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyResponseCacheTest {
+
+  private static final CreateHoldResponse CREATED = CreateHoldResponse.builder().holdId(10L)
+      .status(HoldStatus.AUTHORIZED).build();
+
+  private IdempotencyKeyRepository repository;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setup() {
+    repository = mock(IdempotencyKeyRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldReplayFromMemoryWithoutDatabase() {
+    // given
+    var cache = newCache(false);
+    String hash = IdempotencyResponseCache.requestHash(request(10_000L));
+    cache.save("key", new StoredResponse(hash, 201, CREATED));
+
+    // when
+    Optional<StoredResponse> stored = cache.reserve("key", hash);
+
+    // then
+    assertThat(stored).map(StoredResponse::statusCode).contains(201);
+    assertThat(stored).map(response -> response.body().getHoldId()).contains(10L);
+    verify(repository, never()).reserve(any(), any(), any());
+    verify(repository, never()).findById(any());
+  }
+
+  @Test
+  void shouldRejectKeyReservedForAnotherRequestInFlight() {
+    // given
+    var cache = newCache(false);
+    String first = IdempotencyResponseCache.requestHash(request(10_000L));
+    String second = IdempotencyResponseCache.requestHash(request(20_000L));
+    assertThat(cache.reserve("key", first)).isEmpty();
+
+    // when & then
+    assertThat(cache.reserve("key", first)).isEmpty();
+    assertThatThrownBy(() -> cache.reserve("key", second))
+        .isInstanceOf(IdempotencyKeyConflictException.class);
+    cache.release("key", first);
+    assertThat(cache.reserve("key", second)).isEmpty();
+  }
+
+  @Test
+  void shouldCompleteReservedRow() {
+    // given
+    var cache = newCache(true);
+    String hash = IdempotencyResponseCache.requestHash(request(10_000L));
+    when(repository.reserve(eq("key"), eq(hash), any())).thenReturn(1);
+
+    // when
+    Optional<StoredResponse> stored = cache.reserve("key", hash);
+    cache.save("key", new StoredResponse(hash, 201, CREATED));
+
+    // then
+    assertThat(stored).isEmpty();
+    verify(repository).complete(eq("key"), eq(hash), eq(201), any());
+    verify(repository, never()).save(any());
+    assertThat(cache.reserve("key", hash)).map(StoredResponse::statusCode).contains(201);
+  }
+
+  @Test
+  void shouldRejectKeyReservedOnAnotherInstanceForDifferentRequest() {
+    // given
+    var cache = newCache(true);
+    when(repository.findById("key")).thenReturn(Optional.of(IdempotencyKey.builder()
+        .idempotencyKey("key").requestHash("other").expiresAt(Instant.now().plusSeconds(60))
+        .build()));
+
+    // when & then
+    assertThatThrownBy(() -> cache.reserve("key", "hash"))
+        .isInstanceOf(IdempotencyKeyConflictException.class);
+  }
+
+  @Test
+  void shouldNotQueryWithoutDatabasePermit() {
+    // given
+    var cache = new IdempotencyResponseCache(repository,
+        new DatabaseConcurrencyLimiter(0, 10, meterRegistry), new ObjectMapper(), 100, 60_000,
+        true, meterRegistry);
+
+    // when & then
+    assertThatThrownBy(() -> cache.reserve("key", "hash"))
+        .isInstanceOf(DatabaseBusyException.class);
+    verify(repository, never()).reserve(any(), any(), any());
+    assertThatThrownBy(() -> cache.reserve("key", "other"))
+        .isInstanceOf(DatabaseBusyException.class);
+  }
+
+  @Test
+  void shouldRejectKeyReusedWithDifferentRequest() {
+    // given
+    var cache = newCache(false);
+    cache.save("key", new StoredResponse(IdempotencyResponseCache.requestHash(request(10_000L)),
+        201, CREATED));
+
+    // when & then
+    assertThatThrownBy(() -> cache.reserve("key",
+        IdempotencyResponseCache.requestHash(request(20_000L))))
+        .isInstanceOf(IdempotencyKeyConflictException.class);
+  }
+
+  @Test
+  void shouldReplayFromDatabaseOnAnotherInstance() {
+    // given
+    var cache = newCache(true);
+    when(repository.findById("key")).thenReturn(Optional.of(IdempotencyKey.builder()
+        .idempotencyKey("key").requestHash("hash").statusCode(400)
+        .responseBody("{\"reasonCode\":\"ISSUER_BLOCKED\"}")
+        .expiresAt(Instant.now().plusSeconds(60)).build()));
+
+    // when
+    Optional<StoredResponse> first = cache.reserve("key", "hash");
+    Optional<StoredResponse> second = cache.reserve("key", "hash");
+
+    // then - the second lookup is served from memory
+    assertThat(first).map(StoredResponse::statusCode).contains(400);
+    assertThat(second).map(response -> response.body().isRejected()).contains(true);
+    verify(repository).findById("key");
+    assertThat(meterRegistry.get("hold.idempotency.lookups").tag("result", "db").counter()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.idempotency.lookups").tag("result", "memory").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldIgnoreExpiredDatabaseRows() {
+    // given
+    var cache = newCache(true);
+    when(repository.findById("key")).thenReturn(Optional.of(IdempotencyKey.builder()
+        .idempotencyKey("key").requestHash("hash").statusCode(201).responseBody("{}")
+        .expiresAt(Instant.now().minusSeconds(1)).build()));
+
+    // when & then
+    assertThat(cache.reserve("key", "hash")).isEmpty();
+    verify(repository).reserveExpired(eq("key"), eq("hash"), any(), any());
+  }
+
+  private IdempotencyResponseCache newCache(boolean dbEnabled) {
+    return new IdempotencyResponseCache(repository,
+        new DatabaseConcurrencyLimiter(10, 1_000, meterRegistry), new ObjectMapper(), 100, 60_000,
+        dbEnabled,
+        meterRegistry);
+  }
+
+  private static CreateHoldRequest request(long amount) {
+    return CreateHoldRequest.builder().transactionId(1L).issuerAccountId(1L)
+        .merchantAccountId(2L).amount(amount).currency("USD").build();
+  }
+}
@@ -0,0 +1,70 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long MILLIS = 1_000_000L;
+
+  @Test
+  void shouldGrowWhileLatencyStaysAtBaseline() {
+    // given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 1000);
+
+    // when
+    for (int i = 0; i < 50; i++) {
+      limit.onSuccess(5 * MILLIS, limit.getLimit());
+    }
+
+    // then
+    assertThat(limit.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  void shouldNotGrowWhenLimitIsUnused() {
+    // given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 1000);
+
+    // when
+    for (int i = 0; i < 50; i++) {
+      limit.onSuccess(5 * MILLIS, 1);
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldShrinkWhenLatencyClimbs() {
+    // given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 2, 100, 1000);
+    limit.onSuccess(5 * MILLIS, 50);
+    int before = limit.getLimit();
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      limit.onSuccess(100 * MILLIS, 50);
+    }
+
+    // then
+    assertThat(limit.getLimit()).isLessThan(before);
+  }
+
+  @Test
+  void shouldBackOffOnDropsButNotBelowMinimum() {
+    // given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1000);
+
+    // when
+    limit.onDropped();
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(18);
+    for (int i = 0; i < 100; i++) {
+      limit.onDropped();
+    }
+    assertThat(limit.getLimit()).isEqualTo(5);
+  }
+}
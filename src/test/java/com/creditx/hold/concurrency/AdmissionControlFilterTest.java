@@ -0,0 +1,137 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdmissionControlFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdmissionLimiter limiter;
+  private AdmissionControlFilter filter;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new AdmissionLimiter(new AdaptiveConcurrencyLimit(1, 1, 10, 1000), 0, 0.5,
+        meterRegistry);
+    filter = new AdmissionControlFilter(limiter, 2, Set.of("10.0.0.1"));
+  }
+
+  @Test
+  void shouldPassAdmittedRequestsAndReleaseSlot() throws Exception {
+    // given
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/holds"), response,
+        new MockFilterChain());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldRejectWith429WhenSaturated() throws Exception {
+    // given
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/holds");
+    request.addHeader(RequestPriority.HEADER, "high");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    filter.doFilter(request, response, new MockFilterChain());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+  }
+
+  @Test
+  void shouldNotLimitReads() throws Exception {
+    // given
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/holds"), response,
+        new MockFilterChain());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void shouldHonorHighPriorityOnlyFromTrustedCallers() throws Exception {
+    // given
+    MockHttpServletRequest trusted = new MockHttpServletRequest("POST", "/api/holds");
+    trusted.setRemoteAddr("10.0.0.1");
+    trusted.addHeader(RequestPriority.HEADER, "high");
+    MockHttpServletRequest untrusted = new MockHttpServletRequest("POST", "/api/holds");
+    untrusted.setRemoteAddr("203.0.113.7");
+    untrusted.addHeader(RequestPriority.HEADER, "high");
+
+    // when
+    filter.doFilter(trusted, new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(untrusted, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(admitted("high")).isEqualTo(1);
+    assertThat(admitted("normal")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSampleLatencyOfCreatesOnly() throws Exception {
+    // given
+    AdaptiveConcurrencyLimit limit = mock(AdaptiveConcurrencyLimit.class);
+    when(limit.getLimit()).thenReturn(10);
+    filter = new AdmissionControlFilter(new AdmissionLimiter(limit, 0, 0.5, meterRegistry), 2,
+        Set.of());
+    MockHttpServletRequest replay = new MockHttpServletRequest("POST", "/api/holds");
+    replay.setAttribute(AdmissionControlFilter.UNSAMPLED, Boolean.TRUE);
+
+    // when
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/holds"),
+        new MockHttpServletResponse(), respondWith(HttpServletResponse.SC_CREATED));
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/holds"),
+        new MockHttpServletResponse(), respondWith(HttpServletResponse.SC_BAD_REQUEST));
+    filter.doFilter(replay, new MockHttpServletResponse(),
+        respondWith(HttpServletResponse.SC_CREATED));
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/holds"),
+        new MockHttpServletResponse(), respondWith(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+
+    // then
+    verify(limit, times(1)).onSuccess(anyLong(), anyInt());
+    verify(limit, times(1)).onDropped();
+  }
+
+  private static MockFilterChain respondWith(int status) {
+    return new MockFilterChain() {
+      @Override
+      public void doFilter(ServletRequest request, ServletResponse response) {
+        ((HttpServletResponse) response).setStatus(status);
+      }
+    };
+  }
+
+  private double admitted(String priority) {
+    return meterRegistry.get("hold.admission.requests").tag("outcome", "admitted")
+        .tag("priority", priority).counter().count();
+  }
+}
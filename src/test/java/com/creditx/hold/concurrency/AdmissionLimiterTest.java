@@ -0,0 +1,83 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionLimiterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdmissionLimiter limiter;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new AdmissionLimiter(new AdaptiveConcurrencyLimit(2, 1, 10, 1000), 500, 0.5,
+        meterRegistry);
+  }
+
+  @Test
+  void shouldShedNormalRequestsBeyondLimit() {
+    // given
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+
+    // when
+    Optional<AdmissionLimiter.Permit> third = limiter.tryAcquire(RequestPriority.NORMAL);
+
+    // then
+    assertThat(third).isEmpty();
+    assertThat(count("admitted", "normal")).isEqualTo(2.0);
+    assertThat(count("shed", "normal")).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldShedLowPriorityRequestsFirst() {
+    // given
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+
+    // when & then
+    assertThat(limiter.tryAcquire(RequestPriority.LOW)).isEmpty();
+    assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isPresent();
+  }
+
+  @Test
+  void shouldQueueHighPriorityRequestsUntilSlotIsReleased() throws Exception {
+    // given
+    var first = limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+    limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+
+    // when
+    var high = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(RequestPriority.HIGH));
+    Thread.sleep(50);
+    first.onSuccess();
+
+    // then
+    assertThat(high.get(1, TimeUnit.SECONDS)).isPresent();
+    assertThat(count("queued", "high")).isEqualTo(1.0);
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReleaseSlotOnCompletion() {
+    // given
+    var permit = limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow();
+
+    // when
+    permit.onDropped();
+
+    // then
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(meterRegistry.get("hold.admission.in.flight").gauge().value()).isZero();
+  }
+
+  private double count(String outcome, String priority) {
+    return meterRegistry.get("hold.admission.requests").tag("outcome", outcome)
+        .tag("priority", priority).counter().count();
+  }
+}
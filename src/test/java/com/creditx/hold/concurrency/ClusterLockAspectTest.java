@@ -0,0 +1,98 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+class ClusterLockAspectTest {
+
+  private ClusterLockProvider clusterLockProvider;
+  private SimpleMeterRegistry meterRegistry;
+  private Job target;
+  private Job job;
+
+  @BeforeEach
+  void setup() {
+    clusterLockProvider = mock(ClusterLockProvider.class);
+    meterRegistry = new SimpleMeterRegistry();
+    MockEnvironment environment = new MockEnvironment().withProperty("job.at-least-ms", "5000");
+    target = new Job();
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new ClusterLockAspect(clusterLockProvider, environment, meterRegistry,
+        60_000));
+    job = factory.getProxy();
+  }
+
+  @Test
+  void shouldRunWithLockBoundAndReleaseIt() {
+    // given
+    ClusterLock lock = new ClusterLock("job", 7, 5000);
+    when(clusterLockProvider.tryLock("job", 60_000, 5000)).thenReturn(Optional.of(lock));
+
+    // when
+    job.run();
+
+    // then
+    assertThat(target.seen).containsExactly(Optional.of(lock));
+    assertThat(ClusterLock.current()).isEmpty();
+    verify(clusterLockProvider, times(1)).unlock(lock);
+    assertThat(meterRegistry.get("scheduler.lock.acquisitions").tag("name", "job")
+        .tag("result", "acquired").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("scheduler.lock.held").tag("name", "job").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldSkipRunWhenLockIsHeldElsewhere() {
+    // given
+    when(clusterLockProvider.tryLock("job", 60_000, 5000)).thenReturn(Optional.empty());
+
+    // when
+    job.run();
+
+    // then
+    assertThat(target.seen).isEmpty();
+    assertThat(meterRegistry.get("scheduler.lock.acquisitions").tag("name", "job")
+        .tag("result", "busy").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReleaseLockWhenJobFails() {
+    // given
+    ClusterLock lock = new ClusterLock("job", 8, 5000);
+    when(clusterLockProvider.tryLock("job", 60_000, 5000)).thenReturn(Optional.of(lock));
+    target.fail = true;
+
+    // when / then
+    assertThatThrownBy(job::run).isInstanceOf(IllegalStateException.class);
+    verify(clusterLockProvider, times(1)).unlock(lock);
+    assertThat(ClusterLock.current()).isEmpty();
+  }
+
+  static class Job {
+
+    final List<Optional<ClusterLock>> seen = new ArrayList<>();
+    boolean fail;
+
+    @ClusterLocked(name = "job", lockAtLeastFor = "${job.at-least-ms}")
+    public void run() {
+      seen.add(ClusterLock.current());
+      if (fail) {
+        throw new IllegalStateException("Job failed");
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseConcurrencyLimiterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private DatabaseConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new DatabaseConcurrencyLimiter(1, 50, meterRegistry);
+  }
+
+  @Test
+  void shouldReturnResultAndReleasePermit() {
+    // when
+    String first = limiter.call(() -> "first");
+    String second = limiter.call(() -> "second");
+
+    // then
+    assertThat(first).isEqualTo("first");
+    assertThat(second).isEqualTo("second");
+    assertThat(meterRegistry.get("db.concurrency.available").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldReleasePermitWhenWorkFails() {
+    // when & then
+    assertThatThrownBy(() -> limiter.run(() -> {
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(limiter.call(() -> "after failure")).isEqualTo("after failure");
+  }
+
+  @Test
+  void shouldRejectWhenNoPermitBecomesAvailable() throws Exception {
+    // given
+    CountDownLatch holding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<?> holder = executor.submit(() -> limiter.run(() -> {
+        holding.countDown();
+        awaitQuietly(release);
+      }));
+      assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+
+      // when & then
+      assertThatThrownBy(() -> limiter.call(() -> "blocked")).isInstanceOf(
+          DatabaseBusyException.class);
+      assertThat(meterRegistry.counter("db.concurrency.rejected").count()).isEqualTo(1.0);
+
+      release.countDown();
+      holder.get(1, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.creditx.hold.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SingleFlight<Long, String> singleFlight;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    singleFlight = new SingleFlight<>("test", 100, 2_000, meterRegistry);
+  }
+
+  @Test
+  void shouldShareResultWithConcurrentDuplicates() throws Exception {
+    // given
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger executions = new AtomicInteger();
+    var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+      executions.incrementAndGet();
+      leaderStarted.countDown();
+      await(release);
+      return "hold-1";
+    }));
+    leaderStarted.await(1, TimeUnit.SECONDS);
+
+    // when
+    var follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+      executions.incrementAndGet();
+      return "duplicate";
+    }));
+    while (coalesced() < 1) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    // then
+    assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("hold-1");
+    assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("hold-1");
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("singleflight.in.flight").gauge().value()).isZero();
+  }
+
+  @Test
+  void shouldPropagateLeaderFailureToDuplicates() throws Exception {
+    // given
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+      leaderStarted.countDown();
+      await(release);
+      throw new IllegalArgumentException("Transaction amount exceeds fraud limit");
+    }));
+    leaderStarted.await(1, TimeUnit.SECONDS);
+
+    // when
+    var follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> "other"));
+    while (coalesced() < 1) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    // then
+    assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectDuplicateWhenLeaderOutlivesFollowerTimeout() throws Exception {
+    // given
+    singleFlight = new SingleFlight<>("test", 100, 50, meterRegistry);
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger executions = new AtomicInteger();
+    var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+      executions.incrementAndGet();
+      leaderStarted.countDown();
+      await(release);
+      return "hold-1";
+    }));
+    leaderStarted.await(1, TimeUnit.SECONDS);
+
+    // when
+    assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+      executions.incrementAndGet();
+      return "duplicate";
+    })).isInstanceOf(DatabaseBusyException.class);
+    release.countDown();
+
+    // then
+    assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("hold-1");
+    assertThat(executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCacheCompletedCalls() {
+    // when
+    String first = singleFlight.execute(1L, () -> "first");
+    String second = singleFlight.execute(1L, () -> "second");
+
+    // then
+    assertThat(first).isEqualTo("first");
+    assertThat(second).isEqualTo("second");
+    assertThat(coalesced()).isZero();
+  }
+
+  @Test
+  void shouldBypassWhenTableIsFull() {
+    // given
+    singleFlight = new SingleFlight<>("full", 0, 2_000, meterRegistry);
+
+    // when
+    String result = singleFlight.execute(1L, () -> "direct");
+
+    // then
+    assertThat(result).isEqualTo("direct");
+    assertThat(meterRegistry.get("singleflight.bypassed").tag("name", "full").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  private double coalesced() {
+    return meterRegistry.get("singleflight.coalesced").tag("name", "test").counter().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
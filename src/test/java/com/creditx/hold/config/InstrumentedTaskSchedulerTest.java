@@ -0,0 +1,80 @@
+package com.creditx.hold.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedTaskSchedulerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private InstrumentedTaskScheduler scheduler;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    scheduler = new InstrumentedTaskScheduler("test-job", 1, meterRegistry);
+    scheduler.initialize();
+  }
+
+  @AfterEach
+  void teardown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void shouldRecordOverrunsAndLateStartsOfFixedRateJob() throws Exception {
+    // given: every run takes longer than the period
+    CountDownLatch runs = new CountDownLatch(4);
+
+    // when
+    var future = scheduler.scheduleAtFixedRate(() -> {
+      sleep(30);
+      runs.countDown();
+    }, Duration.ofMillis(10));
+    assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+    future.cancel(false);
+
+    // then: the last run may still be recording its meters
+    assertThat(meterRegistry.get("scheduler.task.overruns").tag("job", "test-job").counter()
+        .count()).isGreaterThanOrEqualTo(3);
+    assertThat(meterRegistry.get("scheduler.task.duration").tag("job", "test-job").timer()
+        .count()).isGreaterThanOrEqualTo(3);
+    // Each run starts about 20 ms further behind its 10 ms schedule than the one before
+    assertThat(meterRegistry.get("scheduler.task.start.lag").tag("job", "test-job").timer()
+        .max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40);
+  }
+
+  @Test
+  void shouldMeasureFixedDelayLagFromPreviousEnd() throws Exception {
+    // given
+    CountDownLatch runs = new CountDownLatch(3);
+
+    // when
+    var future = scheduler.scheduleWithFixedDelay(() -> {
+      sleep(30);
+      runs.countDown();
+    }, Duration.ofMillis(10));
+    assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+    future.cancel(false);
+
+    // then
+    assertThat(meterRegistry.get("scheduler.task.overruns").tag("job", "test-job").counter()
+        .count()).isZero();
+    assertThat(meterRegistry.get("scheduler.task.start.lag").tag("job", "test-job").timer()
+        .max(TimeUnit.MILLISECONDS)).isLessThan(30);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.creditx.hold.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.service.AccountExposureService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AccountExposureController.class)
+@Import({DatabaseConcurrencyLimiter.class, SimpleMeterRegistry.class})
+class AccountExposureControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @MockitoBean
+  AccountExposureService accountExposureService;
+
+  @Test
+  void getExposure_success() throws Exception {
+    given(accountExposureService.getExposure(42L)).willReturn(
+        AccountExposureResponse.builder().accountId(42L).heldAmount(25_000L)
+            .activeHoldCount(3L).build());
+
+    mockMvc.perform(get("/api/accounts/42/exposure")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.accountId").value(42)).andExpect(jsonPath("$.heldAmount").value(250.00))
+        .andExpect(jsonPath("$.activeHoldCount").value(3));
+  }
+}
@@ -1,31 +1,67 @@
 package com.creditx.hold.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.creditx.hold.cache.IdempotencyKeyConflictException;
+import com.creditx.hold.cache.IdempotencyResponseCache;
+import com.creditx.hold.cache.IdempotencyResponseCache.StoredResponse;
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.config.SingleFlightConfig;
 import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.fraud.FraudReason;
 import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.service.HoldQueryService;
 import com.creditx.hold.service.HoldService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(controllers = HoldController.class)
+@Import({DatabaseConcurrencyLimiter.class, SingleFlightConfig.class, SimpleMeterRegistry.class})
 class HoldControllerTest {
 
+  private static final String REQUEST_BODY = """
+      {
+          "transactionId": 999,
+          "issuerAccountId": 1,
+          "merchantAccountId": 2,
+          "amount": 100.00,
+          "currency": "USD"
+      }
+      """;
+
   @Autowired
   MockMvc mockMvc;
 
   @MockitoBean
   HoldService holdService;
 
+  @MockitoBean
+  HoldQueryService holdQueryService;
+
+  @MockitoBean
+  IdempotencyResponseCache idempotencyResponseCache;
+
   @Test
   void createHold_success() throws Exception {
     given(holdService.createHold(any())).willReturn(
@@ -189,6 +225,63 @@ class HoldControllerTest {
         .andExpect(status().isBadRequest()).andExpect(content().string("Account not found"));
   }
 
+  @Test
+  void createHold_rejectedByFraudChecks() throws Exception {
+    given(holdService.createHold(any())).willReturn(
+        CreateHoldResponse.rejected(FraudReason.AMOUNT_OVER_LIMIT));
+
+    String requestBody = """
+        {
+            "transactionId": 999,
+            "issuerAccountId": 1,
+            "merchantAccountId": 2,
+            "amount": 15000.00,
+            "currency": "USD"
+        }
+        """;
+
+    mockMvc.perform(post("/api/holds").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.reasonCode").value("AMOUNT_OVER_LIMIT"))
+        .andExpect(jsonPath("$.holdId").doesNotExist());
+  }
+
+  @Test
+  void createHold_replaysStoredResponseForIdempotencyKey() throws Exception {
+    given(idempotencyResponseCache.reserve(eq("key-1"), anyString())).willReturn(Optional.of(
+        new StoredResponse("hash", 201,
+            CreateHoldResponse.builder().holdId(12345L).status(HoldStatus.AUTHORIZED).build())));
+
+    mockMvc.perform(post("/api/holds").header("Idempotency-Key", "key-1")
+            .contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+        .andExpect(status().isCreated()).andExpect(jsonPath("$.holdId").value(12345));
+    verify(holdService, never()).createHold(any());
+  }
+
+  @Test
+  void createHold_storesResponseForIdempotencyKey() throws Exception {
+    given(holdService.createHold(any())).willReturn(
+        CreateHoldResponse.rejected(FraudReason.ISSUER_BLOCKED));
+
+    mockMvc.perform(post("/api/holds").header("Idempotency-Key", "key-2")
+            .contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+        .andExpect(status().isBadRequest());
+    verify(idempotencyResponseCache).save(eq("key-2"),
+        argThat(stored -> stored.statusCode() == 400
+            && stored.body().getReasonCode() == FraudReason.ISSUER_BLOCKED));
+  }
+
+  @Test
+  void createHold_idempotencyKeyReusedWithDifferentRequest() throws Exception {
+    given(idempotencyResponseCache.reserve(eq("key-3"), anyString())).willThrow(
+        new IdempotencyKeyConflictException("different request"));
+
+    mockMvc.perform(post("/api/holds").header("Idempotency-Key", "key-3")
+            .contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+        .andExpect(status().isUnprocessableEntity());
+    verify(holdService, never()).createHold(any());
+  }
+
   @Test
   void createHold_insufficientBalanceException() throws Exception {
     given(holdService.createHold(any())).willThrow(
@@ -347,4 +440,62 @@ class HoldControllerTest {
         .andExpect(status().isBadRequest())
         .andExpect(content().string("Hold amount does not match transaction amount"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void createHold_databaseBusy() throws Exception {
+    given(holdService.createHold(any())).willThrow(
+        new DatabaseBusyException("Database is busy, try again later"));
+
+    String requestBody = """
+        {
+            "transactionId": 999,
+            "issuerAccountId": 1,
+            "merchantAccountId": 2,
+            "amount": 100.00,
+            "currency": "USD"
+        }
+        """;
+
+    mockMvc.perform(post("/api/holds").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+        .andExpect(status().isServiceUnavailable()).andExpect(header().string("Retry-After", "1"))
+        .andExpect(content().string("Database is busy, try again later"));
+  }
+
+  @Test
+  void getHold_success() throws Exception {
+    given(holdQueryService.findHold(12345L)).willReturn(Optional.of(holdResponse()));
+
+    mockMvc.perform(get("/api/holds/12345")).andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"12345-AUTHORIZED\""))
+        .andExpect(jsonPath("$.holdId").value(12345)).andExpect(jsonPath("$.transactionId").value(999))
+        .andExpect(jsonPath("$.status").value("AUTHORIZED"));
+  }
+
+  @Test
+  void getHold_notModified() throws Exception {
+    given(holdQueryService.findHold(12345L)).willReturn(Optional.of(holdResponse()));
+
+    mockMvc.perform(get("/api/holds/12345").header("If-None-Match", "\"12345-AUTHORIZED\""))
+        .andExpect(status().isNotModified()).andExpect(content().string(""));
+  }
+
+  @Test
+  void getHold_notFound() throws Exception {
+    given(holdQueryService.findHold(12345L)).willReturn(Optional.empty());
+
+    mockMvc.perform(get("/api/holds/12345")).andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getHoldByTransactionId_success() throws Exception {
+    given(holdQueryService.findHoldByTransactionId(999L)).willReturn(Optional.of(holdResponse()));
+
+    mockMvc.perform(get("/api/holds").param("transactionId", "999")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.holdId").value(12345));
+  }
+
+  private HoldResponse holdResponse() {
+    return HoldResponse.builder().holdId(12345L).transactionId(999L).accountId(1L)
+        .amount(10_000L).status(HoldStatus.AUTHORIZED).build();
+  }
+}
@@ -0,0 +1,147 @@
+package com.creditx.hold.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.creditx.hold.cache.IdempotencyResponseCache;
+import com.creditx.hold.cache.IdempotencyResponseCache.StoredResponse;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.service.HoldQueryService;
+import com.creditx.hold.service.ReactiveHoldService;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveHoldControllerTest {
+
+  @Mock
+  private ReactiveHoldService holdService;
+
+  @Mock
+  private HoldQueryService holdQueryService;
+
+  @Mock
+  private IdempotencyResponseCache idempotencyResponseCache;
+
+  private static final String REQUEST_BODY = """
+      {
+          "transactionId": 999,
+          "issuerAccountId": 1,
+          "merchantAccountId": 2,
+          "amount": 100.00,
+          "currency": "USD"
+      }
+      """;
+
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setup() {
+    webTestClient = WebTestClient.bindToController(new ReactiveHoldController(holdService,
+            holdQueryService, idempotencyResponseCache))
+        .build();
+  }
+
+  @Test
+  void createHold_success() {
+    given(holdService.createHold(any())).willReturn(Mono.just(
+        CreateHoldResponse.builder().holdId(12345L).status(HoldStatus.AUTHORIZED).build()));
+
+    webTestClient.post().uri("/api/holds").contentType(MediaType.APPLICATION_JSON).bodyValue("""
+            {
+                "transactionId": 999,
+                "issuerAccountId": 1,
+                "merchantAccountId": 2,
+                "amount": 100.00,
+                "currency": "USD"
+            }
+            """).exchange().expectStatus().isCreated().expectBody().jsonPath("$.holdId")
+        .isEqualTo(12345).jsonPath("$.status").isEqualTo("AUTHORIZED");
+  }
+
+  @Test
+  void createHold_validationError_missingTransactionId() {
+    webTestClient.post().uri("/api/holds").contentType(MediaType.APPLICATION_JSON).bodyValue("""
+        {
+            "issuerAccountId": 1,
+            "merchantAccountId": 2,
+            "amount": 100.00,
+            "currency": "USD"
+        }
+        """).exchange().expectStatus().isBadRequest();
+  }
+
+  @Test
+  void createHold_fraudRejection() {
+    given(holdService.createHold(any())).willReturn(
+        Mono.error(new IllegalArgumentException("Transaction amount exceeds fraud limit")));
+
+    webTestClient.post().uri("/api/holds").contentType(MediaType.APPLICATION_JSON).bodyValue("""
+            {
+                "transactionId": 999,
+                "issuerAccountId": 1,
+                "merchantAccountId": 2,
+                "amount": 15000.00,
+                "currency": "USD"
+            }
+            """).exchange().expectStatus().isBadRequest().expectBody(String.class)
+        .isEqualTo("Transaction amount exceeds fraud limit");
+  }
+
+  @Test
+  void createHold_replaysStoredResponseForIdempotencyKey() {
+    given(idempotencyResponseCache.reserve(eq("key-1"), anyString())).willReturn(Optional.of(
+        new StoredResponse("hash", 201,
+            CreateHoldResponse.builder().holdId(12345L).status(HoldStatus.AUTHORIZED).build())));
+
+    webTestClient.post().uri("/api/holds").header("Idempotency-Key", "key-1")
+        .contentType(MediaType.APPLICATION_JSON).bodyValue(REQUEST_BODY).exchange()
+        .expectStatus().isCreated().expectBody().jsonPath("$.holdId").isEqualTo(12345);
+    verify(holdService, never()).createHold(any());
+  }
+
+  @Test
+  void createHold_storesResponseForIdempotencyKey() {
+    given(idempotencyResponseCache.reserve(eq("key-2"), anyString())).willReturn(Optional.empty());
+    given(holdService.createHold(any())).willReturn(Mono.just(
+        CreateHoldResponse.builder().holdId(12345L).status(HoldStatus.AUTHORIZED).build()));
+
+    webTestClient.post().uri("/api/holds").header("Idempotency-Key", "key-2")
+        .contentType(MediaType.APPLICATION_JSON).bodyValue(REQUEST_BODY).exchange()
+        .expectStatus().isCreated();
+    verify(idempotencyResponseCache).save(eq("key-2"),
+        argThat(stored -> stored.statusCode() == 201 && stored.body().getHoldId() == 12345L));
+  }
+
+  @Test
+  void getHold_notModifiedForMatchingETag() {
+    HoldResponse hold = HoldResponse.builder().holdId(12345L).status(HoldStatus.AUTHORIZED)
+        .build();
+    given(holdQueryService.findHold(12345L)).willReturn(Optional.of(hold));
+
+    webTestClient.get().uri("/api/holds/12345").header("If-None-Match", hold.eTag()).exchange()
+        .expectStatus().isNotModified();
+  }
+
+  @Test
+  void getHoldByTransactionId_notFound() {
+    given(holdQueryService.findHoldByTransactionId(999L)).willReturn(Optional.empty());
+
+    webTestClient.get().uri("/api/holds?transactionId=999").exchange().expectStatus()
+        .isNotFound();
+  }
+}
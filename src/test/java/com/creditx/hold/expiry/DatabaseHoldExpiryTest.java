@@ -0,0 +1,100 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.index.ActiveHoldIndex;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseHoldExpiryTest {
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private Session session;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private CallableStatement call;
+
+  @Mock
+  private Array ids;
+
+  @Mock
+  private HoldCache holdCache;
+
+  @Mock
+  private ActiveHoldIndex activeHoldIndex;
+
+  private DatabaseHoldExpiry databaseHoldExpiry;
+
+  @BeforeEach
+  void setup() throws Exception {
+    databaseHoldExpiry = new DatabaseHoldExpiry(entityManager, holdCache, activeHoldIndex);
+    when(entityManager.unwrap(Session.class)).thenReturn(session);
+    when(session.doReturningWork(any())).thenAnswer(
+        invocation -> invocation.<ReturningWork<?>>getArgument(0).execute(connection));
+    when(connection.prepareCall("{call CHS_EXPIRE_HOLDS_CHUNK(?, ?, ?, ?, ?)}")).thenReturn(call);
+    when(call.getArray(5)).thenReturn(ids);
+  }
+
+  @Test
+  void shouldCallProcedureAndEvictExpiredHolds() throws Exception {
+    // given
+    Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    when(ids.getArray()).thenReturn(new Object[] {new BigDecimal("3"), new BigDecimal("5")});
+
+    // when
+    List<Long> expired = databaseHoldExpiry.expireChunk(now, 16, 4, 500);
+
+    // then
+    assertThat(expired).containsExactly(3L, 5L);
+    verify(call, times(1)).setObject(1, now.atOffset(ZoneOffset.UTC));
+    verify(call, times(1)).setInt(2, 16);
+    verify(call, times(1)).setInt(3, 4);
+    verify(call, times(1)).setInt(4, 500);
+    verify(call, times(1)).registerOutParameter(5, Types.ARRAY, "SYS.ODCINUMBERLIST");
+    verify(ids, times(1)).free();
+    verify(call, times(1)).close();
+    verify(holdCache, times(1)).evict(3L);
+    verify(holdCache, times(1)).evict(5L);
+    verify(activeHoldIndex, times(1)).recordExpired(3L);
+    verify(activeHoldIndex, times(1)).recordExpired(5L);
+  }
+
+  @Test
+  void shouldReturnEmptyWhenNothingIsDue() throws Exception {
+    // given
+    when(ids.getArray()).thenReturn(new Object[0]);
+
+    // when
+    List<Long> expired = databaseHoldExpiry.expireChunk(Instant.now(), 16, 0, 500);
+
+    // then
+    assertThat(expired).isEmpty();
+    verify(holdCache, times(0)).evict(any());
+  }
+}
@@ -0,0 +1,115 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiryPacerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldApplyHourlyRates() {
+    // given
+    ExpiryPacer pacer = new ExpiryPacer(true, 200, "17=50, 18=0.5", "Europe/London", 1, 0.5,
+        meterRegistry);
+
+    // then
+    assertThat(pacer.ratePerSecond(16)).isEqualTo(200);
+    assertThat(pacer.ratePerSecond(17)).isEqualTo(50);
+    assertThat(pacer.ratePerSecond(18)).isEqualTo(0.5);
+    assertThatThrownBy(() -> new ExpiryPacer(true, 200, "24=10", "UTC", 1, 0.5, meterRegistry))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldSplitTheClusterRateBetweenReplicas() {
+    // given
+    ExpiryPacer pacer = new ExpiryPacer(true, 200, "17=50", "UTC", 4, 0.5, meterRegistry);
+
+    // then
+    assertThat(pacer.ratePerSecond(16)).isEqualTo(50);
+    assertThat(pacer.ratePerSecond(17)).isEqualTo(12.5);
+    assertThatThrownBy(() -> new ExpiryPacer(true, 200, "", "UTC", 0, 0.5, meterRegistry))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ExpiryPacer(true, 200, "", "UTC", 1, 1, meterRegistry))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldPaceChunksAtTheConfiguredRate() {
+    // given: full buckets of one second, half of it for the sweep, and an idle wheel whose share
+    // goes to the sweep
+    ExpiryPacer pacer = new ExpiryPacer(true, 100, "", "UTC", 1, 0.5, meterRegistry);
+    Instant deadline = Instant.now().plusSeconds(5);
+
+    // when
+    int first = pacer.acquire(500, deadline);
+    long start = System.nanoTime();
+    int second = pacer.acquire(50, deadline);
+    long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertThat(first).isEqualTo(50);
+    assertThat(second).isEqualTo(50);
+    assertThat(waitedMs).isBetween(480L, 750L);
+  }
+
+  @Test
+  void shouldGiveUpWhenPermitsComeAfterTheDeadline() {
+    // given
+    ExpiryPacer pacer = new ExpiryPacer(true, 10, "", "UTC", 1, 0.5, meterRegistry);
+    pacer.acquire(5, Instant.now().plusSeconds(1));
+
+    // when
+    int permits = pacer.acquire(10, Instant.now().plusMillis(100));
+
+    // then
+    assertThat(permits).isZero();
+  }
+
+  @Test
+  void shouldKeepTheWheelShareWhileThereIsDebt() throws Exception {
+    // given
+    ExpiryPacer pacer = new ExpiryPacer(true, 100, "", "UTC", 1, 0.5, meterRegistry);
+    pacer.recordDebt(300, Instant.now().minusSeconds(120));
+
+    // when: both paths drain their buckets, then the wheel asks again while the sweep is busy
+    int wheel = pacer.tryAcquire(500);
+    int sweep = pacer.acquire(500, Instant.now().plusSeconds(1));
+    Thread.sleep(200);
+    int wheelAgain = pacer.tryAcquire(500);
+    int sweepAgain = pacer.acquire(500, Instant.now().plusSeconds(2));
+    pacer.settle(sweep + sweepAgain, sweep + sweepAgain);
+
+    // then
+    assertThat(wheel).isEqualTo(50);
+    assertThat(sweep).isEqualTo(50);
+    assertThat(wheelAgain).isBetween(5, 40);
+    assertThat(sweepAgain).isEqualTo(50);
+    assertThat(meterRegistry.get("hold.expiry.debt").gauge().value()).isEqualTo(200);
+  }
+
+  @Test
+  void shouldReportDebtAge() {
+    // given
+    ExpiryPacer pacer = new ExpiryPacer(false, 200, "", "UTC", 1, 0.5, meterRegistry);
+
+    // when
+    pacer.recordDebt(7, Instant.now().minusSeconds(90));
+
+    // then
+    assertThat(pacer.tryAcquire(10)).isEqualTo(10);
+    assertThat(meterRegistry.get("hold.expiry.debt").gauge().value()).isEqualTo(7);
+    assertThat(meterRegistry.get("hold.expiry.debt.age").gauge().value()).isBetween(89.0, 95.0);
+  }
+}
@@ -0,0 +1,74 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  @Test
+  void shouldFireItemsWithinOneTickAfterTheirDeadline() {
+    // given
+    HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, 0);
+    Random random = new Random(42);
+    List<Long> deadlines = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      long deadline = random.nextLong(wheel.spanMs());
+      deadlines.add(deadline);
+      assertThat(wheel.add(deadline, deadline)).isTrue();
+    }
+
+    // when / then: every item fires in the first advance at or after its deadline
+    int fired = 0;
+    for (long now = 0; now <= wheel.spanMs() + 1000; now += 250) {
+      for (long deadline : wheel.advance(now)) {
+        assertThat(now).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + 1250);
+        fired++;
+      }
+    }
+    assertThat(fired).isEqualTo(deadlines.size());
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldFirePastDeadlinesOnTheNextTick() {
+    // given
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 2, 10_000);
+    wheel.add("late", 5_000);
+
+    // when / then
+    assertThat(wheel.advance(10_999)).isEmpty();
+    assertThat(wheel.advance(11_000)).containsExactly("late");
+  }
+
+  @Test
+  void shouldCatchUpAfterLongPause() {
+    // given
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 2, 0);
+    wheel.add("soon", 2_000);
+    wheel.add("later", 3_000_000);
+
+    // when
+    List<String> due = wheel.advance(3_600_000);
+
+    // then
+    assertThat(due).containsExactly("soon", "later");
+  }
+
+  @Test
+  void shouldRejectDeadlinesBeyondTheTopLevel() {
+    // given
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 2, 0);
+
+    // when / then
+    assertThat(wheel.spanMs()).isEqualTo((4096 - 64) * 1000L);
+    assertThat(wheel.add("far", 4_096_000)).isFalse();
+    assertThat(wheel.size()).isZero();
+    assertThatThrownBy(() -> new HierarchicalTimingWheel<>(1000, 60, 2, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,122 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.index.ActiveHoldIndex;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
+import com.creditx.hold.service.OutboxEventService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HoldExpiryChunkProcessorTest {
+
+  @Mock
+  private HoldRepository holdRepository;
+
+  @Mock
+  private OutboxEventService outboxEventService;
+
+  @Mock
+  private AccountExposureService accountExposureService;
+
+  @Mock
+  private HoldCache holdCache;
+
+  @Mock
+  private ActiveHoldIndex activeHoldIndex;
+
+  private HoldExpiryChunkProcessor processor;
+
+  @BeforeEach
+  void setup() {
+    processor = new HoldExpiryChunkProcessor(holdRepository, outboxEventService,
+        accountExposureService, holdCache, activeHoldIndex, 500);
+  }
+
+  @Test
+  void shouldRejectChunksOverTheInListLimit() {
+    assertThatThrownBy(() -> new HoldExpiryChunkProcessor(holdRepository, outboxEventService,
+        accountExposureService, holdCache, activeHoldIndex, 1001))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldExpireLockedHoldsAndSkipTheRest() {
+    // given
+    ExpiringHold locked = new ExpiringHold(1L, 11L, 100L, 12_345L,
+        Instant.parse("2025-01-01T00:00:00.123456789Z"));
+    ExpiringHold busy = new ExpiringHold(2L, 12L, 100L, 500L,
+        Instant.parse("2025-01-01T00:00:01Z"));
+    when(holdRepository.lockAuthorized(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+    // when
+    List<Hold> expired = processor.expire(List.of(locked, busy));
+
+    // then
+    assertThat(expired).extracting(Hold::getHoldId).containsExactly(1L);
+    assertThat(expired.get(0).getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    verify(holdRepository, times(1)).updateStatusIn(Set.of(1L), HoldStatus.AUTHORIZED,
+        HoldStatus.EXPIRED);
+    verify(accountExposureService, times(1)).holdsReleased(expired);
+    verify(holdCache, times(1)).put(expired.get(0));
+    verify(activeHoldIndex, times(1)).record(expired.get(0));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<Long, String>> payloads = ArgumentCaptor.forClass(Map.class);
+    verify(outboxEventService, times(1)).saveEvents(eq("hold.expired"), payloads.capture());
+    assertThat(payloads.getValue()).containsOnlyKeys(1L);
+    assertThat(payloads.getValue().get(1L)).isEqualTo(
+        "{\"holdId\":1,\"transactionId\":11,\"accountId\":100,\"amount\":123.45,"
+            + "\"status\":\"EXPIRED\",\"expiresAt\":1735689600.123456789}");
+  }
+
+  @Test
+  void shouldExpireHoldListedTwiceOnce() {
+    // given
+    ExpiringHold hold = new ExpiringHold(1L, 11L, 100L, 500L, Instant.now());
+    when(holdRepository.lockAuthorized(List.of(1L))).thenReturn(List.of(1L));
+
+    // when
+    List<Hold> expired = processor.expire(List.of(hold, hold));
+
+    // then
+    assertThat(expired).extracting(Hold::getHoldId).containsExactly(1L);
+    verify(accountExposureService, times(1)).holdsReleased(expired);
+  }
+
+  @Test
+  void shouldDoNothingWhenAllHoldsAreLockedElsewhere() {
+    // given
+    when(holdRepository.lockAuthorized(List.of(1L))).thenReturn(List.of());
+
+    // when
+    List<Hold> expired = processor.expire(
+        List.of(new ExpiringHold(1L, 11L, 100L, 500L, Instant.now())));
+
+    // then
+    assertThat(expired).isEmpty();
+    verify(holdRepository, times(0)).updateStatusIn(anyCollection(), any(), any());
+    verify(outboxEventService, times(0)).saveEvents(any(), any());
+  }
+}
@@ -0,0 +1,108 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class HoldExpiryWheelTest {
+
+  private HoldRepository holdRepository;
+  private HoldExpiryChunkProcessor expiryChunkProcessor;
+  private SimpleMeterRegistry meterRegistry;
+  private HoldExpiryWheel expiryWheel;
+
+  @BeforeEach
+  void setup() {
+    holdRepository = mock(HoldRepository.class);
+    expiryChunkProcessor = mock(HoldExpiryChunkProcessor.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(expiryChunkProcessor.chunkSize()).thenReturn(2);
+    expiryWheel = expiryWheel(new ExpiryPacer(false, 200, "", "UTC", 1, 0.5, meterRegistry));
+  }
+
+  private HoldExpiryWheel expiryWheel(ExpiryPacer expiryPacer) {
+    return new HoldExpiryWheel(holdRepository, expiryChunkProcessor,
+        new DatabaseConcurrencyLimiter(10, 1000, meterRegistry), expiryPacer, 10, 64, 60_000,
+        meterRegistry);
+  }
+
+  @Test
+  void shouldLoadUpcomingExpiriesAndFireThemWhenDue() throws Exception {
+    // given
+    ExpiringHold first = expiringHold(1L, Instant.now().plusMillis(30));
+    ExpiringHold second = expiringHold(2L, Instant.now().plusMillis(40));
+    ExpiringHold later = expiringHold(3L, Instant.now().plusSeconds(50));
+    when(holdRepository.findExpiredChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        any(Instant.class), eq(0L), eq(Limit.of(2)))).thenReturn(List.of(first, second));
+    when(holdRepository.findExpiredChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(second.expiresAt()), eq(2L), eq(Limit.of(2)))).thenReturn(List.of(later));
+
+    // when
+    expiryWheel.load();
+    Thread.sleep(100);
+    expiryWheel.fire();
+
+    // then
+    verify(expiryChunkProcessor, times(1)).expire(List.of(first, second));
+    assertThat(expiryWheel.size()).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.expiry.wheel.lag").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("hold.expiry.wheel.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotFireBeforeDeadline() {
+    // given
+    when(holdRepository.findExpiredChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        any(Instant.class), eq(0L), eq(Limit.of(2)))).thenReturn(
+        List.of(expiringHold(1L, Instant.now().plusSeconds(30))));
+
+    // when
+    expiryWheel.load();
+    expiryWheel.fire();
+
+    // then
+    verify(expiryChunkProcessor, times(0)).expire(anyList());
+    assertThat(expiryWheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepFiringDueHoldsWhileThereIsExpiryDebt() throws Exception {
+    // given
+    ExpiryPacer expiryPacer = new ExpiryPacer(true, 100, "", "UTC", 1, 0.5, meterRegistry);
+    expiryPacer.recordDebt(10, Instant.now().minusSeconds(60));
+    expiryWheel = expiryWheel(expiryPacer);
+    ExpiringHold due = expiringHold(1L, Instant.now().plusMillis(30));
+    when(holdRepository.findExpiredChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        any(Instant.class), eq(0L), eq(Limit.of(2)))).thenReturn(List.of(due));
+
+    // when
+    expiryWheel.load();
+    Thread.sleep(100);
+    expiryWheel.fire();
+
+    // then
+    verify(expiryChunkProcessor, times(1)).expire(List.of(due));
+    assertThat(expiryWheel.size()).isZero();
+    assertThat(expiryPacer.debt()).isEqualTo(10);
+  }
+
+  private ExpiringHold expiringHold(Long holdId, Instant expiresAt) {
+    return new ExpiringHold(holdId, holdId + 1000, 1L, 10_000L, expiresAt);
+  }
+}
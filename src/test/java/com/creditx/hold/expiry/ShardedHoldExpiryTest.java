@@ -0,0 +1,236 @@
+package com.creditx.hold.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.model.ExpiryShardLease;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.ExpiringHold;
+import com.creditx.hold.repository.HoldRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class ShardedHoldExpiryTest {
+
+  private HoldRepository holdRepository;
+  private HoldExpiryChunkProcessor expiryChunkProcessor;
+  private ExpiryShardLeases expiryShardLeases;
+  private DatabaseHoldExpiry databaseHoldExpiry;
+  private SimpleMeterRegistry meterRegistry;
+  private ShardedHoldExpiry shardedHoldExpiry;
+
+  @BeforeEach
+  void setup() {
+    holdRepository = mock(HoldRepository.class);
+    expiryChunkProcessor = mock(HoldExpiryChunkProcessor.class);
+    expiryShardLeases = mock(ExpiryShardLeases.class);
+    databaseHoldExpiry = mock(DatabaseHoldExpiry.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(expiryChunkProcessor.chunkSize()).thenReturn(2);
+    shardedHoldExpiry = shardedHoldExpiry(false,
+        new ExpiryPacer(false, 200, "", "UTC", 1, 0.5, meterRegistry));
+  }
+
+  private ShardedHoldExpiry shardedHoldExpiry(boolean inDatabase, ExpiryPacer expiryPacer) {
+    return new ShardedHoldExpiry(holdRepository, expiryChunkProcessor, expiryShardLeases,
+        databaseHoldExpiry, new DatabaseConcurrencyLimiter(10, 1000, meterRegistry), expiryPacer,
+        inDatabase, 2, 2, 100, meterRegistry);
+  }
+
+  @AfterEach
+  void teardown() {
+    shardedHoldExpiry.shutdown();
+  }
+
+  @Test
+  void shouldSweepLeasedShardsInKeysetChunks() {
+    // given: shard 0 is ours, shard 1 is leased by another instance
+    ExpiringHold first = expiringHold(2L, 300);
+    ExpiringHold second = expiringHold(4L, 200);
+    ExpiringHold third = expiringHold(6L, 100);
+    when(expiryShardLeases.tryAcquire(0)).thenReturn(Optional.of(lease(0, null, null)));
+    when(expiryShardLeases.tryAcquire(1)).thenReturn(Optional.empty());
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(0L), eq(Instant.EPOCH), eq(0L), eq(Limit.of(2)))).thenReturn(
+        List.of(first, second));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(0L), eq(second.expiresAt()), eq(4L), eq(Limit.of(2)))).thenReturn(
+        List.of(third));
+    when(expiryChunkProcessor.expire(List.of(first, second))).thenReturn(
+        List.of(first.toHold(HoldStatus.EXPIRED)));
+    when(expiryChunkProcessor.expire(List.of(third))).thenReturn(
+        List.of(third.toHold(HoldStatus.EXPIRED)));
+    when(expiryShardLeases.advance(eq(0), any())).thenReturn(true);
+
+    // when
+    long expired = shardedHoldExpiry.expireAll();
+
+    // then
+    assertThat(expired).isEqualTo(2);
+    verify(expiryShardLeases, times(1)).advance(0, second);
+    verify(expiryShardLeases, times(1)).advance(0, third);
+    verify(expiryShardLeases, times(1)).complete(0);
+    verify(expiryShardLeases, times(0)).complete(1);
+    assertThat(meterRegistry.get("hold.expiry.holds").tag("result", "expired").counter()
+        .count()).isEqualTo(2);
+    assertThat(meterRegistry.get("hold.expiry.holds").tag("result", "skipped").counter()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.expiry.chunk.duration").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("hold.expiry.shards").tag("result", "busy").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldResumeFromStoredCursor() {
+    // given
+    Instant cursor = Instant.parse("2025-01-01T00:00:00Z");
+    when(expiryShardLeases.tryAcquire(anyInt())).thenReturn(Optional.empty());
+    when(expiryShardLeases.tryAcquire(1)).thenReturn(Optional.of(lease(1, cursor, 41L)));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(1L), eq(cursor), eq(41L), eq(Limit.of(2)))).thenReturn(List.of());
+
+    // when
+    shardedHoldExpiry.expireAll();
+
+    // then
+    verify(expiryShardLeases, times(1)).complete(1);
+    verify(expiryChunkProcessor, times(0)).expire(anyList());
+  }
+
+  @Test
+  void shouldStopShardWhenLeaseIsLost() {
+    // given
+    ExpiringHold first = expiringHold(1L, 300);
+    ExpiringHold second = expiringHold(3L, 200);
+    when(expiryShardLeases.tryAcquire(anyInt())).thenReturn(Optional.empty());
+    when(expiryShardLeases.tryAcquire(1)).thenReturn(Optional.of(lease(1, null, null)));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(1L), any(Instant.class), anyLong(), eq(Limit.of(2)))).thenReturn(
+        List.of(first, second));
+    when(expiryChunkProcessor.expire(anyList())).thenReturn(
+        List.of(first.toHold(HoldStatus.EXPIRED), second.toHold(HoldStatus.EXPIRED)));
+    when(expiryShardLeases.advance(1, second)).thenReturn(false);
+
+    // when
+    long expired = shardedHoldExpiry.expireAll();
+
+    // then
+    assertThat(expired).isEqualTo(2);
+    verify(expiryChunkProcessor, times(1)).expire(anyList());
+    verify(expiryShardLeases, times(0)).complete(1);
+    assertThat(meterRegistry.get("hold.expiry.shards").tag("result", "lost").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldContinueAfterFailedChunk() {
+    // given
+    ExpiringHold first = expiringHold(2L, 300);
+    ExpiringHold second = expiringHold(4L, 200);
+    ExpiringHold third = expiringHold(6L, 100);
+    when(expiryShardLeases.tryAcquire(anyInt())).thenReturn(Optional.empty());
+    when(expiryShardLeases.tryAcquire(0)).thenReturn(Optional.of(lease(0, null, null)));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(0L), eq(Instant.EPOCH), eq(0L), eq(Limit.of(2)))).thenReturn(
+        List.of(first, second));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(0L), eq(second.expiresAt()), eq(4L), eq(Limit.of(2)))).thenReturn(
+        List.of(third));
+    when(expiryChunkProcessor.expire(List.of(first, second))).thenThrow(
+        new RuntimeException("Deadlock detected"));
+    when(expiryChunkProcessor.expire(List.of(third))).thenReturn(
+        List.of(third.toHold(HoldStatus.EXPIRED)));
+    when(expiryShardLeases.advance(eq(0), any())).thenReturn(true);
+
+    // when
+    long expired = shardedHoldExpiry.expireAll();
+
+    // then
+    assertThat(expired).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.expiry.chunk.failures").counter().count()).isEqualTo(1);
+    verify(expiryShardLeases, times(1)).complete(0);
+  }
+
+  @Test
+  void shouldExpireShardInDatabaseUntilChunkIsShort() {
+    // given
+    shardedHoldExpiry.shutdown();
+    shardedHoldExpiry = shardedHoldExpiry(true,
+        new ExpiryPacer(false, 200, "", "UTC", 1, 0.5, meterRegistry));
+    when(expiryShardLeases.tryAcquire(anyInt())).thenReturn(Optional.empty());
+    when(expiryShardLeases.tryAcquire(1)).thenReturn(Optional.of(lease(1, null, null)));
+    when(databaseHoldExpiry.expireChunk(any(Instant.class), eq(2), eq(1), eq(2))).thenReturn(
+        List.of(3L, 5L), List.of(7L));
+    when(expiryShardLeases.renew(1)).thenReturn(true);
+
+    // when
+    long expired = shardedHoldExpiry.expireAll();
+
+    // then
+    assertThat(expired).isEqualTo(3);
+    verify(databaseHoldExpiry, times(2)).expireChunk(any(Instant.class), eq(2), eq(1), eq(2));
+    verify(expiryShardLeases, times(2)).renew(1);
+    verify(expiryShardLeases, times(1)).complete(1);
+    verify(holdRepository, times(0)).findExpiredShardChunk(any(), any(), anyLong(), anyLong(),
+        any(), anyLong(), any());
+    assertThat(meterRegistry.get("hold.expiry.holds").tag("result", "expired").counter()
+        .count()).isEqualTo(3);
+    assertThat(meterRegistry.get("hold.expiry.chunk.duration").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPauseShardWhenExpiryRateIsReached() {
+    // given: one hold per second, so the second chunk cannot be had within the sweep
+    shardedHoldExpiry.shutdown();
+    ExpiryPacer expiryPacer = new ExpiryPacer(true, 1, "", "UTC", 1, 0.5, meterRegistry);
+    shardedHoldExpiry = shardedHoldExpiry(false, expiryPacer);
+    ExpiringHold first = expiringHold(2L, 300);
+    when(expiryShardLeases.tryAcquire(anyInt())).thenReturn(Optional.empty());
+    when(expiryShardLeases.tryAcquire(0)).thenReturn(Optional.of(lease(0, null, null)));
+    when(holdRepository.countByStatusAndExpiresAtBefore(eq(HoldStatus.AUTHORIZED),
+        any(Instant.class))).thenReturn(5L, 4L);
+    when(holdRepository.findEarliestExpiresAt(HoldStatus.AUTHORIZED)).thenReturn(
+        Optional.of(first.expiresAt()));
+    when(holdRepository.findExpiredShardChunk(eq(HoldStatus.AUTHORIZED), any(Instant.class),
+        eq(2L), eq(0L), eq(Instant.EPOCH), eq(0L), eq(Limit.of(1)))).thenReturn(List.of(first));
+    when(expiryChunkProcessor.expire(List.of(first))).thenReturn(
+        List.of(first.toHold(HoldStatus.EXPIRED)));
+    when(expiryShardLeases.advance(0, first)).thenReturn(true);
+
+    // when
+    long expired = shardedHoldExpiry.expireAll();
+
+    // then
+    assertThat(expired).isEqualTo(1);
+    verify(expiryShardLeases, times(1)).release(0);
+    verify(expiryShardLeases, times(0)).complete(0);
+    assertThat(expiryPacer.debt()).isEqualTo(4);
+    assertThat(meterRegistry.get("hold.expiry.shards").tag("result", "paused").counter()
+        .count()).isEqualTo(1);
+  }
+
+  private ExpiryShardLease lease(int shard, Instant cursorExpiresAt, Long cursorHoldId) {
+    return ExpiryShardLease.builder().shardId(shard).owner("test")
+        .cursorExpiresAt(cursorExpiresAt).cursorHoldId(cursorHoldId).build();
+  }
+
+  private ExpiringHold expiringHold(Long holdId, long expiredSecondsAgo) {
+    return new ExpiringHold(holdId, holdId + 1000, 1L, 10_000L,
+        Instant.parse("2025-01-01T00:00:00Z").minusSeconds(expiredSecondsAgo));
+  }
+}
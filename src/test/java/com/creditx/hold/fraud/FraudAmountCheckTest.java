@@ -0,0 +1,91 @@
+package com.creditx.hold.fraud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.cache.AccountRiskProfileCache;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.model.AccountRiskProfile;
+import com.creditx.hold.model.RiskTier;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FraudAmountCheckTest {
+
+  @Mock
+  private AccountRiskProfileCache accountRiskProfileCache;
+
+  private FraudAmountCheck fraudAmountCheck;
+
+  @BeforeEach
+  void setup() {
+    fraudAmountCheck = new FraudAmountCheck(accountRiskProfileCache, 50);
+  }
+
+  @Test
+  void shouldApplyAccountLimitFromRiskProfile() {
+    // given
+    var profile = AccountRiskProfile.builder().accountId(1L).riskTier(RiskTier.HIGH)
+        .maxHoldAmount(50_000L).build();
+    when(accountRiskProfileCache.get(1L)).thenReturn(
+        CompletableFuture.completedFuture(Optional.of(profile)));
+
+    // when & then
+    assertThat(fraudAmountCheck.check(request(50_000L)).isApproved()).isTrue();
+    assertThat(fraudAmountCheck.check(request(50_001L)).reason()).isEqualTo(
+        FraudReason.AMOUNT_OVER_LIMIT);
+  }
+
+  @Test
+  void shouldFallBackToDefaultLimitWhenProfileCannotBeLoaded() {
+    // given
+    when(accountRiskProfileCache.get(1L)).thenReturn(
+        CompletableFuture.failedFuture(new IllegalStateException("database unavailable")));
+
+    // when & then
+    assertThat(fraudAmountCheck.check(request(FraudAmountCheck.FRAUD_LIMIT)).isApproved())
+        .isTrue();
+    assertThat(fraudAmountCheck.check(request(FraudAmountCheck.FRAUD_LIMIT + 1)).isApproved())
+        .isFalse();
+  }
+
+  @Test
+  void shouldStopWaitingForSlowProfileLoad() {
+    // given
+    when(accountRiskProfileCache.get(1L)).thenReturn(new CompletableFuture<>());
+
+    // when
+    long start = System.nanoTime();
+    long limit = fraudAmountCheck.limitFor(1L);
+
+    // then
+    assertThat(limit).isEqualTo(FraudAmountCheck.FRAUD_LIMIT);
+    assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+  }
+
+  @Test
+  void shouldReadAppliedLimitWithoutLoading() {
+    // given
+    var profile = AccountRiskProfile.builder().accountId(1L).riskTier(RiskTier.HIGH)
+        .maxHoldAmount(50_000L).build();
+    when(accountRiskProfileCache.getIfPresent(1L)).thenReturn(
+        CompletableFuture.completedFuture(Optional.of(profile)));
+    when(accountRiskProfileCache.getIfPresent(2L)).thenReturn(new CompletableFuture<>());
+
+    // when & then
+    assertThat(fraudAmountCheck.appliedLimitFor(1L)).isEqualTo(50_000L);
+    assertThat(fraudAmountCheck.appliedLimitFor(2L)).isEqualTo(FraudAmountCheck.FRAUD_LIMIT);
+    assertThat(fraudAmountCheck.appliedLimitFor(3L)).isEqualTo(FraudAmountCheck.FRAUD_LIMIT);
+  }
+
+  private static CreateHoldRequest request(long amount) {
+    return CreateHoldRequest.builder().transactionId(1L).issuerAccountId(1L)
+        .merchantAccountId(2L).amount(amount).currency("USD").build();
+  }
+}
@@ -0,0 +1,175 @@
+package com.creditx.hold.fraud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.creditx.hold.cache.AccountRiskProfileCache;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.repository.AccountRiskProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HoldPreCheckRunnerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RejectionLogger rejectionLogger;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    rejectionLogger = new RejectionLogger(1_000, meterRegistry);
+  }
+
+  @Test
+  void shouldRunChecksConcurrently() {
+    // given
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    HoldPreCheckRunner runner = new HoldPreCheckRunner(
+        List.of(rendezvous("first", bothStarted), rendezvous("second", bothStarted)), 1_000,
+        meterRegistry, rejectionLogger);
+
+    // when - each check only passes once the other one is running too
+    FraudDecision decision = runner.runAll(request(10_000L, 1L));
+
+    // then
+    assertThat(decision.isApproved()).isTrue();
+    assertThat(meterRegistry.get("hold.precheck.duration").tag("check", "first")
+        .tag("outcome", "passed").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.precheck.duration").tag("check", "second")
+        .tag("outcome", "passed").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectAndCancelSiblingsOnFirstRejection() {
+    // given
+    CountDownLatch cancelled = new CountDownLatch(1);
+    HoldPreCheck slow = check("slow", request -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        cancelled.countDown();
+        Thread.currentThread().interrupt();
+      }
+      return FraudDecision.approve();
+    });
+    HoldPreCheckRunner runner = new HoldPreCheckRunner(
+        List.of(slow, new BlocklistCheck(Set.of(99L))), 5_000, meterRegistry, rejectionLogger);
+
+    // when
+    long start = System.nanoTime();
+    FraudDecision decision = runner.runAll(request(10_000L, 99L));
+
+    // then
+    assertThat(decision).isSameAs(FraudDecision.reject(FraudReason.ISSUER_BLOCKED));
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    assertThat(awaitQuietly(cancelled)).isTrue();
+    assertThat(meterRegistry.get("hold.fraud.rejections").tag("reason", "ISSUER_BLOCKED")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldFailWhenDeadlineExpires() {
+    // given
+    HoldPreCheck hanging = check("hanging", request -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return FraudDecision.approve();
+    });
+    HoldPreCheckRunner runner = new HoldPreCheckRunner(List.of(hanging), 50, meterRegistry,
+        rejectionLogger);
+
+    // when & then
+    assertThatThrownBy(() -> runner.runAll(request(10_000L, 1L)))
+        .isInstanceOf(PreCheckTimeoutException.class);
+  }
+
+  @Test
+  void shouldCancelChecksWhenClosedEarly() {
+    // given
+    CountDownLatch cancelled = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    HoldPreCheck slow = check("slow", request -> {
+      started.countDown();
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        cancelled.countDown();
+        Thread.currentThread().interrupt();
+      }
+      return FraudDecision.approve();
+    });
+    HoldPreCheckRunner runner = new HoldPreCheckRunner(List.of(slow), 5_000, meterRegistry,
+        rejectionLogger);
+
+    // when - e.g. the idempotency lookup found an existing hold
+    try (var pending = runner.start(request(10_000L, 1L))) {
+      awaitQuietly(started);
+    }
+
+    // then
+    assertThat(awaitQuietly(cancelled)).isTrue();
+  }
+
+  @Test
+  void shouldRejectAmountOverFraudLimit() {
+    // given
+    HoldPreCheckRunner runner = new HoldPreCheckRunner(List.of(new FraudAmountCheck(
+        new AccountRiskProfileCache(mock(AccountRiskProfileRepository.class), 100, 60_000, 30_000,
+            60_000, meterRegistry), 1_000)), 1_000, meterRegistry, rejectionLogger);
+
+    // when
+    FraudDecision decision = runner.runAll(request(1_500_000L, 1L));
+
+    // then
+    assertThat(decision.reason()).isEqualTo(FraudReason.AMOUNT_OVER_LIMIT);
+    assertThat(meterRegistry.get("hold.precheck.duration").tag("check", "fraud-amount")
+        .tag("outcome", "rejected").timer().count()).isEqualTo(1);
+  }
+
+  private static HoldPreCheck rendezvous(String name, CountDownLatch latch) {
+    return check(name, request -> {
+      latch.countDown();
+      return awaitQuietly(latch) ? FraudDecision.approve()
+          : FraudDecision.reject(FraudReason.AMOUNT_OVER_LIMIT);
+    });
+  }
+
+  private static HoldPreCheck check(String name,
+      Function<CreateHoldRequest, FraudDecision> body) {
+    return new HoldPreCheck() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public FraudDecision check(CreateHoldRequest request) {
+        return body.apply(request);
+      }
+    };
+  }
+
+  private static boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static CreateHoldRequest request(long amount, long issuerAccountId) {
+    return CreateHoldRequest.builder().transactionId(1L).issuerAccountId(issuerAccountId)
+        .merchantAccountId(2L).amount(amount).currency("USD").build();
+  }
+}
@@ -0,0 +1,61 @@
+package com.creditx.hold.fraud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.fraud.sketch.ConcentrationSketches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MerchantConcentrationCheckTest {
+
+  private MerchantConcentrationCheck check;
+  private long transactionId;
+
+  @BeforeEach
+  void setup() {
+    var sketches = new ConcentrationSketches(600_000, 6, 10, 1_000, 4, 4096,
+        new SimpleMeterRegistry());
+    check = new MerchantConcentrationCheck(sketches, 50, 3, 5, 600_000, 1_000);
+  }
+
+  @Test
+  void shouldRejectRepeatedAttemptsForOnePair() {
+    for (int i = 0; i < 5; i++) {
+      assertThat(check.check(request(1L, 7L)).isApproved()).isTrue();
+    }
+    assertThat(check.check(request(1L, 7L)).reason()).isEqualTo(FraudReason.REPEATED_ATTEMPTS);
+  }
+
+  @Test
+  void shouldRejectIssuerHittingManyMerchants() {
+    for (long merchant = 1; merchant <= 3; merchant++) {
+      assertThat(check.check(request(1L, merchant)).isApproved()).isTrue();
+    }
+    assertThat(check.check(request(1L, 4L)).reason()).isEqualTo(
+        FraudReason.ISSUER_MERCHANT_FANOUT);
+  }
+
+  @Test
+  void shouldRejectMerchantSeeingManyIssuers() {
+    FraudDecision last = FraudDecision.approve();
+    for (long issuer = 1; issuer <= 80 && last.isApproved(); issuer++) {
+      last = check.check(request(issuer, 7L));
+    }
+    assertThat(last.reason()).isEqualTo(FraudReason.MERCHANT_ISSUER_FANIN);
+  }
+
+  @Test
+  void shouldNotCountRetriesOfOneTransaction() {
+    CreateHoldRequest request = request(1L, 7L);
+    for (int i = 0; i < 10; i++) {
+      assertThat(check.check(request).isApproved()).isTrue();
+    }
+  }
+
+  private CreateHoldRequest request(long issuer, long merchant) {
+    return CreateHoldRequest.builder().transactionId(++transactionId).issuerAccountId(issuer)
+        .merchantAccountId(merchant).amount(10_000L).currency("USD").build();
+  }
+}
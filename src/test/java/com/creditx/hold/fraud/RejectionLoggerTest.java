@@ -0,0 +1,29 @@
+package com.creditx.hold.fraud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class RejectionLoggerTest {
+
+  @Test
+  void shouldCountEveryRejection() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RejectionLogger rejectionLogger = new RejectionLogger(60_000, meterRegistry);
+
+    // when - only the first of these is logged within the interval
+    for (long transactionId = 0; transactionId < 1_000; transactionId++) {
+      rejectionLogger.rejected(transactionId, FraudReason.AMOUNT_OVER_LIMIT);
+    }
+    rejectionLogger.rejected(1_000L, FraudReason.MERCHANT_BLOCKED);
+
+    // then
+    assertThat(meterRegistry.get("hold.fraud.rejections").tag("reason", "AMOUNT_OVER_LIMIT")
+        .counter().count()).isEqualTo(1_000);
+    assertThat(meterRegistry.get("hold.fraud.rejections").tag("reason", "MERCHANT_BLOCKED")
+        .counter().count()).isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.creditx.hold.fraud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.fraud.sketch.ConcentrationSketches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RiskScorerTest {
+
+  private ConcentrationSketches sketches;
+  private RiskScorer riskScorer;
+
+  @BeforeEach
+  void setup() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    sketches = new ConcentrationSketches(600_000, 6, 10, 1_000, 4, 4096, meterRegistry);
+    FraudAmountCheck fraudAmountCheck = mock(FraudAmountCheck.class);
+    when(fraudAmountCheck.appliedLimitFor(anyLong())).thenReturn(100_000L);
+    riskScorer = new RiskScorer(true, sketches, fraudAmountCheck,
+        new RejectionLogger(1_000, meterRegistry), new double[]{1.0, 1.0, 1.0, 0.0}, 1.5, 10, 4,
+        500, meterRegistry);
+  }
+
+  @Test
+  void shouldRejectWhenSignalsAddUpOverThreshold() {
+    // given - issuer 1 has used 3 of its 4 merchants; issuer 2 is new
+    long now = System.currentTimeMillis();
+    for (long merchant = 1; merchant <= 3; merchant++) {
+      sketches.record(1L, merchant, now);
+    }
+    sketches.record(2L, 9L, now);
+
+    // when - both requests are for 80% of the account limit
+    FraudDecision[] decisions = riskScorer.score(
+        List.of(request(1L, 3L, 80_000L), request(2L, 9L, 80_000L)));
+
+    // then - 0.8 + 0.1 + 0.75 = 1.65 rejects, 0.8 + 0.1 + 0.25 = 1.15 approves
+    assertThat(decisions[0].reason()).isEqualTo(FraudReason.HIGH_RISK_SCORE);
+    assertThat(decisions[1].isApproved()).isTrue();
+  }
+
+  @Test
+  void shouldReuseBuffersAcrossBatchSizes() {
+    // given
+    List<CreateHoldRequest> large = new ArrayList<>();
+    for (long issuer = 1; issuer <= 100; issuer++) {
+      large.add(request(issuer, 9L, 80_000L));
+    }
+
+    // when
+    FraudDecision[] first = riskScorer.score(List.of(request(1L, 9L, 200_000L)));
+    FraudDecision[] second = riskScorer.score(large);
+    FraudDecision[] third = riskScorer.score(List.of(request(2L, 9L, 10_000L)));
+
+    // then
+    assertThat(first[0].reason()).isEqualTo(FraudReason.HIGH_RISK_SCORE);
+    assertThat(second).hasSize(100).allMatch(FraudDecision::isApproved);
+    assertThat(third).hasSize(1).allMatch(FraudDecision::isApproved);
+  }
+
+  @Test
+  void shouldApproveEverythingWhenDisabled() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RiskScorer disabled = new RiskScorer(false, sketches, mock(FraudAmountCheck.class),
+        new RejectionLogger(1_000, meterRegistry), new double[]{1.0, 1.0, 1.0, 0.0}, 1.5, 10, 4,
+        500, meterRegistry);
+
+    // when
+    FraudDecision[] decisions = disabled.score(List.of(request(1L, 9L, 1_000_000L)));
+
+    // then
+    assertThat(decisions[0].isApproved()).isTrue();
+  }
+
+  @Test
+  void shouldHandleEmptyBatch() {
+    assertThat(riskScorer.score(List.of())).isEmpty();
+  }
+
+  private static CreateHoldRequest request(long issuer, long merchant, long amount) {
+    return CreateHoldRequest.builder().transactionId(issuer).issuerAccountId(issuer)
+        .merchantAccountId(merchant).amount(amount).currency("USD").build();
+  }
+}
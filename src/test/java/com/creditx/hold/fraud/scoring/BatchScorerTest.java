@@ -0,0 +1,70 @@
+package com.creditx.hold.fraud.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BatchScorerTest {
+
+  private static final LinearRuleSet RULES = new LinearRuleSet(
+      new double[]{1.0, 0.5, 2.0, 0.25}, -0.1, 2.0);
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 7, 16, 33, 1024})
+  void vectorScorerShouldMatchScalarScorer(int size) {
+    // given
+    FeatureBatch batch = randomBatch(size);
+    BatchScorer vector = BatchScorers.best();
+    BatchScorer scalar = new ScalarBatchScorer();
+
+    // when
+    double[] vectorScores = new double[size];
+    boolean[] vectorRejected = new boolean[size];
+    int vectorCount = vector.score(batch, RULES, vectorScores, vectorRejected);
+    double[] scalarScores = new double[size];
+    boolean[] scalarRejected = new boolean[size];
+    int scalarCount = scalar.score(batch, RULES, scalarScores, scalarRejected);
+
+    // then - the test JVM enables the incubator module, so this is the SIMD path
+    assertThat(vector.name()).startsWith("vector-");
+    assertThat(vectorScores).containsExactly(scalarScores);
+    assertThat(vectorRejected).containsExactly(scalarRejected);
+    assertThat(vectorCount).isEqualTo(scalarCount);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 20})
+  void scalarScorerShouldApplyLinearRule(int size) {
+    // given
+    FeatureBatch batch = new FeatureBatch(4, size);
+    for (int i = 0; i < size; i++) {
+      batch.set(0, i, i % 2 == 0 ? 0.5 : 1.5);
+      batch.set(2, i, 0.5);
+    }
+
+    // when
+    double[] scores = new double[size];
+    boolean[] rejected = new boolean[size];
+    int count = new ScalarBatchScorer().score(batch, RULES, scores, rejected);
+
+    // then - 0.5 + 1.0 - 0.1 = 1.4 approves, 1.5 + 1.0 - 0.1 = 2.4 rejects
+    assertThat(scores[0]).isEqualTo(1.4, offset(1e-9));
+    assertThat(rejected[0]).isFalse();
+    assertThat(rejected[1]).isTrue();
+    assertThat(count).isEqualTo(size / 2);
+  }
+
+  private static FeatureBatch randomBatch(int size) {
+    Random random = new Random(size);
+    FeatureBatch batch = new FeatureBatch(4, size);
+    for (int f = 0; f < 4; f++) {
+      for (int i = 0; i < size; i++) {
+        batch.set(f, i, random.nextDouble() * 1.5);
+      }
+    }
+    return batch;
+  }
+}
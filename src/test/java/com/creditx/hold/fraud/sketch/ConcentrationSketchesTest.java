@@ -0,0 +1,67 @@
+package com.creditx.hold.fraud.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcentrationSketchesTest {
+
+  private static final long WINDOW_MS = 60_000;
+
+  private ConcentrationSketches sketches;
+
+  @BeforeEach
+  void setup() {
+    sketches = new ConcentrationSketches(WINDOW_MS, 6, 10, 1_000, 4, 1024,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldCountDistinctIssuersPerMerchant() {
+    // when
+    for (long issuer = 1; issuer <= 200; issuer++) {
+      sketches.record(issuer, 7L, 1_000);
+      sketches.record(issuer, 7L, 2_000);
+    }
+    sketches.record(1L, 8L, 3_000);
+
+    // then
+    assertThat(sketches.distinctIssuersForMerchant(7L, 3_000)).isBetween(190L, 210L);
+    assertThat(sketches.distinctIssuersForMerchant(8L, 3_000)).isEqualTo(1);
+    assertThat(sketches.distinctMerchantsForIssuer(1L, 3_000)).isEqualTo(2);
+    assertThat(sketches.distinctMerchantsForIssuer(2L, 3_000)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountPairAttempts() {
+    // when
+    for (int i = 0; i < 12; i++) {
+      sketches.record(1L, 7L, 1_000 + i);
+    }
+    sketches.record(2L, 7L, 1_000);
+
+    // then - count-min never undercounts
+    assertThat(sketches.pairAttempts(1L, 7L, 2_000)).isGreaterThanOrEqualTo(12);
+    assertThat(sketches.pairAttempts(2L, 7L, 2_000)).isGreaterThanOrEqualTo(1).isLessThan(12);
+    assertThat(sketches.pairAttempts(3L, 7L, 2_000)).isLessThan(12);
+  }
+
+  @Test
+  void shouldForgetActivityOutsideWindow() {
+    // given
+    for (int i = 0; i < 12; i++) {
+      sketches.record(1L, 7L, 1_000);
+    }
+    sketches.record(2L, 7L, 1_000);
+
+    // when
+    long later = 1_000 + WINDOW_MS + WINDOW_MS / 6;
+    sketches.record(3L, 7L, later);
+
+    // then
+    assertThat(sketches.pairAttempts(1L, 7L, later)).isZero();
+    assertThat(sketches.distinctIssuersForMerchant(7L, later)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,57 @@
+package com.creditx.hold.fraud.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+  @Test
+  void shouldEstimateDistinctCountWithinStandardError() {
+    // given
+    HyperLogLog sketch = new HyperLogLog(12);
+
+    // when - every item added twice
+    for (long i = 0; i < 100_000; i++) {
+      sketch.add(Hashing.mix64(i));
+      sketch.add(Hashing.mix64(i));
+    }
+
+    // then - 1.6% standard error at precision 12; allow three of them
+    assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+  }
+
+  @Test
+  void shouldBeExactEnoughForSmallCounts() {
+    // given
+    HyperLogLog sketch = new HyperLogLog(8);
+
+    // when
+    for (long i = 0; i < 10; i++) {
+      sketch.add(Hashing.mix64(i));
+    }
+
+    // then
+    assertThat(sketch.estimate()).isBetween(9L, 11L);
+  }
+
+  @Test
+  void shouldMergeIntoUnion() {
+    // given
+    HyperLogLog first = new HyperLogLog(10);
+    HyperLogLog second = new HyperLogLog(10);
+    for (long i = 0; i < 1_000; i++) {
+      first.add(Hashing.mix64(i));
+      second.add(Hashing.mix64(i + 500));
+    }
+
+    // when
+    byte[] union = new byte[first.registerCount()];
+    first.mergeInto(union);
+    second.mergeInto(union);
+
+    // then
+    assertThat((double) HyperLogLog.estimate(union)).isCloseTo(1_500, within(150.0));
+  }
+}
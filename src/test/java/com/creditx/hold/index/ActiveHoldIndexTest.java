@@ -0,0 +1,125 @@
+package com.creditx.hold.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActiveHoldIndexTest {
+
+  private ActiveHoldIndex index;
+
+  @BeforeEach
+  void setup() {
+    index = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldRecordHoldInMinorUnits() {
+    // when
+    index.record(createHold(1L, 12_345L, HoldStatus.AUTHORIZED, Instant.ofEpochMilli(5_000)));
+
+    // then
+    assertThat(index.get(1L)).contains(
+        new IndexedHold(1L, 10L, 100L, 12_345L, 5_000L, HoldStatus.AUTHORIZED));
+    assertThat(index.get(2L)).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveSettledAndExpiredHolds() {
+    // given
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    index.record(createHold(1L, 1_000L, HoldStatus.AUTHORIZED, expiresAt));
+    index.record(createHold(2L, 1_000L, HoldStatus.AUTHORIZED, expiresAt));
+    index.record(createHold(3L, 1_000L, HoldStatus.AUTHORIZED, expiresAt));
+
+    // when
+    index.record(createHold(1L, 1_000L, HoldStatus.CAPTURED, expiresAt));
+    index.record(createHold(2L, 1_000L, HoldStatus.EXPIRED, expiresAt));
+
+    // then
+    assertThat(index.get(1L)).isEmpty();
+    assertThat(index.get(2L)).isEmpty();
+    assertThat(index.get(3L)).isPresent();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotOverwriteRecordedHoldWhenLoading() {
+    // given
+    index.record(createHold(1L, 1_000L, HoldStatus.AUTHORIZED, Instant.ofEpochMilli(5_000)));
+
+    // when
+    index.putIfAbsent(new IndexedHold(1L, 10L, 100L, 900L, 0L, HoldStatus.AUTHORIZED));
+
+    // then
+    assertThat(index.get(1L)).map(IndexedHold::amountMinor).contains(1_000L);
+  }
+
+  @Test
+  void shouldDropSettledEntriesWhenGrowing() {
+    // given
+    Instant future = Instant.now().plusSeconds(60);
+    Instant past = Instant.now().minusSeconds(60);
+    for (long id = 1; id <= 10; id++) {
+      index.put(new IndexedHold(id, id, 1L, 100L, future.toEpochMilli(), HoldStatus.VOIDED));
+    }
+
+    // when
+    for (long id = 11; id <= 40; id++) {
+      index.put(new IndexedHold(id, id, 1L, 100L, past.toEpochMilli(), HoldStatus.AUTHORIZED));
+    }
+
+    // then
+    assertThat(index.get(1L)).isEmpty();
+    assertThat(index.get(11L)).isPresent();
+    assertThat(index.get(40L)).isPresent();
+    assertThat(index.size()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRejectCapacityBeyondDirectBufferLimit() {
+    assertThatThrownBy(() -> new ActiveHoldIndex(ActiveHoldIndex.MAX_CAPACITY + 1,
+        new SimpleMeterRegistry())).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldMatchReferenceMapUnderRandomOperations() {
+    // given
+    Random random = new Random(42);
+    Map<Long, IndexedHold> reference = new HashMap<>();
+    long future = Instant.now().plusSeconds(3600).toEpochMilli();
+
+    // when
+    for (int i = 0; i < 20_000; i++) {
+      long holdId = 1 + random.nextInt(2_000);
+      if (random.nextInt(3) == 0) {
+        assertThat(index.remove(holdId)).isEqualTo(reference.remove(holdId) != null);
+      } else {
+        var entry = new IndexedHold(holdId, holdId, holdId % 7, i, future, HoldStatus.AUTHORIZED);
+        index.put(entry);
+        reference.put(holdId, entry);
+      }
+    }
+
+    // then
+    assertThat(index.size()).isEqualTo(reference.size());
+    for (long holdId = 1; holdId <= 2_000; holdId++) {
+      assertThat(index.get(holdId)).isEqualTo(Optional.ofNullable(reference.get(holdId)));
+    }
+  }
+
+  private Hold createHold(Long holdId, long amount, HoldStatus status, Instant expiresAt) {
+    return Hold.builder().holdId(holdId).transactionId(holdId * 10).accountId(holdId * 100)
+        .amount(amount).status(status).expiresAt(expiresAt).build();
+  }
+}
@@ -0,0 +1,92 @@
+package com.creditx.hold.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditx.hold.model.HoldStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ActiveHoldSnapshotTest {
+
+  private static final Instant WATERMARK = Instant.parse("2025-01-01T00:00:00.123456789Z");
+
+  @TempDir
+  private Path dir;
+
+  private SimpleMeterRegistry meterRegistry;
+  private Path file;
+  private ActiveHoldSnapshot snapshot;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    file = dir.resolve("active-holds.snapshot");
+    snapshot = new ActiveHoldSnapshot(true, file.toString(), 60_000, meterRegistry);
+  }
+
+  @Test
+  void shouldRestoreAuthorizedHoldsAndWatermark() throws Exception {
+    // given
+    ActiveHoldIndex index = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+    index.put(new IndexedHold(1L, 10L, 100L, 1_000L, 5_000L, HoldStatus.AUTHORIZED));
+    index.put(new IndexedHold(2L, 20L, 200L, 2_000L, 6_000L, HoldStatus.AUTHORIZED));
+    index.put(new IndexedHold(3L, 30L, 300L, 3_000L, 7_000L, HoldStatus.CAPTURED));
+
+    // when
+    int written = snapshot.write(index, WATERMARK);
+    ActiveHoldIndex restored = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+
+    // then
+    assertThat(written).isEqualTo(2);
+    assertThat(snapshot.restore(restored)).contains(WATERMARK);
+    assertThat(restored.size()).isEqualTo(2);
+    assertThat(restored.get(2L)).contains(
+        new IndexedHold(2L, 20L, 200L, 2_000L, 6_000L, HoldStatus.AUTHORIZED));
+    assertThat(restored.get(3L)).isEmpty();
+    assertThat(meterRegistry.get("hold.index.snapshot.restores").tag("result", "restored")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldIgnoreCorruptSnapshot() throws Exception {
+    // given
+    ActiveHoldIndex index = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+    index.put(new IndexedHold(1L, 10L, 100L, 1_000L, 5_000L, HoldStatus.AUTHORIZED));
+    snapshot.write(index, WATERMARK);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {42}), ActiveHoldSnapshot.HEADER_BYTES + 9);
+    }
+    ActiveHoldIndex restored = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+
+    // when & then
+    assertThat(snapshot.restore(restored)).isEmpty();
+    assertThat(restored.size()).isZero();
+    assertThat(meterRegistry.get("hold.index.snapshot.restores").tag("result", "invalid")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldIgnoreStaleOrMissingSnapshot() throws Exception {
+    // given
+    ActiveHoldIndex index = new ActiveHoldIndex(16, new SimpleMeterRegistry());
+    index.put(new IndexedHold(1L, 10L, 100L, 1_000L, 5_000L, HoldStatus.AUTHORIZED));
+    ActiveHoldSnapshot noMaxAge = new ActiveHoldSnapshot(true, file.toString(), -1,
+        meterRegistry);
+
+    // when & then
+    assertThat(noMaxAge.restore(index)).isEmpty();
+    noMaxAge.write(index, WATERMARK);
+    assertThat(noMaxAge.restore(new ActiveHoldIndex(16, new SimpleMeterRegistry()))).isEmpty();
+    assertThat(meterRegistry.get("hold.index.snapshot.restores").tag("result", "missing")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("hold.index.snapshot.restores").tag("result", "stale")
+        .counter().count()).isEqualTo(1);
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
 import com.creditx.hold.constants.EventTypes;
 import com.creditx.hold.dto.TransactionAuthorizedEvent;
 import com.creditx.hold.dto.TransactionFailedEvent;
@@ -16,6 +17,7 @@ import com.creditx.hold.service.TransactionEventService;
 import com.creditx.hold.tracing.TransactionSpanTagger;
 import com.creditx.hold.util.EventValidationUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +50,8 @@ class TransactionEventListenerTest {
   @BeforeEach
   void setUp() {
     transactionEventListener = new TransactionEventListener(transactionEventService,
-        transactionSpanTagger, objectMapper);
+        transactionSpanTagger, objectMapper,
+        new DatabaseConcurrencyLimiter(10, 1000, new SimpleMeterRegistry()));
     transactionAuthorizedConsumer = transactionEventListener.transactionAuthorized();
     transactionPostedConsumer = transactionEventListener.transactionPosted();
     transactionFailedConsumer = transactionEventListener.transactionFailed();
@@ -1,15 +1,20 @@
 package com.creditx.hold.scheduler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.creditx.hold.concurrency.ClusterLockProvider;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
 import com.creditx.hold.messaging.OutboxStreamPublisher;
 import com.creditx.hold.model.OutboxEvent;
 import com.creditx.hold.service.OutboxEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -30,6 +36,15 @@ class OutboxEventPublishingSchedulerTest {
   @Mock
   private OutboxStreamPublisher outboxStreamPublisher;
 
+  @Mock
+  private ClusterLockProvider clusterLockProvider;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Spy
+  private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(10,
+      1000, meterRegistry);
+
   @InjectMocks
   private OutboxEventPublishingScheduler outboxEventPublishingScheduler;
 
@@ -72,6 +87,26 @@ class OutboxEventPublishingSchedulerTest {
     verify(outboxEventService, never()).markAsFailed(any());
   }
 
+  @Test
+  void shouldNotHoldDatabasePermitWhilePublishing() {
+    // given
+    OutboxEvent event = createOutboxEvent(123L, "{\"holdId\":123}");
+    double[] availableWhilePublishing = new double[1];
+    when(outboxEventService.fetchPendingEvents(10)).thenReturn(List.of(event));
+    doAnswer(invocation -> {
+      availableWhilePublishing[0] = meterRegistry.get("db.concurrency.available").gauge()
+          .value();
+      return null;
+    }).when(outboxStreamPublisher).publish("123", "{\"holdId\":123}", "hold.created");
+
+    // when
+    outboxEventPublishingScheduler.publishPendingEvents();
+
+    // then
+    assertThat(availableWhilePublishing[0]).isEqualTo(10);
+    verify(outboxEventService, times(1)).markAsPublished(event);
+  }
+
   @Test
   void shouldMarkAsFailedWhenPublishingFails() {
     // given
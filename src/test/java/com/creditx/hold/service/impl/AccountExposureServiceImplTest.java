@@ -0,0 +1,116 @@
+package com.creditx.hold.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.dto.AccountExposureResponse;
+import com.creditx.hold.model.AccountExposure;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.AccountExposureRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountExposureServiceImplTest {
+
+  @Mock
+  private AccountExposureRepository accountExposureRepository;
+
+  @InjectMocks
+  private AccountExposureServiceImpl accountExposureService;
+
+  @Test
+  void shouldAggregateNewHoldsPerAccount() {
+    // when
+    accountExposureService.holdsAuthorized(
+        List.of(createHold(2L, 1_000L, HoldStatus.AUTHORIZED),
+            createHold(1L, 550L, HoldStatus.AUTHORIZED),
+            createHold(2L, 225L, HoldStatus.AUTHORIZED)));
+
+    // then
+    InOrder inOrder = inOrder(accountExposureRepository);
+    inOrder.verify(accountExposureRepository).applyDelta(1L, 550L, 1);
+    inOrder.verify(accountExposureRepository).applyDelta(2L, 1_225L, 2);
+  }
+
+  @Test
+  void shouldAggregateReleasedHoldsPerAccount() {
+    // when
+    accountExposureService.holdsReleased(
+        List.of(createHold(2L, 1_000L, HoldStatus.EXPIRED),
+            createHold(1L, 550L, HoldStatus.EXPIRED),
+            createHold(2L, 225L, HoldStatus.EXPIRED)));
+
+    // then
+    InOrder inOrder = inOrder(accountExposureRepository);
+    inOrder.verify(accountExposureRepository).applyDelta(1L, -550L, -1);
+    inOrder.verify(accountExposureRepository).applyDelta(2L, -1_225L, -2);
+  }
+
+  @Test
+  void shouldReleaseExposureWhenHoldLeavesAuthorized() {
+    // when
+    accountExposureService.holdTransitioned(createHold(1L, 1_000L, HoldStatus.CAPTURED),
+        HoldStatus.AUTHORIZED);
+
+    // then
+    verify(accountExposureRepository, times(1)).applyDelta(1L, -1_000L, -1);
+  }
+
+  @Test
+  void shouldIgnoreTransitionsBetweenFinalStates() {
+    // when
+    accountExposureService.holdTransitioned(createHold(1L, 1_000L, HoldStatus.VOIDED),
+        HoldStatus.CAPTURED);
+
+    // then
+    verify(accountExposureRepository, never()).applyDelta(anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  void shouldReturnZeroExposureForUnknownAccount() {
+    // given
+    when(accountExposureRepository.findById(7L)).thenReturn(Optional.empty());
+
+    // when
+    AccountExposureResponse response = accountExposureService.getExposure(7L);
+
+    // then
+    assertThat(response.getHeldAmount()).isZero();
+    assertThat(response.getActiveHoldCount()).isZero();
+  }
+
+  @Test
+  void shouldReturnStoredExposure() {
+    // given
+    when(accountExposureRepository.findById(7L)).thenReturn(Optional.of(
+        AccountExposure.builder().accountId(7L).heldAmount(15_000L)
+            .activeHoldCount(3L).build()));
+
+    // when
+    AccountExposureResponse response = accountExposureService.getExposure(7L);
+
+    // then
+    assertThat(response.getAccountId()).isEqualTo(7L);
+    assertThat(response.getHeldAmount()).isEqualTo(15_000L);
+    assertThat(response.getActiveHoldCount()).isEqualTo(3L);
+  }
+
+  private Hold createHold(Long accountId, long amount, HoldStatus status) {
+    return Hold.builder().accountId(accountId).amount(amount).status(status)
+        .build();
+  }
+}
@@ -0,0 +1,154 @@
+package com.creditx.hold.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.concurrency.DatabaseBusyException;
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.fraud.HoldPreCheckRunner;
+import com.creditx.hold.fraud.RejectionLogger;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.service.CreateHoldOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitHoldServiceTest {
+
+  @Mock
+  private HoldServiceImpl delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private GroupCommitHoldService groupCommitHoldService;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    HoldPreCheckRunner preCheckRunner = new HoldPreCheckRunner(List.of(), 200, meterRegistry,
+        new RejectionLogger(1000, meterRegistry));
+    groupCommitHoldService = new GroupCommitHoldService(delegate, preCheckRunner, meterRegistry,
+        128);
+    ReflectionTestUtils.setField(groupCommitHoldService, "windowMs", 50L);
+    ReflectionTestUtils.setField(groupCommitHoldService, "maxBatchSize", 8);
+    ReflectionTestUtils.setField(groupCommitHoldService, "awaitTimeoutMs", 1000L);
+    groupCommitHoldService.start();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    groupCommitHoldService.stop();
+  }
+
+  @Test
+  void shouldGiveEachCallerItsOwnOutcome() throws Exception {
+    // given
+    when(delegate.createHolds(anyList(), any())).thenAnswer(invocation -> {
+      List<CreateHoldRequest> requests = invocation.getArgument(0);
+      List<CreateHoldOutcome> outcomes = new ArrayList<>();
+      for (CreateHoldRequest request : requests) {
+        outcomes.add(request.getTransactionId() == 3L
+            ? CreateHoldOutcome.failure(new IllegalArgumentException("rejected"))
+            : CreateHoldOutcome.success(response(request.getTransactionId() * 10)));
+      }
+      return outcomes;
+    });
+
+    // when
+    ExecutorService callers = Executors.newFixedThreadPool(3);
+    try {
+      var first = CompletableFuture.supplyAsync(
+          () -> groupCommitHoldService.createHold(request(1L)), callers);
+      var second = CompletableFuture.supplyAsync(
+          () -> groupCommitHoldService.createHold(request(2L)), callers);
+      var rejected = CompletableFuture.supplyAsync(
+          () -> groupCommitHoldService.createHold(request(3L)), callers);
+
+      // then
+      assertThat(first.get().getHoldId()).isEqualTo(10L);
+      assertThat(second.get().getHoldId()).isEqualTo(20L);
+      assertThatThrownBy(rejected::join).hasCauseInstanceOf(IllegalArgumentException.class)
+          .hasRootCauseMessage("rejected");
+    } finally {
+      callers.shutdown();
+    }
+    assertThat(meterRegistry.summary("hold.group.commit.size").totalAmount()).isEqualTo(3.0);
+    assertThat(meterRegistry.timer("hold.group.commit.queue.wait").count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldFallBackToIndividualCommitsWhenGroupFails() {
+    // given
+    when(delegate.createHolds(anyList(), any())).thenThrow(new IllegalStateException("batch failed"));
+    when(delegate.createHold(any())).thenReturn(response(10L));
+
+    // when
+    CreateHoldResponse response = groupCommitHoldService.createHold(request(1L));
+
+    // then
+    assertThat(response.getHoldId()).isEqualTo(10L);
+    verify(delegate, times(1)).createHold(any());
+    assertThat(meterRegistry.counter("hold.group.commit.fallbacks").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldStopWaitingWhenGroupDoesNotCommitInTime() {
+    // given
+    when(delegate.createHolds(anyList(), any())).thenAnswer(invocation -> {
+      Thread.sleep(2000);
+      return List.of(CreateHoldOutcome.success(response(10L)));
+    });
+
+    // when / then
+    assertThatThrownBy(() -> groupCommitHoldService.createHold(request(1L)))
+        .isInstanceOf(DatabaseBusyException.class);
+  }
+
+  @Test
+  void shouldCreateDirectlyOnceStopped() throws Exception {
+    // given
+    groupCommitHoldService.stop();
+    when(delegate.createHold(any())).thenReturn(response(10L));
+
+    // when
+    CreateHoldResponse response = groupCommitHoldService.createHold(request(1L));
+
+    // then
+    assertThat(response.getHoldId()).isEqualTo(10L);
+    verify(delegate, times(0)).createHolds(anyList(), any());
+  }
+
+  @Test
+  void shouldDelegateExpiry() {
+    // when
+    groupCommitHoldService.expireHolds();
+
+    // then
+    verify(delegate, times(1)).expireHolds();
+  }
+
+  private CreateHoldRequest request(Long transactionId) {
+    return CreateHoldRequest.builder().transactionId(transactionId).issuerAccountId(1L)
+        .merchantAccountId(2L).amount(10_000L).currency("USD").build();
+  }
+
+  private CreateHoldResponse response(Long holdId) {
+    return CreateHoldResponse.builder().holdId(holdId).status(HoldStatus.AUTHORIZED).build();
+  }
+}
@@ -0,0 +1,104 @@
+package com.creditx.hold.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
+import com.creditx.hold.dto.HoldResponse;
+import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldHistory;
+import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.HoldHistoryRepository;
+import com.creditx.hold.repository.HoldRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HoldQueryServiceImplTest {
+
+  @Mock
+  private HoldRepository holdRepository;
+
+  @Mock
+  private HoldHistoryRepository holdHistoryRepository;
+
+  @Mock
+  private HoldCache holdCache;
+
+  @Spy
+  private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(10,
+      1000, new SimpleMeterRegistry());
+
+  @InjectMocks
+  private HoldQueryServiceImpl holdQueryService;
+
+  @Test
+  void shouldServeCachedHoldWithoutDatabase() {
+    // given
+    HoldResponse cached = HoldResponse.builder().holdId(1L).status(HoldStatus.AUTHORIZED).build();
+    when(holdCache.getByHoldId(1L)).thenReturn(Optional.of(cached));
+
+    // when
+    Optional<HoldResponse> result = holdQueryService.findHold(1L);
+
+    // then
+    assertThat(result).contains(cached);
+    verify(holdRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldLoadAndCacheHoldOnMiss() {
+    // given
+    Hold hold = Hold.builder().holdId(1L).transactionId(10L).accountId(100L)
+        .amount(2_500L).status(HoldStatus.CAPTURED).build();
+    when(holdCache.getByTransactionId(10L)).thenReturn(Optional.empty());
+    when(holdRepository.findByTransactionId(10L)).thenReturn(Optional.of(hold));
+
+    // when
+    Optional<HoldResponse> result = holdQueryService.findHoldByTransactionId(10L);
+
+    // then
+    assertThat(result).map(HoldResponse::getStatus).contains(HoldStatus.CAPTURED);
+    verify(holdCache, times(1)).putIfAbsent(hold);
+  }
+
+  @Test
+  void shouldFallBackToHistoryForArchivedHold() {
+    // given
+    HoldHistory archived = HoldHistory.builder().holdId(1L).transactionId(10L).accountId(100L)
+        .amount(2_500L).status(HoldStatus.EXPIRED).build();
+    when(holdCache.getByTransactionId(10L)).thenReturn(Optional.empty());
+    when(holdRepository.findByTransactionId(10L)).thenReturn(Optional.empty());
+    when(holdHistoryRepository.findByTransactionId(10L)).thenReturn(Optional.of(archived));
+
+    // when
+    Optional<HoldResponse> result = holdQueryService.findHoldByTransactionId(10L);
+
+    // then
+    assertThat(result).map(HoldResponse::getStatus).contains(HoldStatus.EXPIRED);
+    verify(holdCache, times(1)).putIfAbsent(any());
+  }
+
+  @Test
+  void shouldReturnEmptyForUnknownHold() {
+    // given
+    when(holdCache.getByHoldId(1L)).thenReturn(Optional.empty());
+    when(holdRepository.findById(1L)).thenReturn(Optional.empty());
+    when(holdHistoryRepository.findById(1L)).thenReturn(Optional.empty());
+
+    // when & then
+    assertThat(holdQueryService.findHold(1L)).isEmpty();
+    verify(holdCache, never()).putIfAbsent(any());
+  }
+}
@@ -1,24 +1,40 @@
 package com.creditx.hold.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.creditx.hold.cache.AccountRiskProfileCache;
+import com.creditx.hold.cache.HoldCache;
+import com.creditx.hold.concurrency.DatabaseConcurrencyLimiter;
 import com.creditx.hold.dto.CreateHoldRequest;
 import com.creditx.hold.dto.CreateHoldResponse;
+import com.creditx.hold.expiry.ShardedHoldExpiry;
+import com.creditx.hold.fraud.FraudAmountCheck;
+import com.creditx.hold.fraud.FraudReason;
+import com.creditx.hold.fraud.HoldPreCheckRunner;
+import com.creditx.hold.fraud.RejectionLogger;
+import com.creditx.hold.fraud.RiskScorer;
+import com.creditx.hold.fraud.sketch.ConcentrationSketches;
+import com.creditx.hold.index.ActiveHoldIndex;
 import com.creditx.hold.model.Hold;
+import com.creditx.hold.model.HoldHistory;
 import com.creditx.hold.model.HoldStatus;
+import com.creditx.hold.repository.AccountRiskProfileRepository;
+import com.creditx.hold.repository.HoldHistoryRepository;
 import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
+import com.creditx.hold.service.CreateHoldOutcome;
 import com.creditx.hold.service.OutboxEventService;
-import java.math.BigDecimal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +43,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class HoldServiceImplTest {
@@ -35,9 +53,46 @@ class HoldServiceImplTest {
   @Mock
   private HoldRepository holdRepository;
 
+  @Mock
+  private HoldHistoryRepository holdHistoryRepository;
+
   @Mock
   private OutboxEventService outboxEventService;
 
+  @Mock
+  private HoldCache holdCache;
+
+  @Mock
+  private AccountExposureService accountExposureService;
+
+  @Mock
+  private ActiveHoldIndex activeHoldIndex;
+
+  // Accounts have no risk profile, so the default fraud limit applies
+  private static final FraudAmountCheck FRAUD_AMOUNT_CHECK = new FraudAmountCheck(
+      new AccountRiskProfileCache(mock(AccountRiskProfileRepository.class), 100, 60_000, 30_000,
+          60_000, new SimpleMeterRegistry()), 1_000);
+
+  @Spy
+  private HoldPreCheckRunner preCheckRunner = new HoldPreCheckRunner(List.of(FRAUD_AMOUNT_CHECK),
+      1000, new SimpleMeterRegistry(), new RejectionLogger(1000, new SimpleMeterRegistry()));
+
+  @Spy
+  private RiskScorer riskScorer = new RiskScorer(true,
+      new ConcentrationSketches(600_000, 6, 8, 100, 4, 1024, new SimpleMeterRegistry()),
+      FRAUD_AMOUNT_CHECK, new RejectionLogger(1000, new SimpleMeterRegistry()),
+      new double[]{1.0, 1.0, 1.0, 1.0}, 2.5, 10, 20, 500, new SimpleMeterRegistry());
+
+  @Mock
+  private ShardedHoldExpiry shardedHoldExpiry;
+
+  @Spy
+  private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(10,
+      1000, new SimpleMeterRegistry());
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @InjectMocks
   private HoldServiceImpl holdService;
 
@@ -48,7 +103,7 @@ class HoldServiceImplTest {
   @Test
   void shouldCreateNewHold() {
     // given
-    CreateHoldRequest request = createHoldRequest(123L, new BigDecimal("100.00"));
+    CreateHoldRequest request = createHoldRequest(123L, 10_000L);
     Hold savedHold = createHold(456L, 123L, HoldStatus.AUTHORIZED);
 
     when(holdRepository.findByTransactionId(123L)).thenReturn(Optional.empty());
@@ -60,22 +115,29 @@ class HoldServiceImplTest {
     // then
     ArgumentCaptor<Hold> holdCaptor = ArgumentCaptor.forClass(Hold.class);
     verify(holdRepository, times(1)).save(holdCaptor.capture());
-    verify(outboxEventService, times(1)).saveEvent(eq("hold.created"), eq(456L), anyString());
+    ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+    verify(outboxEventService, times(1)).saveEvent(eq("hold.created"), eq(456L),
+        payloadCaptor.capture());
+    verify(holdCache, times(1)).put(savedHold);
+    verify(accountExposureService, times(1)).holdsAuthorized(List.of(savedHold));
+    assertThat(payloadCaptor.getValue()).contains("\"amount\":100.00,\"currency\":\"USD\"");
 
     Hold capturedHold = holdCaptor.getValue();
     assertThat(capturedHold.getTransactionId()).isEqualTo(123L);
-    assertThat(capturedHold.getAmount()).isEqualTo(new BigDecimal("100.00"));
+    assertThat(capturedHold.getAmount()).isEqualTo(10_000L);
     assertThat(capturedHold.getStatus()).isEqualTo(HoldStatus.AUTHORIZED);
     assertThat(capturedHold.getExpiresAt()).isAfter(Instant.now().plus(6, ChronoUnit.DAYS));
 
     assertThat(response.getHoldId()).isEqualTo(456L);
     assertThat(response.getStatus()).isEqualTo(HoldStatus.AUTHORIZED);
+    verify(databaseConcurrencyLimiter, times(1)).call(any());
+    verify(transactionManager, times(1)).commit(any());
   }
 
   @Test
   void shouldReturnExistingHoldForIdempotency() {
     // given
-    CreateHoldRequest request = createHoldRequest(123L, new BigDecimal("100.00"));
+    CreateHoldRequest request = createHoldRequest(123L, 10_000L);
     Hold existingHold = createHold(456L, 123L, HoldStatus.AUTHORIZED);
 
     when(holdRepository.findByTransactionId(123L)).thenReturn(Optional.of(existingHold));
@@ -92,68 +154,92 @@ class HoldServiceImplTest {
     assertThat(response.getStatus()).isEqualTo(HoldStatus.AUTHORIZED);
   }
 
+  @Test
+  void shouldReturnArchivedHoldForIdempotency() {
+    // given
+    CreateHoldRequest request = createHoldRequest(123L, 10_000L);
+    HoldHistory archivedHold = HoldHistory.builder().holdId(456L).transactionId(123L)
+        .accountId(1L).amount(10_000L).status(HoldStatus.CAPTURED).build();
+
+    when(holdRepository.findByTransactionId(123L)).thenReturn(Optional.empty());
+    when(holdHistoryRepository.findByTransactionId(123L)).thenReturn(Optional.of(archivedHold));
+
+    // when
+    CreateHoldResponse response = holdService.createHold(request);
+
+    // then
+    verify(holdRepository, times(0)).save(any());
+    assertThat(response.getHoldId()).isEqualTo(456L);
+    assertThat(response.getStatus()).isEqualTo(HoldStatus.CAPTURED);
+  }
+
   @Test
   void shouldRejectHighAmountTransactionForFraud() {
     // given
     CreateHoldRequest request = createHoldRequest(123L,
-        new BigDecimal("15000.00")); // Exceeds fraud limit
+        1_500_000L); // Exceeds fraud limit
 
     when(holdRepository.findByTransactionId(123L)).thenReturn(Optional.empty());
 
-    // when & then
-    assertThrows(IllegalArgumentException.class, () -> {
-      holdService.createHold(request);
-    });
+    // when
+    CreateHoldResponse response = holdService.createHold(request);
 
+    // then
+    assertThat(response.isRejected()).isTrue();
+    assertThat(response.getReasonCode()).isEqualTo(FraudReason.AMOUNT_OVER_LIMIT);
+    assertThat(response.getHoldId()).isNull();
     verify(holdRepository, times(0)).save(any());
     verify(outboxEventService, times(0)).saveEvent(anyString(), any(), anyString());
   }
 
   @Test
-  void shouldExpireHolds() {
+  void shouldCreateHoldsInOneBatch() {
     // given
-    Instant currentTime = Instant.now();
-    Hold expiredHold1 = createHold(456L, 123L, HoldStatus.AUTHORIZED);
-    Hold expiredHold2 = createHold(789L, 456L, HoldStatus.AUTHORIZED);
-    List<Hold> expiredHolds = Arrays.asList(expiredHold1, expiredHold2);
+    CreateHoldRequest first = createHoldRequest(1L, 10_000L);
+    CreateHoldRequest existing = createHoldRequest(2L, 10_000L);
+    CreateHoldRequest fraudulent = createHoldRequest(3L, 1_500_000L);
+    CreateHoldRequest duplicate = createHoldRequest(1L, 10_000L);
 
-    when(holdRepository.findExpiredHolds(eq(HoldStatus.AUTHORIZED), any(Instant.class))).thenReturn(
-        expiredHolds);
-    when(holdRepository.save(any(Hold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(holdRepository.findByTransactionIdIn(List.of(1L, 2L, 3L))).thenReturn(
+        List.of(createHold(20L, 2L, HoldStatus.CAPTURED)));
+    when(holdRepository.saveAll(anyList())).thenReturn(
+        List.of(createHold(10L, 1L, HoldStatus.AUTHORIZED)));
 
     // when
-    holdService.expireHolds();
+    List<CreateHoldOutcome> outcomes = holdService.createHolds(
+        List.of(first, existing, fraudulent, duplicate));
 
     // then
-    verify(holdRepository, times(2)).save(any(Hold.class));
-    verify(outboxEventService, times(2)).saveEvent(eq("hold.expired"), any(), anyString());
-
-    assertThat(expiredHold1.getStatus()).isEqualTo(HoldStatus.EXPIRED);
-    assertThat(expiredHold2.getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    verify(holdRepository, times(0)).findByTransactionId(any());
+    verify(holdRepository, times(0)).save(any());
+    verify(outboxEventService, times(1)).saveEvent(eq("hold.created"), eq(10L), anyString());
+
+    assertThat(outcomes).hasSize(4);
+    assertThat(outcomes.get(0).response().getHoldId()).isEqualTo(10L);
+    assertThat(outcomes.get(1).response().getHoldId()).isEqualTo(20L);
+    assertThat(outcomes.get(1).response().getStatus()).isEqualTo(HoldStatus.CAPTURED);
+    assertThat(outcomes.get(2).response().getReasonCode()).isEqualTo(
+        FraudReason.AMOUNT_OVER_LIMIT);
+    assertThat(outcomes.get(3).response().getHoldId()).isEqualTo(10L);
   }
 
   @Test
-  void shouldHandleNoExpiredHolds() {
-    // given
-    when(holdRepository.findExpiredHolds(eq(HoldStatus.AUTHORIZED), any(Instant.class))).thenReturn(
-        List.of());
-
+  void shouldExpireHoldsThroughShardedSweep() {
     // when
     holdService.expireHolds();
 
     // then
-    verify(holdRepository, times(0)).save(any());
-    verify(outboxEventService, times(0)).saveEvent(anyString(), any(), anyString());
+    verify(shardedHoldExpiry, times(1)).expireAll();
   }
 
-  private CreateHoldRequest createHoldRequest(Long transactionId, BigDecimal amount) {
+  private CreateHoldRequest createHoldRequest(Long transactionId, long amount) {
     return CreateHoldRequest.builder().transactionId(transactionId).issuerAccountId(1L)
         .merchantAccountId(2L).amount(amount).currency("USD").build();
   }
 
   private Hold createHold(Long holdId, Long transactionId, HoldStatus status) {
     return Hold.builder().holdId(holdId).transactionId(transactionId).accountId(1L)
-        .amount(new BigDecimal("100.00")).status(status)
+        .amount(10_000L).status(status)
         .expiresAt(Instant.now().plus(7, ChronoUnit.DAYS)).build();
   }
 }
\ No newline at end of file
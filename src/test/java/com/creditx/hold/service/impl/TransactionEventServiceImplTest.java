@@ -4,18 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.creditx.hold.cache.HoldCache;
 import com.creditx.hold.dto.TransactionAuthorizedEvent;
 import com.creditx.hold.dto.TransactionFailedEvent;
 import com.creditx.hold.dto.TransactionPostedEvent;
+import com.creditx.hold.index.ActiveHoldIndex;
+import com.creditx.hold.index.IndexedHold;
 import com.creditx.hold.model.Hold;
 import com.creditx.hold.model.HoldStatus;
 import com.creditx.hold.repository.HoldRepository;
+import com.creditx.hold.service.AccountExposureService;
 import com.creditx.hold.service.ProcessedEventService;
 import com.creditx.hold.tracing.TransactionSpanTagger;
 import com.creditx.hold.util.EventIdGenerator;
@@ -38,6 +43,15 @@ class TransactionEventServiceImplTest {
   @Mock
   private ProcessedEventService processedEventService;
 
+  @Mock
+  private HoldCache holdCache;
+
+  @Mock
+  private AccountExposureService accountExposureService;
+
+  @Mock
+  private ActiveHoldIndex activeHoldIndex;
+
   @InjectMocks
   private TransactionEventServiceImpl transactionEventService;
 
@@ -74,6 +88,9 @@ class TransactionEventServiceImplTest {
 
       ArgumentCaptor<Hold> holdCaptor = ArgumentCaptor.forClass(Hold.class);
       verify(holdRepository, times(1)).save(holdCaptor.capture());
+      verify(holdCache, times(1)).put(holdCaptor.getValue());
+      verify(accountExposureService, times(1)).holdTransitioned(holdCaptor.getValue(),
+          HoldStatus.AUTHORIZED);
 
       Hold savedHold = holdCaptor.getValue();
       assertThat(savedHold.getStatus()).isEqualTo(HoldStatus.CAPTURED);
@@ -193,6 +210,9 @@ class TransactionEventServiceImplTest {
 
       ArgumentCaptor<Hold> holdCaptor = ArgumentCaptor.forClass(Hold.class);
       verify(holdRepository, times(1)).save(holdCaptor.capture());
+      verify(holdCache, times(1)).put(holdCaptor.getValue());
+      verify(accountExposureService, times(1)).holdTransitioned(holdCaptor.getValue(),
+          HoldStatus.AUTHORIZED);
 
       Hold savedHold = holdCaptor.getValue();
       assertThat(savedHold.getStatus()).isEqualTo(HoldStatus.CAPTURED);
@@ -259,6 +279,9 @@ class TransactionEventServiceImplTest {
 
       ArgumentCaptor<Hold> holdCaptor = ArgumentCaptor.forClass(Hold.class);
       verify(holdRepository, times(1)).save(holdCaptor.capture());
+      verify(holdCache, times(1)).put(holdCaptor.getValue());
+      verify(accountExposureService, times(1)).holdTransitioned(holdCaptor.getValue(),
+          HoldStatus.AUTHORIZED);
 
       Hold savedHold = holdCaptor.getValue();
       assertThat(savedHold.getStatus()).isEqualTo(HoldStatus.VOIDED);
@@ -380,6 +403,79 @@ class TransactionEventServiceImplTest {
     }
   }
 
+  @Test
+  void shouldCaptureIndexedHoldWithoutLoadingIt() {
+    // given
+    TransactionAuthorizedEvent event = createTransactionAuthorizedEvent(123L, 456L);
+    String eventId = "transaction.authorized-123";
+    String payloadHash = "hash123";
+    IndexedHold indexed = new IndexedHold(456L, 123L, 789L, 10_050L, 1_000L, HoldStatus.AUTHORIZED);
+
+    try (MockedStatic<EventIdGenerator> mockedGenerator = Mockito.mockStatic(
+        EventIdGenerator.class)) {
+      mockedGenerator.when(() -> EventIdGenerator.generateEventId("transaction.authorized", 123L))
+          .thenReturn(eventId);
+      mockedGenerator.when(() -> EventIdGenerator.generatePayloadHash(anyString()))
+          .thenReturn(payloadHash);
+
+      when(processedEventService.isEventProcessed(eventId)).thenReturn(false);
+      when(processedEventService.isPayloadProcessed(payloadHash)).thenReturn(false);
+      when(activeHoldIndex.get(456L)).thenReturn(Optional.of(indexed));
+      when(holdRepository.updateStatus(456L, HoldStatus.AUTHORIZED, HoldStatus.CAPTURED))
+          .thenReturn(1);
+
+      // when
+      transactionEventService.processTransactionAuthorized(event);
+
+      // then
+      verify(holdRepository, never()).findById(any());
+      ArgumentCaptor<Hold> holdCaptor = ArgumentCaptor.forClass(Hold.class);
+      verify(accountExposureService, times(1)).holdTransitioned(holdCaptor.capture(),
+          eq(HoldStatus.AUTHORIZED));
+      assertThat(holdCaptor.getValue().getAccountId()).isEqualTo(789L);
+      assertThat(holdCaptor.getValue().getAmount()).isEqualTo(10_050L);
+      assertThat(holdCaptor.getValue().getStatus()).isEqualTo(HoldStatus.CAPTURED);
+      verify(activeHoldIndex, times(1)).record(holdCaptor.getValue());
+      verify(holdCache, times(1)).evict(456L);
+      verify(holdCache, never()).put(any());
+      verify(processedEventService, times(1)).markEventAsProcessed(eventId, payloadHash, "SUCCESS");
+    }
+  }
+
+  @Test
+  void shouldFallBackToLoadingHoldWhenIndexIsStale() {
+    // given
+    TransactionFailedEvent event = createTransactionFailedEvent(123L, 456L);
+    String eventId = "transaction.failed-123";
+    String payloadHash = "hash123";
+    IndexedHold indexed = new IndexedHold(456L, 123L, 789L, 10_050L, 1_000L, HoldStatus.AUTHORIZED);
+    Hold hold = createHold(456L, HoldStatus.EXPIRED);
+
+    try (MockedStatic<EventIdGenerator> mockedGenerator = Mockito.mockStatic(
+        EventIdGenerator.class)) {
+      mockedGenerator.when(() -> EventIdGenerator.generateEventId("transaction.failed", 123L))
+          .thenReturn(eventId);
+      mockedGenerator.when(() -> EventIdGenerator.generatePayloadHash(anyString()))
+          .thenReturn(payloadHash);
+
+      when(processedEventService.isEventProcessed(eventId)).thenReturn(false);
+      when(processedEventService.isPayloadProcessed(payloadHash)).thenReturn(false);
+      when(activeHoldIndex.get(456L)).thenReturn(Optional.of(indexed));
+      when(holdRepository.updateStatus(456L, HoldStatus.AUTHORIZED, HoldStatus.VOIDED))
+          .thenReturn(0);
+      when(holdRepository.findById(456L)).thenReturn(Optional.of(hold));
+
+      // when
+      transactionEventService.processTransactionFailed(event);
+
+      // then
+      assertThat(hold.getStatus()).isEqualTo(HoldStatus.EXPIRED);
+      verify(holdRepository, never()).save(any());
+      verify(accountExposureService, never()).holdTransitioned(any(), any());
+      verify(processedEventService, times(1)).markEventAsProcessed(eventId, payloadHash, "SUCCESS");
+    }
+  }
+
   private TransactionAuthorizedEvent createTransactionAuthorizedEvent(Long transactionId,
       Long holdId) {
     TransactionAuthorizedEvent event = new TransactionAuthorizedEvent();
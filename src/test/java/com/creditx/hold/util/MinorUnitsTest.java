@@ -0,0 +1,68 @@
+package com.creditx.hold.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditx.hold.dto.CreateHoldRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MinorUnitsTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @ParameterizedTest
+  @CsvSource({"100, 10000", "100.5, 10050", "100.50, 10050", "0.05, 5", "-0.25, -25",
+      "1.500, 150", "1.005, 101", "-1.005, -101", "123.454, 12345", "0, 0", "92233720368547758.07, 9223372036854775807"})
+  void shouldParsePlainDecimals(String text, long expected) {
+    assertThat(MinorUnits.parse(text.toCharArray(), 0, text.length())).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "-", "1e2", "1.", ".5", "1,00", "abc",
+      "92233720368547758.08"})
+  void shouldRejectInvalidAmounts(String text) {
+    assertThatThrownBy(() -> MinorUnits.parse(text.toCharArray(), 0, text.length()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"10000, 100.00", "5, 0.05", "0, 0.00", "-25, -0.25", "123456789, 1234567.89",
+      "-9223372036854775808, -92233720368547758.08"})
+  void shouldFormatWithTwoDecimals(long minorUnits, String expected) {
+    char[] buffer = new char[24];
+    int length = MinorUnits.format(minorUnits, buffer);
+
+    assertThat(new String(buffer, 0, length)).isEqualTo(expected);
+    assertThat(MinorUnits.toDecimal(minorUnits).toPlainString()).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldConvertDecimals() {
+    assertThat(MinorUnits.fromDecimal(new BigDecimal("12.3"))).isEqualTo(1_230L);
+    assertThat(MinorUnits.fromDecimal(new BigDecimal("12.345"))).isEqualTo(1_235L);
+    assertThatThrownBy(() -> MinorUnits.fromDecimal(new BigDecimal("1E+30")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReadAndWriteRequestAmountAsDecimalJson() throws Exception {
+    // when
+    CreateHoldRequest request = objectMapper.readValue(
+        "{\"transactionId\":1,\"amount\":100.5}", CreateHoldRequest.class);
+    CreateHoldRequest quoted = objectMapper.readValue("{\"amount\":\"7\"}",
+        CreateHoldRequest.class);
+
+    // then
+    assertThat(request.getAmount()).isEqualTo(10_050L);
+    assertThat(quoted.getAmount()).isEqualTo(700L);
+    assertThat(objectMapper.writeValueAsString(request)).contains("\"amount\":100.50");
+    assertThatThrownBy(() -> objectMapper.readValue("{\"amount\":1e3}", CreateHoldRequest.class))
+        .isInstanceOf(InvalidFormatException.class);
+  }
+}